@@ -0,0 +1,88 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.agent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.softcake.cherry.core.base.CheckSwitch;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the load-time cost of the {@link PreCheckTransformer}.
+ *
+ * <p>{@code transformUnrelated} is the cost for the classes not referencing {@code PreCheck},
+ * i.e. nearly every class, which only pay for the byte search. {@code transformCaller} rewrites
+ * {@link CheckSwitch}, passed under another name as the transformer skips the classes of cherry,
+ * as a class with many call sites.
+ *
+ * @author softcake.org
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PreCheckTransformerBenchmark {
+
+    private final PreCheckTransformer transformer = new PreCheckTransformer(AgentOptions.parse(
+            null));
+
+    private final ClassLoader loader = PreCheckTransformerBenchmark.class.getClassLoader();
+
+    private byte[] caller;
+
+    private byte[] unrelated;
+
+    @Setup
+    public void setUp() throws IOException {
+
+        caller = classFile(CheckSwitch.class);
+        unrelated = classFile(String.class);
+    }
+
+    @Benchmark
+    public byte[] transformCaller() {
+
+        return transformer.transform(loader, "com/acme/CheckSwitch", null, null, caller);
+    }
+
+    @Benchmark
+    public byte[] transformUnrelated() {
+
+        return transformer.transform(loader, "java/lang/String", null, null, unrelated);
+    }
+
+    private static byte[] classFile(final Class<?> type) throws IOException {
+
+        try (InputStream in = type.getResourceAsStream(type.getSimpleName() + ".class")) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.agent;
+
+import org.softcake.cherry.core.base.CheckSwitch;
+
+/**
+ * The options of the {@link PreCheckAgent}, given as the agent argument.
+ *
+ * <p>The argument is a semicolon separated list of {@code name=value} pairs, e.g. {@code
+ * -javaagent:cherry-agent.jar=strip=com.acme.trusted...;inline=false}:
+ *
+ * <ul>
+ * <li>{@code strip} the classes whose checks are removed, see {@link ClassPatterns}. Defaults to
+ * the system property {@value CheckSwitch#DISABLED_PROPERTY}, so the agent strips the checks that
+ * {@link CheckSwitch} disables.</li>
+ * <li>{@code inline} whether {@code PreCheck.notNull(Object)} is inlined, defaults to
+ * {@code true}.</li>
+ * <li>{@code varargs} whether varargs calls are pointed at the fixed-arity overloads, defaults to
+ * {@code true}.</li>
+ * </ul>
+ *
+ * @author softcake.org
+ */
+final class AgentOptions {
+
+    private static final String STRIP = "strip";
+
+    private static final String INLINE = "inline";
+
+    private static final String VARARGS = "varargs";
+
+    private ClassPatterns strip = ClassPatterns.parse(
+            System.getProperty(CheckSwitch.DISABLED_PROPERTY));
+
+    private boolean inline = true;
+
+    private boolean varargs = true;
+
+    private AgentOptions() {
+
+    }
+
+    /**
+     * Parses the agent argument.
+     *
+     * @param arguments the agent argument, may be null
+     *
+     * @return the parsed options
+     *
+     * @throws IllegalArgumentException if an option is unknown or has no value
+     */
+    static AgentOptions parse(final String arguments) {
+
+        final AgentOptions options = new AgentOptions();
+
+        if (arguments == null) {
+            return options;
+        }
+
+        for (final String option : arguments.split(";")) {
+            if (!option.trim().isEmpty()) {
+                options.set(option.trim());
+            }
+        }
+
+        return options;
+    }
+
+    private void set(final String option) {
+
+        final int separator = option.indexOf('=');
+
+        if (separator < 0) {
+            throw new IllegalArgumentException("option '" + option + "' has no value!");
+        }
+
+        final String name = option.substring(0, separator).trim();
+        final String value = option.substring(separator + 1).trim();
+
+        switch (name) {
+            case STRIP:
+                strip = ClassPatterns.parse(value);
+                break;
+            case INLINE:
+                inline = Boolean.parseBoolean(value);
+                break;
+            case VARARGS:
+                varargs = Boolean.parseBoolean(value);
+                break;
+            default:
+                throw new IllegalArgumentException("unknown option '" + name + "'!");
+        }
+    }
+
+    ClassPatterns getStrip() {
+
+        return strip;
+    }
+
+    boolean isInline() {
+
+        return inline;
+    }
+
+    boolean isVarargs() {
+
+        return varargs;
+    }
+}
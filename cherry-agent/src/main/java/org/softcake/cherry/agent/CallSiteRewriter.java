@@ -0,0 +1,163 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.agent;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.commons.AnalyzerAdapter;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodNode;
+
+/**
+ * Rewrites the {@code PreCheck} call sites of a class file.
+ *
+ * <p>Stripping and the varargs rewrite work on the tree of each method. The inlining of {@code
+ * notNull(Object)} needs the stack map frame at each call site and runs while the class is
+ * written, behind an {@link AnalyzerAdapter}.
+ *
+ * @author softcake.org
+ */
+final class CallSiteRewriter {
+
+    /**
+     * The internal name of {@code PreCheck}.
+     */
+    static final String PRECHECK = "org/softcake/cherry/core/base/PreCheck";
+
+    /**
+     * Masks the major version out of the version of a {@link ClassNode}.
+     */
+    private static final int MAJOR_VERSION = 0xFFFF;
+
+    private final boolean strip;
+
+    private final boolean varargs;
+
+    private final boolean inline;
+
+    /**
+     * Creates a rewriter.
+     *
+     * @param strip   true to remove the checks
+     * @param varargs true to point varargs calls at the fixed-arity overloads
+     * @param inline  true to inline {@code notNull(Object)}
+     */
+    CallSiteRewriter(final boolean strip, final boolean varargs, final boolean inline) {
+
+        this.strip = strip;
+        this.varargs = varargs;
+        this.inline = inline;
+    }
+
+    /**
+     * Rewrites the call sites of a class.
+     *
+     * @param classfile the class file
+     *
+     * @return the rewritten class file or null if nothing was rewritten or the class file
+     * version is not supported
+     */
+    byte[] rewrite(final byte[] classfile) {
+
+        final ClassNode node = new ClassNode();
+
+        try {
+            new ClassReader(classfile).accept(node, ClassReader.EXPAND_FRAMES);
+        } catch (final IllegalArgumentException e) {
+            // unsupported class file version, leave the class as it is
+            return null;
+        }
+
+        final boolean inlining = inline && (node.version & MAJOR_VERSION) >= Opcodes.V1_7;
+        boolean changed = false;
+
+        for (final MethodNode method : node.methods) {
+            changed |= strip && CheckStripper.strip(method.instructions);
+            changed |= varargs && VarargsRewriter.rewrite(method.instructions);
+            changed |= inlining && containsNotNull(method);
+        }
+
+        return changed ? write(node, inlining) : null;
+    }
+
+    private static boolean containsNotNull(final MethodNode method) {
+
+        boolean found = false;
+
+        for (final AbstractInsnNode insn : method.instructions.toArray()) {
+            found |= NotNullInliner.isNotNull(insn);
+        }
+
+        return found;
+    }
+
+    private static byte[] write(final ClassNode node, final boolean inlining) {
+
+        final ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        node.accept(inlining ? new InliningClassVisitor(writer) : writer);
+
+        return writer.toByteArray();
+    }
+
+    /**
+     * Puts an {@link AnalyzerAdapter} and a {@link NotNullInliner} in front of each method.
+     */
+    private static final class InliningClassVisitor extends ClassVisitor {
+
+        private String owner;
+
+        private InliningClassVisitor(final ClassVisitor next) {
+
+            super(Opcodes.ASM9, next);
+        }
+
+        @Override
+        public void visit(final int version,
+                          final int access,
+                          final String name,
+                          final String signature,
+                          final String superName,
+                          final String[] interfaces) {
+
+            owner = name;
+            super.visit(version, access, name, signature, superName, interfaces);
+        }
+
+        @Override
+        public MethodVisitor visitMethod(final int access,
+                                         final String name,
+                                         final String desc,
+                                         final String signature,
+                                         final String[] exceptions) {
+
+            final MethodVisitor next = super.visitMethod(access, name, desc, signature, exceptions);
+            final NotNullInliner inliner = new NotNullInliner(next);
+            final AnalyzerAdapter analyzer = new AnalyzerAdapter(owner,
+                                                                 access,
+                                                                 name,
+                                                                 desc,
+                                                                 inliner);
+            inliner.setAnalyzer(analyzer);
+
+            return analyzer;
+        }
+    }
+}
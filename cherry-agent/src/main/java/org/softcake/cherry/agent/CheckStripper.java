@@ -0,0 +1,97 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.agent;
+
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+
+/**
+ * Removes the {@code PreCheck} calls of a method.
+ *
+ * <p>A check is a {@code PreCheck} method that returns nothing or its first argument, so a call
+ * is replaced by popping the arguments the check would have consumed. The arguments themselves
+ * are still evaluated. The {@code isParamNullOrEmpty} tests are kept, their result is used by the
+ * caller.
+ *
+ * @author softcake.org
+ */
+final class CheckStripper {
+
+    private static final String TEST_PREFIX = "is";
+
+    private CheckStripper() {
+
+    }
+
+    /**
+     * Removes the checks of a method.
+     *
+     * @param instructions the instructions of the method
+     *
+     * @return true if a check was removed, false otherwise
+     */
+    static boolean strip(final InsnList instructions) {
+
+        boolean stripped = false;
+
+        for (final AbstractInsnNode insn : instructions.toArray()) {
+            if (isCheck(insn)) {
+                instructions.insert(insn, pops(Type.getArgumentTypes(((MethodInsnNode) insn).desc),
+                                               Type.getReturnType(((MethodInsnNode) insn).desc)));
+                instructions.remove(insn);
+                stripped = true;
+            }
+        }
+
+        return stripped;
+    }
+
+    private static boolean isCheck(final AbstractInsnNode insn) {
+
+        if (insn.getOpcode() != Opcodes.INVOKESTATIC) {
+            return false;
+        }
+
+        final MethodInsnNode call = (MethodInsnNode) insn;
+        final Type[] arguments = Type.getArgumentTypes(call.desc);
+        final Type result = Type.getReturnType(call.desc);
+
+        return CallSiteRewriter.PRECHECK.equals(call.owner)
+               && !call.name.startsWith(TEST_PREFIX)
+               && arguments.length > 0
+               && (result.equals(Type.VOID_TYPE) || result.equals(arguments[0]));
+    }
+
+    /**
+     * Pops the arguments of a check but the first one if the check returns it.
+     */
+    private static InsnList pops(final Type[] arguments, final Type result) {
+
+        final InsnList pops = new InsnList();
+        final int last = result.equals(Type.VOID_TYPE) ? 0 : 1;
+
+        for (int index = arguments.length - 1; index >= last; index--) {
+            pops.add(new InsnNode(arguments[index].getSize() == 2 ? Opcodes.POP2 : Opcodes.POP));
+        }
+
+        return pops;
+    }
+}
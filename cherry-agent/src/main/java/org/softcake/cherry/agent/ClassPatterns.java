@@ -0,0 +1,103 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.agent;
+
+import java.util.Arrays;
+
+/**
+ * Matches class names against a comma separated list of patterns in the syntax of the {@code -da}
+ * option of the {@code java} launcher, the same syntax as the system property of {@code
+ * CheckSwitch}.
+ *
+ * <p>{@code com.acme.Foo} matches the class {@code com.acme.Foo} and its nested classes, {@code
+ * com.acme...} the package {@code com.acme} and all its subpackages and {@code ...} the unnamed
+ * package.
+ *
+ * @author softcake.org
+ */
+final class ClassPatterns {
+
+    private static final String PACKAGE_WILDCARD = "...";
+
+    private final String[] patterns;
+
+    private ClassPatterns(final String[] patterns) {
+
+        this.patterns = patterns;
+    }
+
+    /**
+     * Parses a comma separated list of patterns.
+     *
+     * @param patterns the patterns, may be null
+     *
+     * @return the parsed patterns
+     */
+    static ClassPatterns parse(final String patterns) {
+
+        final String[] parsed = patterns == null
+                                ? new String[0]
+                                : Arrays.stream(patterns.split(","))
+                                        .map(String::trim)
+                                        .filter(pattern -> !pattern.isEmpty())
+                                        .toArray(String[]::new);
+        return new ClassPatterns(parsed);
+    }
+
+    /**
+     * Tests whether no pattern was given.
+     *
+     * @return true if no class is matched, false otherwise
+     */
+    boolean isEmpty() {
+
+        return patterns.length == 0;
+    }
+
+    /**
+     * Tests whether a class is matched by one of the patterns.
+     *
+     * @param internalName the internal name of the class, e.g. {@code com/acme/Foo$Bar}
+     *
+     * @return true if the class is matched, false otherwise
+     */
+    boolean matches(final String internalName) {
+
+        final String className = internalName.replace('/', '.');
+        final int nested = className.indexOf('$');
+        final String topLevel = nested < 0 ? className : className.substring(0, nested);
+        final int lastDot = topLevel.lastIndexOf('.');
+        final String packageName = lastDot < 0 ? "" : topLevel.substring(0, lastDot);
+
+        return Arrays.stream(patterns).anyMatch(pattern -> matches(pattern, topLevel, packageName));
+    }
+
+    private static boolean matches(final String pattern,
+                                   final String topLevel,
+                                   final String packageName) {
+
+        if (!pattern.endsWith(PACKAGE_WILDCARD)) {
+            return pattern.equals(topLevel);
+        }
+
+        final String prefix = pattern.substring(0, pattern.length() - PACKAGE_WILDCARD.length());
+
+        return prefix.isEmpty()
+               ? packageName.isEmpty()
+               : packageName.equals(prefix) || packageName.startsWith(prefix + ".");
+    }
+}
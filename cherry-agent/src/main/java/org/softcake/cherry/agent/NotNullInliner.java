@@ -0,0 +1,146 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.agent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.commons.AnalyzerAdapter;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+
+/**
+ * Inlines the null test of {@code PreCheck.notNull(Object)}.
+ *
+ * <p>A call {@code PreCheck.notNull(obj)} becomes
+ *
+ * <pre>
+ *     DUP
+ *     IFNONNULL nonNull
+ *     INVOKESTATIC PreCheck.notNull(Object)
+ *   nonNull:
+ *     NOP
+ * </pre>
+ *
+ * <p>so {@code PreCheck} is only called, and throws, if {@code obj} is null. The frame at {@code
+ * nonNull} is the frame before the call, with the checked value typed as {@code Object}, the
+ * return type of the call. The {@code NOP} keeps it apart from a frame of the original code
+ * following the call. The frame is taken from the {@link AnalyzerAdapter} in front of this
+ * visitor, which sees the call before it updates its frame.
+ *
+ * @author softcake.org
+ */
+final class NotNullInliner extends MethodVisitor {
+
+    private static final String NOT_NULL = "notNull";
+
+    private static final String NOT_NULL_DESC = "(Ljava/lang/Object;)Ljava/lang/Object;";
+
+    private static final String OBJECT = "java/lang/Object";
+
+    private AnalyzerAdapter analyzer;
+
+    NotNullInliner(final MethodVisitor next) {
+
+        super(Opcodes.ASM9, next);
+    }
+
+    /**
+     * Tests whether an instruction is a call of {@code PreCheck.notNull(Object)}.
+     *
+     * @param insn the instruction
+     *
+     * @return true if the instruction is inlined, false otherwise
+     */
+    static boolean isNotNull(final AbstractInsnNode insn) {
+
+        return insn.getOpcode() == Opcodes.INVOKESTATIC
+               && isNotNull(((MethodInsnNode) insn).owner,
+                            ((MethodInsnNode) insn).name,
+                            ((MethodInsnNode) insn).desc);
+    }
+
+    private static boolean isNotNull(final String owner, final String name, final String desc) {
+
+        return CallSiteRewriter.PRECHECK.equals(owner)
+               && NOT_NULL.equals(name)
+               && NOT_NULL_DESC.equals(desc);
+    }
+
+    void setAnalyzer(final AnalyzerAdapter analyzer) {
+
+        this.analyzer = analyzer;
+    }
+
+    @Override
+    public void visitMethodInsn(final int opcode,
+                                final String owner,
+                                final String name,
+                                final String desc,
+                                final boolean itf) {
+
+        if (opcode == Opcodes.INVOKESTATIC
+            && isNotNull(owner, name, desc)
+            && analyzer.locals != null) {
+            inline(opcode, owner, name, desc, itf);
+        } else {
+            super.visitMethodInsn(opcode, owner, name, desc, itf);
+        }
+    }
+
+    private void inline(final int opcode,
+                        final String owner,
+                        final String name,
+                        final String desc,
+                        final boolean itf) {
+
+        final Object[] locals = frameTypes(analyzer.locals);
+        final List<Object> stack = new ArrayList<>(analyzer.stack);
+        stack.set(stack.size() - 1, OBJECT);
+        final Object[] stackTypes = frameTypes(stack);
+        final Label nonNull = new Label();
+
+        super.visitInsn(Opcodes.DUP);
+        super.visitJumpInsn(Opcodes.IFNONNULL, nonNull);
+        super.visitMethodInsn(opcode, owner, name, desc, itf);
+        super.visitLabel(nonNull);
+        super.visitFrame(Opcodes.F_NEW, locals.length, locals, stackTypes.length, stackTypes);
+        super.visitInsn(Opcodes.NOP);
+    }
+
+    /**
+     * Converts the types of the {@link AnalyzerAdapter}, where a {@code long} or {@code double}
+     * is followed by {@code TOP}, into the types of an expanded frame, where it is not.
+     */
+    private static Object[] frameTypes(final List<Object> types) {
+
+        final List<Object> frame = new ArrayList<>(types.size());
+        boolean secondWord = false;
+
+        for (final Object type : types) {
+            if (!secondWord) {
+                frame.add(type);
+            }
+            secondWord = !secondWord && (type == Opcodes.LONG || type == Opcodes.DOUBLE);
+        }
+
+        return frame.toArray();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.agent;
+
+import java.lang.instrument.Instrumentation;
+
+/**
+ * Java agent rewriting the {@code PreCheck} call sites of the classes loaded after it is
+ * installed.
+ *
+ * <p>The agent is installed with {@code -javaagent:cherry-agent-<version>-agent.jar[=options]},
+ * see {@link AgentOptions} for the options. It
+ *
+ * <ul>
+ * <li>removes the checks of the classes matched by the {@code strip} patterns, keeping the
+ * evaluation of their arguments,</li>
+ * <li>points varargs calls of {@code notNull}, {@code notNullOrEmpty} and {@code expression} with
+ * up to four message arguments at the fixed-arity overloads, so the argument array and the
+ * boxing of {@code char}, {@code int} and {@code long} arguments disappear, and</li>
+ * <li>inlines the null test of {@code PreCheck.notNull(Object)}, calling {@code PreCheck} only
+ * if the check fails.</li>
+ * </ul>
+ *
+ * <p>Inlined checks that pass are not seen by the {@code PreCheckSampler}. Failures still go
+ * through {@code PreCheck} and are counted by the {@code PreCheckStatistics}.
+ *
+ * @author softcake.org
+ */
+public final class PreCheckAgent {
+
+    private PreCheckAgent() {
+
+    }
+
+    /**
+     * Installs the agent before the main method is called.
+     *
+     * @param arguments       the agent options, may be null
+     * @param instrumentation the instrumentation of the JVM
+     */
+    public static void premain(final String arguments, final Instrumentation instrumentation) {
+
+        install(arguments, instrumentation);
+    }
+
+    /**
+     * Installs the agent into a running JVM. Classes already loaded are not rewritten.
+     *
+     * @param arguments       the agent options, may be null
+     * @param instrumentation the instrumentation of the JVM
+     */
+    public static void agentmain(final String arguments, final Instrumentation instrumentation) {
+
+        install(arguments, instrumentation);
+    }
+
+    private static void install(final String arguments, final Instrumentation instrumentation) {
+
+        instrumentation.addTransformer(new PreCheckTransformer(AgentOptions.parse(arguments)));
+    }
+}
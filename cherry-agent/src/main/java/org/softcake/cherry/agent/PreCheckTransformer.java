@@ -0,0 +1,205 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.agent;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.nio.charset.StandardCharsets;
+import java.security.ProtectionDomain;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Rewrites the {@code PreCheck} call sites of the classes referencing {@code PreCheck}.
+ *
+ * <p>Classes are only parsed if their constant pool contains the name of {@code PreCheck}, which
+ * is looked up without parsing the class, so the classes of the JDK and of most libraries pass
+ * through untouched. Classes of the bootstrap class loader and of cherry itself are never
+ * rewritten.
+ *
+ * @author softcake.org
+ */
+final class PreCheckTransformer implements ClassFileTransformer {
+
+    private static final byte[] PRECHECK_NAME = CallSiteRewriter.PRECHECK
+            .getBytes(StandardCharsets.UTF_8);
+
+    private static final String PRECHECK_CLASS = CallSiteRewriter.PRECHECK.replace('/', '.');
+
+    private static final String CHERRY_PACKAGE = "org/softcake/cherry/";
+
+    private static final int CONSTANT_POOL_COUNT = 8;
+
+    private static final int BYTE_MASK = 0xFF;
+
+    private static final int CONSTANT_UTF8 = 1;
+
+    private static final int CONSTANT_LONG = 5;
+
+    private static final int CONSTANT_DOUBLE = 6;
+
+    /**
+     * The length of the constant pool entries by tag, including the tag, 0 for unknown tags. The
+     * length of a UTF8 entry is the length of its header.
+     */
+    private static final int[] CONSTANT_LENGTHS = {0, 3, 0, 5, 5, 9, 9, 3, 3, 5, 5, 5, 5, 0, 0, 4,
+                                                   3, 5, 5, 3, 3};
+
+    private final AgentOptions options;
+
+    private final Map<ClassLoader, Boolean> fixedArity = Collections
+            .synchronizedMap(new WeakHashMap<>());
+
+    PreCheckTransformer(final AgentOptions options) {
+
+        this.options = options;
+    }
+
+    @Override
+    public byte[] transform(final ClassLoader loader,
+                            final String className,
+                            final Class<?> classBeingRedefined,
+                            final ProtectionDomain protectionDomain,
+                            final byte[] classfileBuffer) {
+
+        if (loader == null
+            || className == null
+            || className.startsWith(CHERRY_PACKAGE)
+            || !references(classfileBuffer)) {
+            return null;
+        }
+
+        return rewrite(loader, className, classfileBuffer);
+    }
+
+    /**
+     * Rewrites a class, a class the rewriter fails on is loaded as it is.
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private byte[] rewrite(final ClassLoader loader,
+                           final String className,
+                           final byte[] classfile) {
+
+        final boolean strip = options.getStrip().matches(className);
+        final boolean varargs = options.isVarargs() && hasFixedArity(loader);
+        byte[] rewritten;
+
+        try {
+            rewritten = new CallSiteRewriter(strip, varargs, options.isInline()).rewrite(classfile);
+        } catch (final RuntimeException e) {
+            rewritten = null;
+        }
+
+        return rewritten;
+    }
+
+    /**
+     * Tests whether the {@code PreCheck} visible to a class loader has the fixed-arity overloads
+     * the varargs calls are pointed at. Older versions of cherry-core do not.
+     *
+     * <p>The lock of the map is not held while {@code PreCheck} is loaded, as loading takes the
+     * lock of the class loader, which the thread calling the transformer may hold already.
+     */
+    private boolean hasFixedArity(final ClassLoader loader) {
+
+        Boolean found = fixedArity.get(loader);
+
+        if (found == null) {
+            found = lookupFixedArity(loader);
+            fixedArity.put(loader, found);
+        }
+
+        return found;
+    }
+
+    private static boolean lookupFixedArity(final ClassLoader loader) {
+
+        boolean found;
+
+        try {
+            Class.forName(PRECHECK_CLASS, false, loader)
+                 .getMethod("notNull", Object.class, String.class, int.class);
+            found = true;
+        } catch (final ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+            found = false;
+        }
+
+        return found;
+    }
+
+    /**
+     * Tests whether the constant pool of a class file contains the name of {@code PreCheck}.
+     *
+     * <p>Only the constant pool is walked and only the UTF8 constants of the right length are
+     * compared, so the cost does not depend on the size of the code. Constants of an unknown
+     * kind are reported as a reference, leaving the decision to the rewriter, a truncated class
+     * file is left to the JVM to reject.
+     *
+     * @param classfile the class file
+     *
+     * @return true if the class may call {@code PreCheck}, false otherwise
+     */
+    static boolean references(final byte[] classfile) {
+
+        boolean found = false;
+
+        try {
+            final int count = readUnsignedShort(classfile, CONSTANT_POOL_COUNT);
+            int offset = CONSTANT_POOL_COUNT + 2;
+            int index = 1;
+
+            while (index < count && !found) {
+                final int tag = classfile[offset] & BYTE_MASK;
+                final int length = tag < CONSTANT_LENGTHS.length ? CONSTANT_LENGTHS[tag] : 0;
+
+                if (tag == CONSTANT_UTF8) {
+                    found = isPreCheckName(classfile, offset);
+                    offset += length + readUnsignedShort(classfile, offset + 1);
+                } else {
+                    found = length == 0;
+                    offset += length;
+                }
+
+                index += tag == CONSTANT_LONG || tag == CONSTANT_DOUBLE ? 2 : 1;
+            }
+        } catch (final ArrayIndexOutOfBoundsException e) {
+            found = false;
+        }
+
+        return found;
+    }
+
+    private static boolean isPreCheckName(final byte[] classfile, final int offset) {
+
+        final int start = offset + CONSTANT_LENGTHS[CONSTANT_UTF8];
+        int index = 0;
+
+        if (readUnsignedShort(classfile, offset + 1) == PRECHECK_NAME.length) {
+            while (index < PRECHECK_NAME.length
+                   && classfile[start + index] == PRECHECK_NAME[index]) {
+                index++;
+            }
+        }
+
+        return index == PRECHECK_NAME.length;
+    }
+
+    private static int readUnsignedShort(final byte[] classfile, final int offset) {
+
+        return (classfile[offset] & BYTE_MASK) << Byte.SIZE | classfile[offset + 1] & BYTE_MASK;
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.agent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.TypeInsnNode;
+
+/**
+ * Points the varargs calls of {@code notNull}, {@code notNullOrEmpty} and {@code expression} at
+ * their fixed-arity overloads.
+ *
+ * <p>javac binds calls with up to four message arguments to the fixed-arity overloads itself, so
+ * varargs calls are left in classes compiled against a cherry-core without these overloads and
+ * where the arguments are passed as an explicit array.
+ *
+ * <p>Only the array built by javac for up to four arguments is recognized:
+ *
+ * <pre>
+ *     ICONST_n
+ *     ANEWARRAY java/lang/Object
+ *     DUP, ICONST_0, value, [boxing], AASTORE
+ *     ...
+ *     INVOKESTATIC PreCheck.notNull(Object, String, Object[])
+ * </pre>
+ *
+ * <p>where each value is pushed by a single instruction or a field of a local variable. The array
+ * construction is removed, leaving the values on the stack, so they are still evaluated in the
+ * same order. With up to two arguments the boxing of {@code char}, {@code int} and {@code long}
+ * values is removed as well, as there are overloads taking these types.
+ *
+ * @author softcake.org
+ */
+final class VarargsRewriter {
+
+    private static final int MAX_ARGUMENTS = 4;
+
+    private static final int MAX_PRIMITIVE_ARGUMENTS = 2;
+
+    private static final int NO_INT = Integer.MIN_VALUE;
+
+    private static final String OBJECT = "java/lang/Object";
+
+    private static final String VALUE_OF = "valueOf";
+
+    private static final Set<String> CHECKS = new HashSet<>(Arrays.asList("notNull",
+                                                                          "notNullOrEmpty",
+                                                                          "expression"));
+
+    private static final Set<String> VARARGS_DESCS = new HashSet<>(Arrays.asList(
+            "(Ljava/lang/Object;Ljava/lang/String;[Ljava/lang/Object;)Ljava/lang/Object;",
+            "(ZLjava/lang/String;[Ljava/lang/Object;)V"));
+
+    private static final Map<String, Type> UNBOXED = new HashMap<>();
+
+    static {
+        UNBOXED.put("java/lang/Character", Type.CHAR_TYPE);
+        UNBOXED.put("java/lang/Integer", Type.INT_TYPE);
+        UNBOXED.put("java/lang/Long", Type.LONG_TYPE);
+    }
+
+    private VarargsRewriter() {
+
+    }
+
+    /**
+     * Rewrites the varargs calls of a method.
+     *
+     * @param instructions the instructions of the method
+     *
+     * @return true if a call was rewritten, false otherwise
+     */
+    static boolean rewrite(final InsnList instructions) {
+
+        boolean rewritten = false;
+
+        for (final AbstractInsnNode insn : instructions.toArray()) {
+            if (insn.getOpcode() == Opcodes.ANEWARRAY
+                && OBJECT.equals(((TypeInsnNode) insn).desc)) {
+                final CallSite site = new CallSite();
+                if (site.match(insn)) {
+                    site.rewrite(instructions);
+                    rewritten = true;
+                }
+            }
+        }
+
+        return rewritten;
+    }
+
+    /**
+     * Returns the next instruction, skipping labels and line numbers but not frames.
+     */
+    private static AbstractInsnNode next(final AbstractInsnNode insn) {
+
+        AbstractInsnNode next = insn == null ? null : insn.getNext();
+
+        while (next != null && isPseudo(next)) {
+            next = next.getNext();
+        }
+
+        return next;
+    }
+
+    private static AbstractInsnNode previous(final AbstractInsnNode insn) {
+
+        AbstractInsnNode previous = insn.getPrevious();
+
+        while (previous != null && isPseudo(previous)) {
+            previous = previous.getPrevious();
+        }
+
+        return previous;
+    }
+
+    private static boolean isPseudo(final AbstractInsnNode insn) {
+
+        return insn.getType() == AbstractInsnNode.LABEL || insn.getType() == AbstractInsnNode.LINE;
+    }
+
+    private static boolean is(final AbstractInsnNode insn, final int opcode) {
+
+        return insn != null && insn.getOpcode() == opcode;
+    }
+
+    /**
+     * Returns the constant pushed by an {@code ICONST}, {@code BIPUSH} or {@code SIPUSH}
+     * instruction, or {@link #NO_INT} for any other instruction.
+     */
+    private static int intValue(final AbstractInsnNode insn) {
+
+        final int opcode = insn == null ? -1 : insn.getOpcode();
+        final int value;
+
+        if (opcode >= Opcodes.ICONST_M1 && opcode <= Opcodes.ICONST_5) {
+            value = opcode - Opcodes.ICONST_0;
+        } else if (opcode == Opcodes.BIPUSH || opcode == Opcodes.SIPUSH) {
+            value = ((IntInsnNode) insn).operand;
+        } else {
+            value = NO_INT;
+        }
+
+        return value;
+    }
+
+    /**
+     * Tests whether an instruction pushes a constant, a local variable or a static field.
+     */
+    private static boolean isSimpleValue(final AbstractInsnNode insn) {
+
+        final int opcode = insn == null ? -1 : insn.getOpcode();
+
+        return opcode >= Opcodes.ACONST_NULL && opcode <= Opcodes.ALOAD
+               || opcode == Opcodes.GETSTATIC;
+    }
+
+    private static boolean isFieldOfLocal(final AbstractInsnNode insn) {
+
+        return is(insn, Opcodes.ALOAD) && is(next(insn), Opcodes.GETFIELD);
+    }
+
+    private static boolean isBoxing(final AbstractInsnNode insn) {
+
+        if (!is(insn, Opcodes.INVOKESTATIC)) {
+            return false;
+        }
+
+        final MethodInsnNode call = (MethodInsnNode) insn;
+        final Type[] arguments = Type.getArgumentTypes(call.desc);
+
+        return VALUE_OF.equals(call.name)
+               && call.owner.startsWith("java/lang/")
+               && arguments.length == 1
+               && arguments[0].getSort() <= Type.DOUBLE
+               && Type.getReturnType(call.desc).getInternalName().equals(call.owner);
+    }
+
+    private static boolean isVarargsCall(final AbstractInsnNode insn) {
+
+        return is(insn, Opcodes.INVOKESTATIC)
+               && CallSiteRewriter.PRECHECK.equals(((MethodInsnNode) insn).owner)
+               && CHECKS.contains(((MethodInsnNode) insn).name)
+               && VARARGS_DESCS.contains(((MethodInsnNode) insn).desc);
+    }
+
+    /**
+     * The instructions of a varargs call that are removed and the parameter types of the
+     * fixed-arity overload the call is pointed at.
+     */
+    private static final class CallSite {
+
+        private final List<AbstractInsnNode> removed = new ArrayList<>();
+
+        private final List<Type> parameters = new ArrayList<>();
+
+        private AbstractInsnNode cursor;
+
+        boolean match(final AbstractInsnNode newArray) {
+
+            final AbstractInsnNode size = previous(newArray);
+            final int count = intValue(size);
+            final boolean unbox = count <= MAX_PRIMITIVE_ARGUMENTS;
+            boolean matched = count >= 1 && count <= MAX_ARGUMENTS;
+
+            removed.add(size);
+            removed.add(newArray);
+            cursor = next(newArray);
+
+            for (int index = 0; matched && index < count; index++) {
+                matched = matchElement(index, unbox);
+            }
+
+            return matched && isVarargsCall(cursor);
+        }
+
+        /**
+         * Matches {@code DUP, index, value, [boxing], AASTORE} at the cursor.
+         */
+        private boolean matchElement(final int index, final boolean unbox) {
+
+            final AbstractInsnNode dup = cursor;
+            final AbstractInsnNode position = next(dup);
+            final AbstractInsnNode value = next(position);
+            final AbstractInsnNode valueEnd = isFieldOfLocal(value) ? next(value) : value;
+            final AbstractInsnNode box = next(valueEnd);
+            final boolean boxed = isBoxing(box);
+            final AbstractInsnNode store = boxed ? next(box) : box;
+            final boolean matched = is(dup, Opcodes.DUP)
+                                    && intValue(position) == index
+                                    && isSimpleValue(value)
+                                    && is(store, Opcodes.AASTORE);
+
+            if (matched) {
+                final Type unboxed = unbox && boxed
+                                     ? UNBOXED.get(((MethodInsnNode) box).owner)
+                                     : null;
+
+                removed.add(dup);
+                removed.add(position);
+                removed.add(store);
+
+                if (unboxed == null) {
+                    parameters.add(Type.getObjectType(OBJECT));
+                } else {
+                    removed.add(box);
+                    parameters.add(unboxed);
+                }
+
+                cursor = next(store);
+            }
+
+            return matched;
+        }
+
+        void rewrite(final InsnList instructions) {
+
+            final MethodInsnNode call = (MethodInsnNode) cursor;
+            final Type[] arguments = Type.getArgumentTypes(call.desc);
+            final List<Type> fixed = new ArrayList<>(parameters.size() + 2);
+            fixed.add(arguments[0]);
+            fixed.add(arguments[1]);
+            fixed.addAll(parameters);
+
+            call.desc = Type.getMethodDescriptor(Type.getReturnType(call.desc),
+                                                 fixed.toArray(new Type[0]));
+            removed.forEach(instructions::remove);
+        }
+    }
+}
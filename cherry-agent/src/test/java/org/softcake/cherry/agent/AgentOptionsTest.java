@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.agent;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * AgentOptionsTest Class.
+ *
+ * @author softcake.org
+ */
+public class AgentOptionsTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void parse_null_defaults() {
+
+        AgentOptions options = AgentOptions.parse(null);
+
+        assertThat(options.isInline(), is(true));
+        assertThat(options.isVarargs(), is(true));
+    }
+
+    @Test
+    public void parse_options() {
+
+        AgentOptions options = AgentOptions.parse("strip=com.acme.trusted...; inline=false;"
+                                                  + "varargs=false;");
+
+        assertThat(options.getStrip().matches("com/acme/trusted/Ledger"), is(true));
+        assertThat(options.getStrip().matches("com/acme/Orders"), is(false));
+        assertThat(options.isInline(), is(false));
+        assertThat(options.isVarargs(), is(false));
+    }
+
+    @Test
+    public void parse_unknownOption_throwsException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("unknown option 'debug'!");
+
+        AgentOptions.parse("inline=false;debug=true");
+    }
+
+    @Test
+    public void parse_optionWithoutValue_throwsException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("option 'strip' has no value!");
+
+        AgentOptions.parse("strip");
+    }
+}
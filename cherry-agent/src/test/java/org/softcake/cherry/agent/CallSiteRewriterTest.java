@@ -0,0 +1,287 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.agent;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * CallSiteRewriterTest Class.
+ *
+ * @author softcake.org
+ */
+public class CallSiteRewriterTest {
+
+    private static final String ORDERS = "com/acme/Orders";
+
+    private static final String LEDGER = "com/acme/trusted/Ledger";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Map<String, byte[]> classFiles;
+
+    @Before
+    public void setUp() throws Exception {
+
+        Map<String, String> sources = new HashMap<>();
+        sources.put("com.acme.Orders", Corpus.ORDERS);
+        sources.put("com.acme.trusted.Ledger", Corpus.LEDGER);
+        classFiles = Corpus.compile(folder.newFolder("classes"), sources);
+    }
+
+    @Test
+    public void rewrite_varargsCalls_fixedArityOverloads() {
+
+        ClassNode orders = node(new CallSiteRewriter(false, true, false).rewrite(classFiles.get(
+                ORDERS)));
+
+        assertThat(opcodes(method(orders, "place")).contains(Opcodes.ANEWARRAY), is(false));
+        assertThat(preCheckDescs(method(orders, "place")), is(Arrays.asList(
+                "(Ljava/lang/Object;Ljava/lang/String;ILjava/lang/Object;)Ljava/lang/Object;",
+                "(ZLjava/lang/String;IJ)V",
+                "(Ljava/lang/Object;Ljava/lang/String;Ljava/lang/Object;Ljava/lang/Object;"
+                + "Ljava/lang/Object;)Ljava/lang/Object;",
+                "(ZLjava/lang/String;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;"
+                + "Ljava/lang/Object;)V")));
+        assertThat(preCheckDescs(method(orders, "label")), is(Arrays.asList(
+                "(Ljava/lang/Object;Ljava/lang/String;[Ljava/lang/Object;)Ljava/lang/Object;")));
+    }
+
+    @Test
+    public void rewrite_varargsCalls_sameMessages() throws Exception {
+
+        Class<?> original = orders(classFiles);
+        Class<?> rewritten = orders(Corpus.rewrite(classFiles, new CallSiteRewriter(false,
+                                                                                    true,
+                                                                                    false)));
+
+        assertSameBehavior(original, rewritten, "place", "item", 2, 3L, "item2");
+        assertSameBehavior(original, rewritten, "place", null, 2, 3L, "item 2 of bob missing");
+        assertSameBehavior(original, rewritten, "place", "item", 0, 3L, "quantity 0 of 3");
+        assertSameBehavior(original, rewritten, "place", "", 2, 3L, "bob 2 x");
+        assertSameBehavior(original, rewritten, "place", "item", 10, 3L, "item 10 3 bob");
+    }
+
+    @Test
+    public void rewrite_notNull_inlined() throws Exception {
+
+        ClassNode orders = node(new CallSiteRewriter(false, false, true).rewrite(classFiles.get(
+                ORDERS)));
+
+        assertThat(opcodes(method(orders, "describe")).contains(Opcodes.IFNONNULL), is(true));
+        assertThat(opcodes(method(orders, "of")).contains(Opcodes.IFNONNULL), is(true));
+        assertThat(opcodes(method(orders, "<init>")).contains(Opcodes.IFNONNULL), is(true));
+    }
+
+    @Test
+    public void rewrite_runningJdkClassFiles_rewritten() throws Exception {
+
+        Map<String, String> sources = new HashMap<>();
+        sources.put("com.acme.Orders", Corpus.ORDERS);
+        Map<String, byte[]> current = Corpus.compileForRunningJdk(folder.newFolder("current"),
+                                                                  sources);
+        CallSiteRewriter rewriter = new CallSiteRewriter(false, true, true);
+
+        assertThat(rewriter.rewrite(current.get(ORDERS)) == null, is(false));
+        assertThat(rewriter.rewrite(current.get(ORDERS + "$Priority")) == null, is(false));
+
+        Map<String, byte[]> rewrittenFiles = Corpus.rewrite(current, rewriter);
+        Method of = orders(rewrittenFiles).getMethod("of", String.class);
+        Class<?> priority = Corpus.load(rewrittenFiles).loadClass("com.acme.Orders$Priority");
+
+        assertThat(priority.getConstructor(String.class).newInstance("bob").getClass(),
+                   is((Object) priority));
+        assertFailure(() -> of.invoke(null, (Object) null), "must not be null!");
+    }
+
+    @Test
+    public void rewrite_notNull_sameBehavior() throws Exception {
+
+        CallSiteRewriter rewriter = new CallSiteRewriter(false, false, true);
+        Map<String, byte[]> rewrittenFiles = Corpus.rewrite(classFiles, rewriter);
+        Class<?> original = orders(classFiles);
+        Class<?> rewritten = orders(rewrittenFiles);
+        Method describe = rewritten.getMethod("describe", long.class, String.class, double.class);
+        Method of = rewritten.getMethod("of", String.class);
+        Class<?> priority = Corpus.load(rewrittenFiles).loadClass("com.acme.Orders$Priority");
+
+        assertThat(describe.invoke(null, 7L, "bob", 1.5),
+                   is(original.getMethod("describe", long.class, String.class, double.class)
+                              .invoke(null, 7L, "bob", 1.5)));
+        assertThat(of.invoke(null, "bob").getClass(), is((Object) rewritten));
+        assertThat(priority.getConstructor(String.class).newInstance("bob").getClass(),
+                   is((Object) priority));
+        assertFailure(() -> describe.invoke(null, 7L, null, 1.5), "must not be null!");
+        assertFailure(() -> of.invoke(null, (Object) null), "must not be null!");
+        assertFailure(() -> priority.getConstructor(String.class).newInstance((Object) null),
+                      "must not be null!");
+    }
+
+    @Test
+    public void rewrite_strip_argumentsStillEvaluated() throws Exception {
+
+        Class<?> original = Corpus.load(classFiles).loadClass("com.acme.trusted.Ledger");
+        Class<?> stripped = Corpus.load(Corpus.rewrite(classFiles, new CallSiteRewriter(true,
+                                                                                        true,
+                                                                                        true)))
+                                  .loadClass("com.acme.trusted.Ledger");
+        Method post = stripped.getMethod("post", String.class, long.class);
+
+        assertFailure(() -> original.getMethod("post", String.class, long.class)
+                                    .invoke(null, null, 0L), "account 0");
+        assertThat(post.invoke(null, null, 0L), is((Object) 0L));
+        assertThat(stripped.getMethod("evaluations").invoke(null), is((Object) 1));
+        assertThat(stripped.getMethod("blank", String.class).invoke(null, (Object) null),
+                   is((Object) true));
+    }
+
+    @Test
+    public void rewrite_strip_onlyTestsLeft() {
+
+        ClassNode ledger = node(new CallSiteRewriter(true, false, false).rewrite(classFiles.get(
+                LEDGER)));
+
+        assertThat(preCheckDescs(method(ledger, "post")).isEmpty(), is(true));
+        assertThat(preCheckDescs(method(ledger, "blank")),
+                   is(Arrays.asList("(Ljava/lang/String;)Z")));
+    }
+
+    @Test
+    public void rewrite_nothingToRewrite_null() {
+
+        assertThat(new CallSiteRewriter(false, false, false).rewrite(classFiles.get(LEDGER)),
+                   is(nullValue()));
+    }
+
+    @Test
+    public void rewrite_unsupportedVersion_null() {
+
+        byte[] classFile = {(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE, 0, 0, 0x7F, 0};
+
+        assertThat(new CallSiteRewriter(true, true, true).rewrite(classFile), is(nullValue()));
+    }
+
+    private static Class<?> orders(final Map<String, byte[]> classFiles)
+            throws ClassNotFoundException {
+
+        return Corpus.load(classFiles).loadClass("com.acme.Orders");
+    }
+
+    private static void assertSameBehavior(final Class<?> original,
+                                           final Class<?> rewritten,
+                                           final String name,
+                                           final Object... argumentsAndResult) throws Exception {
+
+        Object[] arguments = Arrays.copyOf(argumentsAndResult, argumentsAndResult.length - 1);
+        Object expected = argumentsAndResult[argumentsAndResult.length - 1];
+
+        assertThat(outcome(original, name, arguments), is(expected));
+        assertThat(outcome(rewritten, name, arguments), is(expected));
+    }
+
+    /**
+     * Invokes a method of {@code Orders} and returns its result or the message of the exception
+     * it threw.
+     */
+    private static Object outcome(final Class<?> orders,
+                                  final String name,
+                                  final Object... arguments) throws Exception {
+
+        Object instance = orders.getConstructor(String.class, long.class).newInstance("bob", 10L);
+        Method method = Stream.of(orders.getMethods())
+                              .filter(m -> m.getName().equals(name))
+                              .findFirst()
+                              .orElseThrow(NoSuchMethodException::new);
+        try {
+            return method.invoke(instance, arguments);
+        } catch (final InvocationTargetException e) {
+            return e.getCause().getMessage();
+        }
+    }
+
+    private static ClassNode node(final byte[] classFile) {
+
+        ClassNode node = new ClassNode();
+        new ClassReader(classFile).accept(node, 0);
+        return node;
+    }
+
+    private static MethodNode method(final ClassNode node, final String name) {
+
+        return node.methods.stream()
+                           .filter(method -> method.name.equals(name))
+                           .findFirst()
+                           .orElseThrow(IllegalArgumentException::new);
+    }
+
+    private static List<Integer> opcodes(final MethodNode method) {
+
+        return Stream.of(method.instructions.toArray())
+                     .map(AbstractInsnNode::getOpcode)
+                     .collect(Collectors.toList());
+    }
+
+    private static List<String> preCheckDescs(final MethodNode method) {
+
+        return Stream.of(method.instructions.toArray())
+                     .filter(insn -> insn instanceof MethodInsnNode)
+                     .map(insn -> (MethodInsnNode) insn)
+                     .filter(insn -> insn.owner.equals(CallSiteRewriter.PRECHECK))
+                     .map(insn -> insn.desc)
+                     .collect(Collectors.toList());
+    }
+
+    private static void assertFailure(final Invocation invocation, final String message)
+            throws ReflectiveOperationException {
+
+        try {
+            invocation.invoke();
+            fail("Expected an IllegalArgumentException to be thrown");
+        } catch (final InvocationTargetException e) {
+            assertThat(e.getCause() instanceof IllegalArgumentException, is(true));
+            assertThat(e.getCause().getMessage(), is(message));
+        }
+    }
+
+    private interface Invocation {
+
+        void invoke() throws ReflectiveOperationException;
+    }
+}
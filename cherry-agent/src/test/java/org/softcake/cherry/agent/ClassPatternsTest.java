@@ -0,0 +1,69 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.agent;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * ClassPatternsTest Class.
+ *
+ * @author softcake.org
+ */
+public class ClassPatternsTest {
+
+    @Test
+    public void matches_class_includingNestedClasses() {
+
+        ClassPatterns patterns = ClassPatterns.parse("com.acme.Orders");
+
+        assertThat(patterns.matches("com/acme/Orders"), is(true));
+        assertThat(patterns.matches("com/acme/Orders$Priority"), is(true));
+        assertThat(patterns.matches("com/acme/OrdersTest"), is(false));
+        assertThat(patterns.matches("com/acme/trusted/Orders"), is(false));
+    }
+
+    @Test
+    public void matches_package_includingSubpackages() {
+
+        ClassPatterns patterns = ClassPatterns.parse(" com.acme... , org.foo.Bar");
+
+        assertThat(patterns.matches("com/acme/Orders"), is(true));
+        assertThat(patterns.matches("com/acme/trusted/Ledger$Entry"), is(true));
+        assertThat(patterns.matches("com/acmetest/Orders"), is(false));
+        assertThat(patterns.matches("org/foo/Bar"), is(true));
+    }
+
+    @Test
+    public void matches_unnamedPackage() {
+
+        ClassPatterns patterns = ClassPatterns.parse("...");
+
+        assertThat(patterns.matches("Main"), is(true));
+        assertThat(patterns.matches("com/acme/Orders"), is(false));
+    }
+
+    @Test
+    public void parse_nullOrBlank_empty() {
+
+        assertThat(ClassPatterns.parse(null).isEmpty(), is(true));
+        assertThat(ClassPatterns.parse(" , ").isEmpty(), is(true));
+        assertThat(ClassPatterns.parse(" , ").matches("Main"), is(false));
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.agent;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+/**
+ * Classes calling {@code PreCheck}, compiled for Java 8 or for the running JDK and loaded with or
+ * without rewriting.
+ *
+ * <p>javac binds calls with up to four message arguments to the fixed-arity overloads, so the
+ * varargs calls of classes compiled against an older cherry-core are written with explicit
+ * arrays.
+ *
+ * @author softcake.org
+ */
+final class Corpus {
+
+    static final String ORDERS = String.join(
+            "\n",
+            "package com.acme;",
+            "import org.softcake.cherry.core.base.PreCheck;",
+            "public class Orders {",
+            "    private final String customer;",
+            "    private final long limit;",
+            "    public Orders(String customer, long limit) {",
+            "        this.customer = PreCheck.notNull(customer);",
+            "        this.limit = limit;",
+            "    }",
+            "    public static Orders of(String customer) {",
+            "        return new Orders(PreCheck.notNull(customer), 10L);",
+            "    }",
+            "    public static String describe(long id, String name, double amount) {",
+            "        long total = id * 2;",
+            "        return \"order \" + id + '/' + total + ' ' + PreCheck.notNull(name)",
+            "               + ' ' + amount;",
+            "    }",
+            "    public String place(String item, int quantity, long reference) {",
+            "        PreCheck.notNull(item,",
+            "                         \"item %s of %s missing\",",
+            "                         new Object[] {quantity, customer});",
+            "        PreCheck.expression(quantity > 0,",
+            "                            \"quantity %s of %s\",",
+            "                            new Object[] {quantity, reference});",
+            "        PreCheck.notNullOrEmpty(item,",
+            "                                \"%s %s %s\",",
+            "                                new Object[] {customer, quantity, 'x'});",
+            "        PreCheck.expression(quantity < limit,",
+            "                            \"%s %s %s %s\",",
+            "                            new Object[] {item, quantity, reference, customer});",
+            "        return item + quantity;",
+            "    }",
+            "    public String label(String item) {",
+            "        return PreCheck.notNull(item, \"%s\", new Object[] {item + customer});",
+            "    }",
+            "    public static class Priority extends Orders {",
+            "        public Priority(String customer) {",
+            "            super(PreCheck.notNull(customer), 1L);",
+            "        }",
+            "    }",
+            "}");
+
+    static final String LEDGER = String.join(
+            "\n",
+            "package com.acme.trusted;",
+            "import org.softcake.cherry.core.base.PreCheck;",
+            "public class Ledger {",
+            "    private static int evaluations;",
+            "    public static long post(String account, long amount) {",
+            "        PreCheck.notNull(account, \"account %s\", amount);",
+            "        PreCheck.expression(count(amount) > 0, \"amount %s\", amount);",
+            "        PreCheck.notNull(account);",
+            "        return PreCheck.inRange(amount, 1L, 100L);",
+            "    }",
+            "    public static boolean blank(String account) {",
+            "        return PreCheck.isParamNullOrEmpty(account);",
+            "    }",
+            "    public static int evaluations() {",
+            "        return evaluations;",
+            "    }",
+            "    private static long count(long amount) {",
+            "        evaluations++;",
+            "        return amount;",
+            "    }",
+            "}");
+
+    private Corpus() {
+
+    }
+
+    /**
+     * Compiles sources for Java 8.
+     *
+     * @param classes the output directory
+     * @param sources the sources by class name
+     *
+     * @return the class files by internal name
+     *
+     * @throws IOException if a class file cannot be read
+     */
+    static Map<String, byte[]> compile(final File classes, final Map<String, String> sources)
+            throws IOException {
+
+        return compile(classes, sources, Arrays.asList("-source", "1.8", "-target", "1.8"));
+    }
+
+    /**
+     * Compiles sources for the running JDK, e.g. with the nest attributes of Java 11 and later.
+     *
+     * @param classes the output directory
+     * @param sources the sources by class name
+     *
+     * @return the class files by internal name
+     *
+     * @throws IOException if a class file cannot be read
+     */
+    static Map<String, byte[]> compileForRunningJdk(final File classes,
+                                                    final Map<String, String> sources)
+            throws IOException {
+
+        return compile(classes, sources, Collections.emptyList());
+    }
+
+    private static Map<String, byte[]> compile(final File classes,
+                                               final Map<String, String> sources,
+                                               final List<String> target) throws IOException {
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<JavaFileObject> files = new ArrayList<>();
+        sources.forEach((className, source) -> files.add(new Source(className, source)));
+        List<String> options = new ArrayList<>(target);
+        options.addAll(Arrays.asList("-Xlint:-options",
+                                     "-proc:none",
+                                     "-classpath",
+                                     System.getProperty("java.class.path"),
+                                     "-d",
+                                     classes.getPath()));
+
+        if (!compiler.getTask(null, null, null, options, null, files).call()) {
+            throw new IllegalStateException("corpus does not compile");
+        }
+
+        Map<String, byte[]> classFiles = new HashMap<>();
+        try (Stream<Path> paths = Files.walk(classes.toPath())) {
+            for (Path path : paths.filter(p -> p.toString().endsWith(".class"))
+                                  .collect(Collectors.toList())) {
+                String name = classes.toPath().relativize(path).toString().replace('\\', '/');
+                classFiles.put(name.substring(0, name.length() - ".class".length()),
+                               Files.readAllBytes(path));
+            }
+        }
+        return classFiles;
+    }
+
+    /**
+     * Rewrites class files, keeping the class files that are not rewritten.
+     *
+     * @param classFiles the class files by internal name
+     * @param rewriter   the rewriter
+     *
+     * @return the rewritten class files by internal name
+     */
+    static Map<String, byte[]> rewrite(final Map<String, byte[]> classFiles,
+                                       final CallSiteRewriter rewriter) {
+
+        Map<String, byte[]> rewritten = new HashMap<>();
+        classFiles.forEach((name, classFile) -> {
+            byte[] result = rewriter.rewrite(classFile);
+            rewritten.put(name, result == null ? classFile : result);
+        });
+        return rewritten;
+    }
+
+    /**
+     * Defines class files in a new class loader.
+     *
+     * @param classFiles the class files by internal name
+     *
+     * @return the class loader
+     */
+    static ClassLoader load(final Map<String, byte[]> classFiles) {
+
+        return new ClassFileLoader(classFiles);
+    }
+
+    private static final class Source extends SimpleJavaFileObject {
+
+        private final String source;
+
+        private Source(final String className, final String source) {
+
+            super(URI.create("string:///" + className.replace('.', '/') + ".java"), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+
+            return source;
+        }
+    }
+
+    private static final class ClassFileLoader extends ClassLoader {
+
+        private final Map<String, byte[]> classFiles;
+
+        private ClassFileLoader(final Map<String, byte[]> classFiles) {
+
+            super(Corpus.class.getClassLoader());
+            this.classFiles = classFiles;
+        }
+
+        @Override
+        protected Class<?> findClass(final String name) throws ClassNotFoundException {
+
+            byte[] classFile = classFiles.get(name.replace('.', '/'));
+
+            if (classFile == null) {
+                throw new ClassNotFoundException(name);
+            }
+
+            return defineClass(name, classFile, 0, classFile.length);
+        }
+    }
+}
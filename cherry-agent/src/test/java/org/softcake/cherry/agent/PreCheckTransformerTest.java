@@ -0,0 +1,171 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.agent;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * PreCheckTransformerTest Class.
+ *
+ * @author softcake.org
+ */
+public class PreCheckTransformerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Map<String, byte[]> classFiles;
+
+    private ClassLoader loader;
+
+    @Before
+    public void setUp() throws Exception {
+
+        Map<String, String> sources = new HashMap<>();
+        sources.put("com.acme.Orders", Corpus.ORDERS);
+        sources.put("com.acme.trusted.Ledger", Corpus.LEDGER);
+        classFiles = Corpus.compile(folder.newFolder("classes"), sources);
+        loader = getClass().getClassLoader();
+    }
+
+    @Test
+    public void references_preCheckCallers() throws Exception {
+
+        assertThat(PreCheckTransformer.references(classFiles.get("com/acme/Orders")), is(true));
+        assertThat(PreCheckTransformer.references(classFile(String.class)), is(false));
+        assertThat(PreCheckTransformer.references(Arrays.copyOf(classFiles.get("com/acme/Orders"),
+                                                                 12)), is(false));
+    }
+
+    @Test
+    public void transform_unrelatedClass_null() throws Exception {
+
+        assertThat(transform(AgentOptions.parse(null), "java/lang/String", classFile(String.class)),
+                   is(nullValue()));
+    }
+
+    @Test
+    public void transform_bootstrapOrCherryClasses_null() {
+
+        PreCheckTransformer transformer = new PreCheckTransformer(AgentOptions.parse(null));
+        byte[] orders = classFiles.get("com/acme/Orders");
+
+        assertThat(transformer.transform(null, "com/acme/Orders", null, null, orders),
+                   is(nullValue()));
+        assertThat(transformer.transform(loader, "org/softcake/cherry/Orders", null, null, orders),
+                   is(nullValue()));
+        assertThat(transformer.transform(loader, null, null, null, orders), is(nullValue()));
+    }
+
+    @Test
+    public void transform_stripPatterns_onlyMatchingClassesStripped() throws Exception {
+
+        AgentOptions options = AgentOptions.parse("strip=com.acme.trusted...;inline=false");
+        Map<String, byte[]> transformed = new HashMap<>();
+        transformed.put("com/acme/Orders",
+                        transform(options, "com/acme/Orders", classFiles.get("com/acme/Orders")));
+        transformed.put("com/acme/trusted/Ledger",
+                        transform(options,
+                                  "com/acme/trusted/Ledger",
+                                  classFiles.get("com/acme/trusted/Ledger")));
+        ClassLoader classes = Corpus.load(transformed);
+
+        assertThat(classes.loadClass("com.acme.trusted.Ledger")
+                          .getMethod("post", String.class, long.class)
+                          .invoke(null, null, 0L), is((Object) 0L));
+        assertThat(transformed.get("com/acme/Orders"),
+                   is(not(classFiles.get("com/acme/Orders"))));
+        assertThat(classes.loadClass("com.acme.Orders")
+                          .getMethod("describe", long.class, String.class, double.class)
+                          .invoke(null, 1L, "bob", 0.5), is((Object) "order 1/2 bob 0.5"));
+    }
+
+    @Test
+    public void transform_allOptionsOff_null() {
+
+        AgentOptions options = AgentOptions.parse("strip=;inline=false;varargs=false");
+
+        assertThat(transform(options, "com/acme/Orders", classFiles.get("com/acme/Orders")),
+                   is(nullValue()));
+    }
+
+    @Test
+    public void transform_inline_rewritten() {
+
+        assertThat(transform(AgentOptions.parse("varargs=false"),
+                             "com/acme/Orders",
+                             classFiles.get("com/acme/Orders")), is(notNullValue()));
+    }
+
+    @Test
+    public void transform_runningJdkClassFile_rewritten() throws Exception {
+
+        Map<String, String> sources = new HashMap<>();
+        sources.put("com.acme.Orders", Corpus.ORDERS);
+        byte[] orders = Corpus.compileForRunningJdk(folder.newFolder("current"), sources)
+                              .get("com/acme/Orders");
+
+        assertThat(transform(AgentOptions.parse(null), "com/acme/Orders", orders),
+                   is(notNullValue()));
+    }
+
+    @Test
+    public void transform_corruptClassFile_null() {
+
+        byte[] orders = classFiles.get("com/acme/Orders").clone();
+        Arrays.fill(orders, orders.length / 2, orders.length, (byte) 0xFF);
+
+        assertThat(transform(AgentOptions.parse(null), "com/acme/Orders", orders),
+                   is(nullValue()));
+    }
+
+    private byte[] transform(final AgentOptions options,
+                             final String className,
+                             final byte[] classFile) {
+
+        return new PreCheckTransformer(options).transform(loader, className, null, null, classFile);
+    }
+
+    private static byte[] classFile(final Class<?> type) throws IOException {
+
+        try (InputStream in = type.getResourceAsStream(type.getSimpleName() + ".class")) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+}
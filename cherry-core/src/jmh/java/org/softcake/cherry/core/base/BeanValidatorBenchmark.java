@@ -0,0 +1,147 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.softcake.cherry.core.base;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.softcake.cherry.core.annotation.NotEmpty;
+import org.softcake.cherry.core.annotation.NotNull;
+import org.softcake.cherry.core.annotation.Positive;
+import org.softcake.cherry.core.annotation.Valid;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a {@link BeanValidator} with the same checks written out as {@link PreCheck} calls,
+ * on an order with a nested customer and three lines.
+ *
+ * <p>Neither is expected to allocate.
+ *
+ * @author softcake.org
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BeanValidatorBenchmark {
+
+    private static final BeanValidator<Order> ORDER = BeanValidator.of(Order.class);
+
+    private Order order = new Order("A-1",
+                                    new Customer("C-1", "Jane"),
+                                    Arrays.asList(new Line("S-1", 1),
+                                                  new Line("S-2", 2),
+                                                  new Line("S-3", 3)),
+                                    1);
+
+    @Benchmark
+    public Order beanValidator() {
+
+        return ORDER.validate(order);
+    }
+
+    @Benchmark
+    public Order preCheck() {
+
+        PreCheck.notNull(order);
+        PreCheck.parameterNotNull(order.id, "id");
+        PreCheck.parameterNotNull(order.customer, "customer");
+        PreCheck.parameterNotNullOrEmpty(order.customer.id, "id");
+        PreCheck.parameterNotNullOrEmpty(order.customer.name, "name");
+        PreCheck.parameterNotNullOrEmpty(order.lines, "lines");
+
+        for (int i = 0; i < order.lines.size(); i++) {
+            final Line line = order.lines.get(i);
+            PreCheck.parameterNotNull(line.sku, "sku");
+            PreCheck.positive(line.qty, "qty");
+        }
+
+        PreCheck.positive(order.priority, "priority");
+        return order;
+    }
+
+    /**
+     * The validated type.
+     */
+    public static final class Order {
+
+        @NotNull
+        private final String id;
+
+        @NotNull
+        @Valid
+        private final Customer customer;
+
+        @NotEmpty
+        @Valid
+        private final List<Line> lines;
+
+        @Positive
+        private final int priority;
+
+        Order(final String id,
+              final Customer customer,
+              final List<Line> lines,
+              final int priority) {
+
+            this.id = id;
+            this.customer = customer;
+            this.lines = lines;
+            this.priority = priority;
+        }
+    }
+
+    /**
+     * A nested type.
+     */
+    public static final class Customer {
+
+        @NotEmpty
+        private final String id;
+
+        @NotEmpty
+        private final String name;
+
+        Customer(final String id, final String name) {
+
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    /**
+     * A collection element type.
+     */
+    public static final class Line {
+
+        @NotNull
+        private final String sku;
+
+        @Positive
+        private final long qty;
+
+        Line(final String sku, final long qty) {
+
+            this.sku = sku;
+            this.qty = qty;
+        }
+    }
+}
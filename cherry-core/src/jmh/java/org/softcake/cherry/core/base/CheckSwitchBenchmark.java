@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares checks behind an enabled and a disabled {@link CheckSwitch} with no check at all.
+ *
+ * <p>The {@code disabled*} benchmarks are expected to match the {@code baseline*} benchmarks,
+ * the switches are held in {@code static final} fields just like at a real call site.
+ *
+ * @author softcake.org
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CheckSwitchBenchmark {
+
+    private static final CheckSwitch ENABLED = CheckSwitch.enabled();
+
+    private static final CheckSwitch DISABLED = CheckSwitch.disabled();
+
+    private String value = "value";
+
+    private int quantity = 42;
+
+    @Benchmark
+    public String baselineNotNullOrEmpty() {
+
+        return value;
+    }
+
+    @Benchmark
+    public String enabledNotNullOrEmpty() {
+
+        return ENABLED.notNullOrEmpty(value, "value");
+    }
+
+    @Benchmark
+    public String disabledNotNullOrEmpty() {
+
+        return DISABLED.notNullOrEmpty(value, "value");
+    }
+
+    @Benchmark
+    public int baselineInRange() {
+
+        return quantity;
+    }
+
+    @Benchmark
+    public int enabledInRange() {
+
+        return ENABLED.inRange(quantity, 1, 1000, "quantity");
+    }
+
+    @Benchmark
+    public int disabledInRange() {
+
+        return DISABLED.inRange(quantity, 1, 1000, "quantity");
+    }
+}
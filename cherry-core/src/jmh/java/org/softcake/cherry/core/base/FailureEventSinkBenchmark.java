@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.softcake.cherry.core.base;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Measures the failure path of {@link PreCheck#notNull(Object)} with a {@link FailureEventSink}.
+ *
+ * <p>The {@code sink} parameter selects no sink, a sink whose handler keeps up with the failures
+ * and a sink whose handler takes a millisecond per event, so that its buffer stays full and
+ * nearly every failure is dropped. The exceptions are stackless, so the cost of publishing is not
+ * hidden behind the stack trace capture. The failure path is expected to stay within a few tens
+ * of nanoseconds of the one without a sink, whether the buffer drains or is full. A full buffer is
+ * the cheaper case, a dropped failure neither allocates an event nor unparks the consumer.
+ *
+ * @author softcake.org
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class FailureEventSinkBenchmark {
+
+    private static final long SLOW_HANDLER_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Param({"none", "draining", "full"})
+    private String sink;
+
+    private FailureEventSink started;
+
+    private String nullValue;
+
+    @Setup
+    public void setUp() {
+
+        PreCheckException.setStackless(true);
+
+        if ("draining".equals(sink)) {
+            started = FailureEventSink.start(event -> { });
+
+        } else if ("full".equals(sink)) {
+            started = FailureEventSink.start(event -> LockSupport.parkNanos(SLOW_HANDLER_NANOS));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        if (started != null) {
+            started.close();
+        }
+
+        PreCheckException.setStackless(false);
+    }
+
+    @Benchmark
+    public RuntimeException notNull() {
+
+        try {
+            PreCheck.notNull(nullValue);
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+        throw new AssertionError();
+    }
+}
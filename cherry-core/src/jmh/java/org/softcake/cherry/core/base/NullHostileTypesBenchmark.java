@@ -0,0 +1,99 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compares {@link PreCheck#noNullElements(Iterable)} and {@link PreCheck#noNullElements(Map)} on
+ * mutable collections, which are scanned, with Guava's immutable ones, which are trusted through
+ * {@link NullHostileTypes}.
+ *
+ * <p>The immutable collections are expected to take constant time, independent of the size.
+ *
+ * @author softcake.org
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NullHostileTypesBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private List<Integer> arrayList;
+
+    private List<Integer> immutableList;
+
+    private Map<Integer, Integer> hashMap;
+
+    private Map<Integer, Integer> immutableMap;
+
+    @Setup
+    public void setUp() {
+
+        arrayList = IntStream.range(0, size)
+                             .boxed()
+                             .collect(Collectors.toCollection(ArrayList::new));
+        immutableList = ImmutableList.copyOf(arrayList);
+        hashMap = new HashMap<>();
+        arrayList.forEach(i -> hashMap.put(i, i));
+        immutableMap = ImmutableMap.copyOf(hashMap);
+    }
+
+    @Benchmark
+    public List<Integer> arrayList() {
+
+        return PreCheck.noNullElements(arrayList);
+    }
+
+    @Benchmark
+    public List<Integer> immutableList() {
+
+        return PreCheck.noNullElements(immutableList);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> hashMap() {
+
+        return PreCheck.noNullElements(hashMap);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> immutableMap() {
+
+        return PreCheck.noNullElements(immutableMap);
+    }
+}
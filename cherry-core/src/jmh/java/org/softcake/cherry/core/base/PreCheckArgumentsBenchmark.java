@@ -0,0 +1,155 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the allocation of the fixed-arity message overloads with the varargs overloads on the
+ * success path.
+ *
+ * <p>Escape analysis is disabled to model call sites where the check is not inlined, which is
+ * where the varargs array and the boxed arguments actually reach the heap. With {@code -prof gc}
+ * the fixed-arity benchmarks report {@code gc.alloc.rate.norm} of zero bytes per operation, as do
+ * the lazy message overloads with a non-capturing lambda.
+ *
+ * @author softcake.org
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(jvmArgsAppend = "-XX:-DoEscapeAnalysis")
+public class PreCheckArgumentsBenchmark {
+
+    private static final String TEMPLATE = "value %s must be lower than %s";
+
+    private String value = "value";
+
+    private int lower = 1000;
+
+    private long upper = 2000L;
+
+    private char separator = ';';
+
+    private double price = 9.99;
+
+    @Benchmark
+    public String notNullIntLong() {
+
+        return PreCheck.notNull(value, TEMPLATE, lower, upper);
+    }
+
+    @Benchmark
+    public String notNullVarargs() {
+
+        return PreCheck.notNull(value, TEMPLATE, new Object[]{lower, upper});
+    }
+
+    @Benchmark
+    public String notNullOrEmptyCharObject() {
+
+        return PreCheck.notNullOrEmpty(value, TEMPLATE, separator, value);
+    }
+
+    @Benchmark
+    public String notNullOrEmptyVarargs() {
+
+        return PreCheck.notNullOrEmpty(value, TEMPLATE, new Object[]{separator, value});
+    }
+
+    @Benchmark
+    public String notNullSupplier() {
+
+        return PreCheck.notNull(value, () -> "value must not be null!");
+    }
+
+    @Benchmark
+    public String notNullFunction() {
+
+        return PreCheck.notNull(value, bound -> "value must be lower than " + bound, value);
+    }
+
+    @Benchmark
+    public String notNullCapturingSupplier() {
+
+        return PreCheck.notNull(value, () -> "value must be lower than " + upper);
+    }
+
+    @Benchmark
+    public void expressionInt() {
+
+        PreCheck.expression(lower < upper, TEMPLATE, lower);
+    }
+
+    @Benchmark
+    public void expressionIntLong() {
+
+        PreCheck.expression(lower < upper, TEMPLATE, lower, upper);
+    }
+
+    @Benchmark
+    public void expressionFourObjects() {
+
+        PreCheck.expression(lower < upper, TEMPLATE, value, value, value, value);
+    }
+
+    @Benchmark
+    public void expressionVarargs() {
+
+        PreCheck.expression(lower < upper, TEMPLATE, new Object[]{lower, upper});
+    }
+
+    @Benchmark
+    public int positiveInt() {
+
+        return PreCheck.positive(lower, "lower");
+    }
+
+    @Benchmark
+    public int expressionPositiveInt() {
+
+        PreCheck.expression(lower > 0, "lower must be positive: %s", lower);
+        return lower;
+    }
+
+    @Benchmark
+    public long inRangeLong() {
+
+        return PreCheck.inRange(upper, 0L, 10_000L, "upper");
+    }
+
+    @Benchmark
+    public double finiteDouble() {
+
+        return PreCheck.finite(price, "price");
+    }
+
+    @Benchmark
+    public double expressionFiniteDouble() {
+
+        PreCheck.expression(Double.isFinite(price), "price must be finite: %s", price);
+        return price;
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import com.google.common.base.Preconditions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the success path of every public {@link PreCheck} method against Guava
+ * {@link Preconditions} and {@link Objects#requireNonNull(Object)}.
+ *
+ * <p>Run with {@code -prof gc} to get the allocation per call ({@code gc.alloc.rate.norm}).
+ *
+ * @author softcake.org
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PreCheckBenchmark {
+
+    private static final String MESSAGE = "value must not be null!";
+
+    private static final String TEMPLATE = "value %s must be lower than %s";
+
+    private String value = "value";
+
+    private StringBuilder charSequence = new StringBuilder("value");
+
+    private List<String> collection = new ArrayList<>();
+
+    private Map<String, String> map = new HashMap<>();
+
+    private int[] intArray = {1, 2, 3};
+
+    private Object[] objectArray = {"a", "b", "c"};
+
+    private Object untypedString = value;
+
+    private Object untypedIntArray = intArray;
+
+    private int lower = 1;
+
+    private int upper = 2;
+
+    private boolean valid = true;
+
+    public PreCheckBenchmark() {
+
+        collection.add(value);
+        map.put(value, value);
+    }
+
+    @Benchmark
+    public String notNull() {
+
+        return PreCheck.notNull(value);
+    }
+
+    @Benchmark
+    public String notNullWithMessage() {
+
+        return PreCheck.notNull(value, MESSAGE);
+    }
+
+    @Benchmark
+    public String notNullWithTemplate() {
+
+        return PreCheck.notNull(value, TEMPLATE, lower, upper);
+    }
+
+    @Benchmark
+    public String notNullOrEmpty() {
+
+        return PreCheck.notNullOrEmpty(value);
+    }
+
+    @Benchmark
+    public String notNullOrEmptyWithMessage() {
+
+        return PreCheck.notNullOrEmpty(value, MESSAGE);
+    }
+
+    @Benchmark
+    public String notNullOrEmptyWithTemplate() {
+
+        return PreCheck.notNullOrEmpty(value, TEMPLATE, lower, upper);
+    }
+
+    @Benchmark
+    public String parameterNotNull() {
+
+        return PreCheck.parameterNotNull(value, "value");
+    }
+
+    @Benchmark
+    public String parameterNotNullOrEmpty() {
+
+        return PreCheck.parameterNotNullOrEmpty(value, "value");
+    }
+
+    @Benchmark
+    public boolean isParamNullOrEmptyString() {
+
+        return PreCheck.isParamNullOrEmpty(value);
+    }
+
+    @Benchmark
+    public boolean isParamNullOrEmptyCharSequence() {
+
+        return PreCheck.isParamNullOrEmpty(charSequence);
+    }
+
+    @Benchmark
+    public boolean isParamNullOrEmptyCollection() {
+
+        return PreCheck.isParamNullOrEmpty(collection);
+    }
+
+    @Benchmark
+    public boolean isParamNullOrEmptyMap() {
+
+        return PreCheck.isParamNullOrEmpty(map);
+    }
+
+    @Benchmark
+    public boolean isParamNullOrEmptyIntArray() {
+
+        return PreCheck.isParamNullOrEmpty(intArray);
+    }
+
+    @Benchmark
+    public boolean isParamNullOrEmptyObjectArray() {
+
+        return PreCheck.isParamNullOrEmpty(objectArray);
+    }
+
+    @Benchmark
+    public boolean isParamNullOrEmptyUntypedString() {
+
+        return PreCheck.isParamNullOrEmpty(untypedString);
+    }
+
+    @Benchmark
+    public boolean isParamNullOrEmptyUntypedIntArray() {
+
+        return PreCheck.isParamNullOrEmpty(untypedIntArray);
+    }
+
+    @Benchmark
+    public void expression() {
+
+        PreCheck.expression(valid);
+    }
+
+    @Benchmark
+    public void expressionWithMessage() {
+
+        PreCheck.expression(valid, MESSAGE);
+    }
+
+    @Benchmark
+    public void expressionWithTemplate() {
+
+        PreCheck.expression(lower < upper, TEMPLATE, lower, upper);
+    }
+
+    @Benchmark
+    public String guavaCheckNotNull() {
+
+        return Preconditions.checkNotNull(value);
+    }
+
+    @Benchmark
+    public String guavaCheckNotNullWithMessage() {
+
+        return Preconditions.checkNotNull(value, MESSAGE);
+    }
+
+    @Benchmark
+    public String guavaCheckNotNullWithTemplate() {
+
+        return Preconditions.checkNotNull(value, TEMPLATE, lower, upper);
+    }
+
+    @Benchmark
+    public void guavaCheckArgument() {
+
+        Preconditions.checkArgument(valid);
+    }
+
+    @Benchmark
+    public void guavaCheckArgumentWithMessage() {
+
+        Preconditions.checkArgument(valid, MESSAGE);
+    }
+
+    @Benchmark
+    public void guavaCheckArgumentWithTemplate() {
+
+        Preconditions.checkArgument(lower < upper, TEMPLATE, lower, upper);
+    }
+
+    @Benchmark
+    public String objectsRequireNonNull() {
+
+        return Objects.requireNonNull(value);
+    }
+
+    @Benchmark
+    public String objectsRequireNonNullWithMessage() {
+
+        return Objects.requireNonNull(value, MESSAGE);
+    }
+}
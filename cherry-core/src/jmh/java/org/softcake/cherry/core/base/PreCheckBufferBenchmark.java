@@ -0,0 +1,109 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the UTF-8 well-formedness checks of {@link PreCheck} over arrays, heap buffers and
+ * direct buffers with decoding the bytes into a {@code String}, and the buffer bounds check with
+ * a hand written expression.
+ *
+ * <p>The checks are expected to allocate nothing per operation, run with {@code -prof gc}.
+ *
+ * @author softcake.org
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PreCheckBufferBenchmark {
+
+    private static final int SIZE = 4096;
+
+    @Param({"ascii", "mixed"})
+    private String content;
+
+    private byte[] bytes;
+
+    private ByteBuffer heap;
+
+    private ByteBuffer direct;
+
+    @Setup
+    public void setUp() {
+
+        final String text = "ascii".equals(content) ? "plain text " : "gr\u00fc\u00dfe \u20ac ";
+        final StringBuilder builder = new StringBuilder(SIZE);
+        while (builder.length() < SIZE) {
+            builder.append(text);
+        }
+        bytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+        heap = ByteBuffer.wrap(bytes);
+        direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+    }
+
+    @Benchmark
+    public int decode() {
+
+        return new String(bytes, StandardCharsets.UTF_8).length();
+    }
+
+    @Benchmark
+    public byte[] wellFormedUtf8Array() {
+
+        return PreCheck.wellFormedUtf8(bytes);
+    }
+
+    @Benchmark
+    public ByteBuffer wellFormedUtf8Heap() {
+
+        return PreCheck.wellFormedUtf8(heap);
+    }
+
+    @Benchmark
+    public ByteBuffer wellFormedUtf8Direct() {
+
+        return PreCheck.wellFormedUtf8(direct);
+    }
+
+    @Benchmark
+    public ByteBuffer hasRemaining() {
+
+        return PreCheck.hasRemaining(direct, Long.BYTES, "direct");
+    }
+
+    @Benchmark
+    public ByteBuffer expression() {
+
+        PreCheck.expression(direct.remaining() >= Long.BYTES,
+                            String.format("direct must have %d bytes remaining",
+                                          Long.BYTES));
+        return direct;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the element checks of {@link PreCheck} on batch sized payloads.
+ *
+ * @author softcake.org
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PreCheckElementsBenchmark {
+
+    @Param({"10", "10000"})
+    private int size;
+
+    private String[] array;
+
+    private List<String> arrayList;
+
+    private List<String> linkedList;
+
+    private Map<String, String> map;
+
+    @Setup
+    public void setUp() {
+
+        array = new String[size];
+        map = new HashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            array[i] = String.valueOf(i);
+            map.put(array[i], array[i]);
+        }
+
+        arrayList = new ArrayList<>(Arrays.asList(array));
+        linkedList = new LinkedList<>(arrayList);
+    }
+
+    @Benchmark
+    public Object[] noNullElementsArray() {
+
+        return PreCheck.noNullElements(array);
+    }
+
+    @Benchmark
+    public List<String> noNullElementsArrayList() {
+
+        return PreCheck.noNullElements(arrayList);
+    }
+
+    @Benchmark
+    public List<String> noNullElementsLinkedList() {
+
+        return PreCheck.noNullElements(linkedList);
+    }
+
+    @Benchmark
+    public Map<String, String> noNullElementsMap() {
+
+        return PreCheck.noNullElements(map);
+    }
+
+    @Benchmark
+    public Object[] noEmptyElementsArray() {
+
+        return PreCheck.noEmptyElements(array);
+    }
+
+    @Benchmark
+    public List<String> noEmptyElementsArrayList() {
+
+        return PreCheck.noEmptyElements(arrayList);
+    }
+
+    @Benchmark
+    public Object[] handWrittenLoopArray() {
+
+        for (final String element : array) {
+            PreCheck.notNull(element);
+        }
+
+        return array;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import com.google.common.base.Preconditions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the failure path of every public {@link PreCheck} method against Guava
+ * {@link Preconditions} and {@link Objects#requireNonNull(Object)}.
+ *
+ * <p>Each benchmark returns the caught exception so the JIT cannot eliminate the throw. The
+ * {@code stackless} parameter toggles {@link PreCheckException#setStackless(boolean)}.
+ *
+ * @author softcake.org
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PreCheckFailureBenchmark {
+
+    private static final String MESSAGE = "value must not be null!";
+
+    private static final String TEMPLATE = "value %s must be lower than %s";
+
+    private static final PreCheckException PREALLOCATED = PreCheckException.stackless(MESSAGE);
+
+    @Param({"false", "true"})
+    private boolean stackless;
+
+    private String nullValue;
+
+    private String emptyValue = "";
+
+    private int lower = 2;
+
+    private int upper = 1;
+
+    private boolean valid;
+
+    @Setup
+    public void setUp() {
+
+        PreCheckException.setStackless(stackless);
+    }
+
+    @Benchmark
+    public RuntimeException notNull() {
+
+        try {
+            PreCheck.notNull(nullValue);
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+        throw new AssertionError();
+    }
+
+    @Benchmark
+    public RuntimeException notNullWithMessage() {
+
+        try {
+            PreCheck.notNull(nullValue, MESSAGE);
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+        throw new AssertionError();
+    }
+
+    @Benchmark
+    public RuntimeException notNullWithTemplate() {
+
+        try {
+            PreCheck.notNull(nullValue, TEMPLATE, lower, upper);
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+        throw new AssertionError();
+    }
+
+    @Benchmark
+    public RuntimeException notNullOrEmpty() {
+
+        try {
+            PreCheck.notNullOrEmpty(emptyValue);
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+        throw new AssertionError();
+    }
+
+    @Benchmark
+    public RuntimeException notNullOrEmptyWithMessage() {
+
+        try {
+            PreCheck.notNullOrEmpty(emptyValue, MESSAGE);
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+        throw new AssertionError();
+    }
+
+    @Benchmark
+    public RuntimeException notNullOrEmptyWithTemplate() {
+
+        try {
+            PreCheck.notNullOrEmpty(emptyValue, TEMPLATE, lower, upper);
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+        throw new AssertionError();
+    }
+
+    @Benchmark
+    public RuntimeException parameterNotNull() {
+
+        try {
+            PreCheck.parameterNotNull(nullValue, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+        throw new AssertionError();
+    }
+
+    @Benchmark
+    public RuntimeException parameterNotNullOrEmpty() {
+
+        try {
+            PreCheck.parameterNotNullOrEmpty(emptyValue, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+        throw new AssertionError();
+    }
+
+    @Benchmark
+    public RuntimeException expression() {
+
+        try {
+            PreCheck.expression(valid);
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+        throw new AssertionError();
+    }
+
+    @Benchmark
+    public RuntimeException expressionWithMessage() {
+
+        try {
+            PreCheck.expression(valid, MESSAGE);
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+        throw new AssertionError();
+    }
+
+    @Benchmark
+    public RuntimeException expressionWithTemplate() {
+
+        try {
+            PreCheck.expression(lower < upper, TEMPLATE, lower, upper);
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+        throw new AssertionError();
+    }
+
+    @Benchmark
+    public RuntimeException expressionWithPreallocatedException() {
+
+        try {
+            PreCheck.expression(valid, PREALLOCATED);
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+        throw new AssertionError();
+    }
+
+    @Benchmark
+    public RuntimeException guavaCheckNotNullWithMessage() {
+
+        try {
+            Preconditions.checkNotNull(nullValue, MESSAGE);
+        } catch (final NullPointerException e) {
+            return e;
+        }
+        throw new AssertionError();
+    }
+
+    @Benchmark
+    public RuntimeException guavaCheckArgumentWithTemplate() {
+
+        try {
+            Preconditions.checkArgument(lower < upper, TEMPLATE, lower, upper);
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+        throw new AssertionError();
+    }
+
+    @Benchmark
+    public RuntimeException objectsRequireNonNullWithMessage() {
+
+        try {
+            Objects.requireNonNull(nullValue, MESSAGE);
+        } catch (final NullPointerException e) {
+            return e;
+        }
+        throw new AssertionError();
+    }
+}
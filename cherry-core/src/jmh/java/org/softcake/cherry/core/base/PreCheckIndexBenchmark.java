@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares summing an array with an index check per element against the unchecked loop.
+ *
+ * <p>On Java 9 and later, run against the multi-release jar, the checked loop is expected to be
+ * as fast as the unchecked one, as the JIT eliminates the check together with the bounds check
+ * of the array access.
+ *
+ * @author softcake.org
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PreCheckIndexBenchmark {
+
+    @Param({"1024"})
+    private int size;
+
+    private int[] values;
+
+    @Setup
+    public void setUp() {
+
+        values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+    }
+
+    @Benchmark
+    public long unchecked() {
+
+        final int[] array = values;
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += array[i];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long checkIndex() {
+
+        final int[] array = values;
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += array[PreCheck.checkIndex(i, array.length)];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long checkFromIndexSize() {
+
+        final int[] array = values;
+        final int from = PreCheck.checkFromIndexSize(0, size, array.length);
+        long sum = 0;
+        for (int i = from; i < from + size; i++) {
+            sum += array[i];
+        }
+        return sum;
+    }
+}
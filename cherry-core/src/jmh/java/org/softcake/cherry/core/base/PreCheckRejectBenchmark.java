@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of rejecting invalid input with the throwing checks of {@link
+ * PreCheck}, with and without stack traces, against the non-throwing {@code test*} methods.
+ *
+ * <p>Every input is rejected. The tests are expected to cost a branch, the throwing checks the
+ * allocation of an exception and its message and, unless stackless, the stack walk.
+ *
+ * @author softcake.org
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PreCheckRejectBenchmark {
+
+    @Param({"false", "true"})
+    private boolean stackless;
+
+    private final String name = "   ";
+
+    private final int length = -1;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        PreCheckException.setStackless(stackless);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        PreCheckException.setStackless(false);
+    }
+
+    @Benchmark
+    public boolean throwing() {
+
+        try {
+            PreCheck.notBlank(name, "name");
+            PreCheck.positive(length, "length");
+            return true;
+        } catch (final IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean testing() {
+
+        return PreCheck.testNotBlank(name) == Violation.NONE
+               && PreCheck.testPositive(length) == Violation.NONE;
+    }
+
+    @Benchmark
+    public PreCheckException testingPreallocated() {
+
+        final Violation violation = PreCheck.testNotBlank(name);
+
+        return violation == Violation.NONE ? null : violation.exception();
+    }
+}
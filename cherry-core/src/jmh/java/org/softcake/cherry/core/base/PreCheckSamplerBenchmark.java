@@ -0,0 +1,62 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the passing checks with the {@link PreCheckSampler} on, to be compared with the same
+ * benchmarks of {@link PreCheckBenchmark}, which run with the sampling off.
+ *
+ * @author softcake.org
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(jvmArgsAppend = "-D" + PreCheckSampler.ENABLED_PROPERTY + "=true")
+public class PreCheckSamplerBenchmark {
+
+    private String value = "value";
+
+    private boolean valid = true;
+
+    @Benchmark
+    public String notNull() {
+
+        return PreCheck.notNull(value);
+    }
+
+    @Benchmark
+    public String parameterNotNullOrEmpty() {
+
+        return PreCheck.parameterNotNullOrEmpty(value, "value");
+    }
+
+    @Benchmark
+    public void expression() {
+
+        PreCheck.expression(valid);
+    }
+}
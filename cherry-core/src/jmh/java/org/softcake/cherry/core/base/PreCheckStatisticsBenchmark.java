@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the failure counting of {@link PreCheckStatistics} with 64 threads failing the same
+ * check, as well as the passing check with the counting on.
+ *
+ * <p>The exceptions are stackless to isolate the cost of the counting.
+ *
+ * @author softcake.org
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(64)
+public class PreCheckStatisticsBenchmark {
+
+    @Param({"false", "true"})
+    private boolean statistics;
+
+    private String value = "value";
+
+    private String nullValue;
+
+    @Setup
+    public void setUp() {
+
+        PreCheckException.setStackless(true);
+        PreCheckStatistics.getInstance().setEnabled(statistics);
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        PreCheckException.setStackless(false);
+        PreCheckStatistics.getInstance().setEnabled(false);
+        PreCheckStatistics.getInstance().reset();
+    }
+
+    @Benchmark
+    public String parameterNotNullPass() {
+
+        return PreCheck.parameterNotNull(value, "value");
+    }
+
+    @Benchmark
+    public RuntimeException parameterNotNullFail() {
+
+        try {
+            PreCheck.parameterNotNull(nullValue, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+        throw new AssertionError();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Compares validating the elements of a stream with {@link PreCheckStreams} with an unvalidated
+ * stream and with validating in a {@code map} stage.
+ *
+ * <p>The allocation per operation of the validating streams is expected to be the one of the
+ * unvalidated stream plus a few objects, independent of the number of elements.
+ *
+ * @author softcake.org
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PreCheckStreamsBenchmark {
+
+    private static final int SIZE = 10_000;
+
+    private static final Validator<String> NOT_EMPTY = Validator.of(String.class)
+                                                                .check(s -> !s.isEmpty(),
+                                                                       "must not be empty");
+
+    private final String[] records = Stream.generate(() -> "record")
+                                           .limit(SIZE)
+                                           .toArray(String[]::new);
+
+    @Benchmark
+    public long baseline() {
+
+        return Stream.of(records).mapToLong(String::length).sum();
+    }
+
+    @Benchmark
+    public long validate() {
+
+        return PreCheckStreams.validate(Stream.of(records), NOT_EMPTY)
+                              .mapToLong(String::length)
+                              .sum();
+    }
+
+    @Benchmark
+    public long map() {
+
+        return Stream.of(records).map(NOT_EMPTY::validate).mapToLong(String::length).sum();
+    }
+
+    @Benchmark
+    public int collector() {
+
+        return Stream.of(records)
+                     .collect(PreCheckStreams.validating(NOT_EMPTY,
+                                                         Collectors.summingInt(String::length)));
+    }
+}
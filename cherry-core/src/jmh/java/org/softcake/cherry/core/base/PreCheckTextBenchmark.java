@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the string checks of {@link PreCheck} with the expressions they replace: {@code
+ * trim().isEmpty()} for blank strings and a pattern compiled per call for regular expressions.
+ *
+ * <p>{@code notBlank} and {@code ascii} are expected to allocate nothing per operation, {@code
+ * matches} only its {@code Matcher}, run with {@code -prof gc}.
+ *
+ * @author softcake.org
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PreCheckTextBenchmark {
+
+    private static final String IDENTIFIER_REGEX = "[A-Za-z][A-Za-z0-9-]*";
+
+    private final String header = "  X-Forwarded-For-Original-Client  ";
+
+    private final String identifier = "X-Forwarded-For-Original-Client";
+
+    @Benchmark
+    public boolean trimIsEmpty() {
+
+        return header.trim().isEmpty();
+    }
+
+    @Benchmark
+    public String notBlank() {
+
+        return PreCheck.notBlank(header, "header");
+    }
+
+    @Benchmark
+    public String ascii() {
+
+        return PreCheck.ascii(identifier, "identifier");
+    }
+
+    @Benchmark
+    public boolean compilePerCall() {
+
+        return Pattern.compile(IDENTIFIER_REGEX).matcher(identifier).matches();
+    }
+
+    @Benchmark
+    public String matches() {
+
+        return PreCheck.matches(identifier, IDENTIFIER_REGEX, "identifier");
+    }
+}
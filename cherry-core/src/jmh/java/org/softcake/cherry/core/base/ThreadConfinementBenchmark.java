@@ -0,0 +1,99 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Measures the cost of the concurrency checks on the write path of a single-writer buffer: an
+ * unchecked write, a write checked by {@link ThreadConfinement}, a write checked with {@link
+ * PreCheck#heldByCurrentThread(ReentrantLock)} and a write guarded by {@link PreCheck#state}.
+ *
+ * <p>The checked writes are expected to cost about a nanosecond more than the unchecked one.
+ *
+ * @author softcake.org
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ThreadConfinementBenchmark {
+
+    private static final int MASK = 1023;
+
+    private final long[] buffer = new long[MASK + 1];
+
+    private final ThreadConfinement confinement = ThreadConfinement.unclaimed();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+
+        lock.lock();
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        lock.unlock();
+    }
+
+    @Benchmark
+    public long baseline() {
+
+        return write();
+    }
+
+    @Benchmark
+    public long confined() {
+
+        confinement.check();
+        return write();
+    }
+
+    @Benchmark
+    public long heldByCurrentThread() {
+
+        PreCheck.heldByCurrentThread(lock);
+        return write();
+    }
+
+    @Benchmark
+    public long state() {
+
+        PreCheck.state(sequence >= 0, "sequence overflow");
+        return write();
+    }
+
+    private long write() {
+
+        buffer[(int) sequence & MASK] = sequence;
+        return sequence++;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares validating the same immutable request in four layers with a {@link Validator} against
+ * validating it once and looking it up in a {@link ValidationCache} in the other layers.
+ *
+ * @author softcake.org
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationCacheBenchmark {
+
+    private static final int LAYERS = 4;
+
+    private static final Validator<Request> REQUEST
+            = Validator.of(Request.class)
+                       .notNull(Request::getId, "id")
+                       .notEmpty(Request::getLines, "lines")
+                       .check(r -> r.getLines().stream().noneMatch(String::isEmpty),
+                              "lines must not be empty")
+                       .check(r -> r.getId().length() <= 36, "id too long");
+
+    private final ValidationCache cache = ValidationCache.create(1024);
+
+    private final Request request = new Request("4711",
+                                                Arrays.asList("a", "b", "c", "d", "e", "f"));
+
+    @Benchmark
+    public Request validator() {
+
+        for (int i = 0; i < LAYERS; i++) {
+            REQUEST.validate(request);
+        }
+        return request;
+    }
+
+    @Benchmark
+    public Request validationCache() {
+
+        for (int i = 0; i < LAYERS; i++) {
+            cache.validate(request, REQUEST);
+        }
+        return request;
+    }
+
+    private static final class Request {
+
+        private final String id;
+
+        private final List<String> lines;
+
+        private Request(final String id, final List<String> lines) {
+
+            this.id = id;
+            this.lines = lines;
+        }
+
+        String getId() {
+
+            return id;
+        }
+
+        List<String> getLines() {
+
+            return lines;
+        }
+    }
+}
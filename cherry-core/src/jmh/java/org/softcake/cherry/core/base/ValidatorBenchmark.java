@@ -0,0 +1,138 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a {@link Validator} with the same checks written out as {@link PreCheck} calls.
+ *
+ * <p>Several other validators with their own property accessors and conditions are run before
+ * the measurement, as in an application with many validators, so that a call site shared by the
+ * rules of all validators would see many lambdas. Neither is expected to allocate. {@code
+ * validator} pays for the invocation of the folded handle of the validator, which is not a
+ * constant to the JIT.
+ *
+ * @author softcake.org
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidatorBenchmark {
+
+    private static final Validator<Order> ORDER = Validator.of(Order.class)
+                                                           .notNull(Order::getId, "id")
+                                                           .notEmpty(Order::getLines, "lines")
+                                                           .check(o -> o.getQty() > 0,
+                                                                  "qty must be positive");
+
+    private static final int POLLUTION_ROUNDS = 100_000;
+
+    private static final Validator<Order> ORDER_BY_LINES = Validator.of(Order.class)
+                                                                    .notEmpty(Order::getLines)
+                                                                    .check(o -> o.getQty() < 100,
+                                                                           "qty too large");
+
+    private static final Validator<Order> ORDER_BY_ID = Validator.of(Order.class)
+                                                                 .notEmpty(Order::getId, "id")
+                                                                 .notNull(o -> o.getLines()
+                                                                                .get(0))
+                                                                 .check(o -> !o.getId()
+                                                                               .isEmpty(),
+                                                                        "empty id");
+
+    private static final Validator<String> TEXT = Validator.of(String.class)
+                                                           .notEmpty(String::trim, "text")
+                                                           .check(t -> t.length() < 10, "long");
+
+    private static final Validator<Integer> NUMBER = Validator.of(Integer.class)
+                                                              .notNull(Integer::toHexString)
+                                                              .check(n -> n > 0, "not positive");
+
+    private Order order = new Order("A-1", Collections.singletonList("line"), 1);
+
+    @Setup
+    public void setUp() {
+
+        for (int i = 0; i < POLLUTION_ROUNDS; i++) {
+            ORDER_BY_LINES.validate(order);
+            ORDER_BY_ID.validate(order);
+            TEXT.validate("text");
+            NUMBER.validate(i + 1);
+        }
+    }
+
+    @Benchmark
+    public Order validator() {
+
+        return ORDER.validate(order);
+    }
+
+    @Benchmark
+    public Order preCheck() {
+
+        PreCheck.notNull(order);
+        PreCheck.parameterNotNull(order.getId(), "id");
+        PreCheck.parameterNotNullOrEmpty(order.getLines(), "lines");
+        PreCheck.expression(order.getQty() > 0, "qty must be positive");
+        return order;
+    }
+
+    /**
+     * The validated type.
+     */
+    public static final class Order {
+
+        private final String id;
+
+        private final List<String> lines;
+
+        private final int qty;
+
+        Order(final String id, final List<String> lines, final int qty) {
+
+            this.id = id;
+            this.lines = lines;
+            this.qty = qty;
+        }
+
+        String getId() {
+
+            return id;
+        }
+
+        List<String> getLines() {
+
+            return lines;
+        }
+
+        int getQty() {
+
+            return qty;
+        }
+    }
+}
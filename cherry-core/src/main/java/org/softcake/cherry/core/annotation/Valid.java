@@ -0,0 +1,41 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.softcake.cherry.core.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The object referenced by the annotated field is validated as well.
+ *
+ * <p>If the field holds an {@link Iterable}, a {@link java.util.Map} or an object array, each
+ * element, respectively each value of the map, is validated instead. Null values and null elements
+ * are skipped, combine the annotation with {@link NotNull} or {@link NotEmpty} to reject them.
+ *
+ * <p>The annotation is read at runtime by {@link org.softcake.cherry.core.base.BeanValidator},
+ * an object that is reached again through a cycle of the object graph is not validated again.
+ *
+ * @author softcake.org
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Valid {
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * Parameter annotations that the cherry-processor turns into generated checks at compile time,
+ * and field annotations read at runtime by {@link org.softcake.cherry.core.base.BeanValidator}.
+ *
+ * <p>For the annotated parameters of a type, the cherry-processor generates a class {@code
+ * <Type>PreChecks} next to it, with a static method per annotated method or constructor that takes
+ * the same arguments and checks them, e.g. {@code OrderServicePreChecks.place(order, quantity)}.
+ * The emptiness test of {@link org.softcake.cherry.core.annotation.NotEmpty} is chosen from the
+ * declared type of the parameter.
+ *
+ * <p>The annotated fields of an object are checked by {@link
+ * org.softcake.cherry.core.base.BeanValidator#validate(Object)}, the emptiness test is chosen from
+ * the class of the field value.
+ *
+ * <p>Both report a failure with the message of the matching {@link
+ * org.softcake.cherry.core.base.PreCheck} parameter check, with the name of the parameter or field
+ * as parameter name.
+ *
+ * @author softcake.org
+ */
+
+package org.softcake.cherry.core.annotation;
@@ -0,0 +1,533 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.softcake.cherry.core.base;
+
+import org.softcake.cherry.core.annotation.NotEmpty;
+import org.softcake.cherry.core.annotation.NotNull;
+import org.softcake.cherry.core.annotation.Positive;
+import org.softcake.cherry.core.annotation.Valid;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Validates objects by the {@link NotNull}, {@link NotEmpty}, {@link Positive} and {@link Valid}
+ * annotations on their fields.
+ *
+ * <pre>{@code
+ * public final class Order {
+ *     @NotNull private final String id;
+ *     @NotEmpty @Valid private final List<Line> lines;
+ *     @Positive private final int qty;
+ *     ...
+ * }
+ *
+ * private static final BeanValidator<Order> ORDER = BeanValidator.of(Order.class);
+ *
+ * void add(Order order) {
+ *     orders.add(ORDER.validate(order));
+ * }
+ * }</pre>
+ *
+ * <p>A class is introspected once, on the first validation of one of its instances. The fields of
+ * the class and its superclasses are read in declaration order, superclass fields first, and each
+ * annotated field is bound to the {@link PreCheck} method of its annotation, so the exceptions
+ * and their messages are the same as those of {@link PreCheck#parameterNotNull(Object, String)},
+ * {@link PreCheck#parameterNotNullOrEmpty(Object, String)} and {@link PreCheck#positive(long,
+ * String)}, with the field name as parameter name. The checks of a class are folded into a single
+ * {@link MethodHandle} and cached in a {@link ClassValue}, so a validation neither reflects nor
+ * allocates, except for the iterator of a {@link Valid} collection that is not a random access
+ * list.
+ *
+ * <p>A value that is cascaded to, e.g. one of a subclass of the declared type or one of a type
+ * containing itself, is tracked by identity until the cascade returns, so a cycle of the object
+ * graph is validated once instead of endlessly.
+ *
+ * <p>The checks of a {@link Valid} field are folded into the handle as well, for the declared type
+ * of the field, the element type of an array or the type argument of an {@link Iterable} or the
+ * value type argument of a {@link Map}. A value of exactly that class is checked by the folded
+ * checks, any other value by the cached handle of its class.
+ *
+ * <p>An annotated field is made accessible by {@link Field#setAccessible(boolean)}, a class in a
+ * named module has to open its package to this module. A misplaced annotation, e.g. {@link
+ * Positive} on a reference field, fails with an {@link IllegalArgumentException} when the class is
+ * introspected.
+ *
+ * @param <T> the type of the validated objects
+ *
+ * @author softcake.org
+ */
+public final class BeanValidator<T> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodHandle NOT_NULL = findStatic(PreCheck.class,
+                                                            "parameterNotNull",
+                                                            Object.class,
+                                                            Object.class,
+                                                            String.class);
+
+    private static final MethodHandle NOT_EMPTY = findStatic(PreCheck.class,
+                                                             "parameterNotNullOrEmpty",
+                                                             Object.class,
+                                                             Object.class,
+                                                             String.class);
+
+    private static final MethodHandle POSITIVE_INT = findStatic(PreCheck.class,
+                                                                "positive",
+                                                                int.class,
+                                                                int.class,
+                                                                String.class);
+
+    private static final MethodHandle POSITIVE_LONG = findStatic(PreCheck.class,
+                                                                 "positive",
+                                                                 long.class,
+                                                                 long.class,
+                                                                 String.class);
+
+    private static final MethodHandle POSITIVE_DOUBLE = findStatic(PreCheck.class,
+                                                                   "positive",
+                                                                   double.class,
+                                                                   double.class,
+                                                                   String.class);
+
+    private static final MethodHandle IS_EXACTLY = findStatic(BeanValidator.class,
+                                                              "isExactly",
+                                                              boolean.class,
+                                                              Class.class,
+                                                              Object.class);
+
+    private static final MethodHandle EACH_ELEMENT = findStatic(BeanValidator.class,
+                                                                "eachElement",
+                                                                void.class,
+                                                                MethodHandle.class,
+                                                                Object.class);
+
+    private static final MethodHandle EACH_ARRAY_ELEMENT = findStatic(BeanValidator.class,
+                                                                      "eachArrayElement",
+                                                                      void.class,
+                                                                      MethodHandle.class,
+                                                                      Object.class);
+
+    private static final MethodHandle EACH_MAP_VALUE = findStatic(BeanValidator.class,
+                                                                  "eachMapValue",
+                                                                  void.class,
+                                                                  MethodHandle.class,
+                                                                  Object.class);
+
+    private static final MethodHandle CASCADE = findStatic(BeanValidator.class,
+                                                           "cascade",
+                                                           void.class,
+                                                           Object.class);
+
+    private static final ThreadLocal<Visited> VISITED = ThreadLocal.withInitial(Visited::new);
+
+    private static final ClassValue<BeanValidator<?>> VALIDATORS
+            = new ClassValue<BeanValidator<?>>() {
+        @Override
+        protected BeanValidator<?> computeValue(final Class<?> type) {
+
+            return new BeanValidator<>(type, chain(type, new HashSet<>()));
+        }
+    };
+
+    private final Class<T> type;
+
+    private final MethodHandle checks;
+
+    private BeanValidator(final Class<T> type, final MethodHandle checks) {
+
+        this.type = type;
+        this.checks = checks;
+    }
+
+    /**
+     * Returns the validator of the given class.
+     *
+     * <p>The validator is created once per class and shared, there is no need to keep it in a
+     * field other than to save the lookup.
+     *
+     * @param <T>  the type of the validated objects
+     * @param type the class of the validated objects
+     *
+     * @return the validator of the class
+     *
+     * @throws IllegalArgumentException if an annotation is not applicable to the field it is
+     *                                  placed on
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> BeanValidator<T> of(final Class<T> type) {
+
+        PreCheck.parameterNotNull(type, "type");
+
+        // the ClassValue maps each class to a validator of the same class
+        return (BeanValidator<T>) VALIDATORS.get(type);
+    }
+
+    /**
+     * Validates the given object.
+     *
+     * <p>An instance of a subclass is validated by the validator of its runtime class, so the
+     * annotated fields of the subclass are checked as well.
+     *
+     * @param obj the object to validate
+     *
+     * @return the validated object
+     *
+     * @throws PreCheckException        if the object is null or one of its checks fails
+     * @throws IllegalArgumentException if an annotation is not applicable to the field it is
+     *                                  placed on
+     */
+    public T validate(final T obj) {
+
+        PreCheck.notNull(obj);
+
+        final Class<?> runtimeType = obj.getClass();
+        final MethodHandle objChecks = runtimeType == type
+                                       ? checks
+                                       : VALIDATORS.get(runtimeType).checks;
+
+        CheckChain.invoke(objChecks, obj);
+        return obj;
+    }
+
+    @Override
+    public String toString() {
+
+        return "BeanValidator[" + type.getName() + "]";
+    }
+
+    // builds the checks of a class, (Object)void, enclosing holds the classes being built
+    private static MethodHandle chain(final Class<?> type, final Set<Class<?>> enclosing) {
+
+        final Deque<Class<?>> hierarchy = new ArrayDeque<>();
+
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            hierarchy.push(current);
+        }
+
+        enclosing.add(type);
+        final List<MethodHandle> fieldChecks = new ArrayList<>();
+
+        for (final Class<?> declaring : hierarchy) {
+            for (final Field field : declaring.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    addChecks(field, enclosing, fieldChecks);
+                }
+            }
+        }
+
+        enclosing.remove(type);
+        return CheckChain.sequence(fieldChecks);
+    }
+
+    private static void addChecks(final Field field,
+                                  final Set<Class<?>> enclosing,
+                                  final List<MethodHandle> fieldChecks) {
+
+        final String name = field.getName();
+
+        if (field.isAnnotationPresent(NotNull.class)) {
+            fieldChecks.add(check(field, bindName(reference(field, NotNull.class, NOT_NULL),
+                                                  name)));
+        }
+
+        if (field.isAnnotationPresent(NotEmpty.class)) {
+            fieldChecks.add(check(field, bindName(reference(field, NotEmpty.class, NOT_EMPTY),
+                                                  name)));
+        }
+
+        if (field.isAnnotationPresent(Positive.class)) {
+            fieldChecks.add(check(field, bindName(positive(field), name)));
+        }
+
+        if (field.isAnnotationPresent(Valid.class)) {
+            fieldChecks.add(check(field, reference(field, Valid.class, valid(field, enclosing))));
+        }
+    }
+
+    private static MethodHandle reference(final Field field,
+                                          final Class<?> annotation,
+                                          final MethodHandle valueCheck) {
+
+        if (field.getType().isPrimitive()) {
+            throw notApplicable(field, annotation);
+        }
+
+        return valueCheck;
+    }
+
+    private static MethodHandle positive(final Field field) {
+
+        final Class<?> fieldType = field.getType();
+        final MethodHandle valueCheck;
+
+        if (fieldType == int.class || fieldType == short.class || fieldType == byte.class) {
+            valueCheck = POSITIVE_INT;
+
+        } else if (fieldType == long.class) {
+            valueCheck = POSITIVE_LONG;
+
+        } else if (fieldType == double.class || fieldType == float.class) {
+            valueCheck = POSITIVE_DOUBLE;
+
+        } else {
+            throw notApplicable(field, Positive.class);
+        }
+
+        return valueCheck;
+    }
+
+    private static MethodHandle valid(final Field field, final Set<Class<?>> enclosing) {
+
+        final Class<?> fieldType = field.getType();
+        final MethodHandle valueCheck;
+
+        if (fieldType.isPrimitive()) {
+            // rejected by the caller
+            valueCheck = CheckChain.NONE;
+
+        } else if (fieldType.isArray()) {
+            valueCheck = fieldType.getComponentType().isPrimitive()
+                         ? CheckChain.NONE
+                         : elements(EACH_ARRAY_ELEMENT, fieldType.getComponentType(), enclosing);
+
+        } else if (Map.class.isAssignableFrom(fieldType)) {
+            valueCheck = elements(EACH_MAP_VALUE, typeArgument(field, 1), enclosing);
+
+        } else if (Iterable.class.isAssignableFrom(fieldType)) {
+            valueCheck = elements(EACH_ELEMENT, typeArgument(field, 0), enclosing);
+
+        } else {
+            valueCheck = nested(fieldType, enclosing);
+        }
+
+        return valueCheck;
+    }
+
+    private static MethodHandle elements(final MethodHandle each,
+                                         final Class<?> elementType,
+                                         final Set<Class<?>> enclosing) {
+
+        return MethodHandles.insertArguments(each, 0, nested(elementType, enclosing));
+    }
+
+    // values of exactly the declared type are checked by its folded checks, others are cascaded,
+    // the checks of an enclosing type are not folded again as they would recurse endlessly
+    private static MethodHandle nested(final Class<?> declaredType, final Set<Class<?>> enclosing) {
+
+        final MethodHandle valueCheck;
+
+        if (declaredType == Object.class || enclosing.contains(declaredType)
+            || declaredType.isInterface() || Modifier.isAbstract(declaredType.getModifiers())) {
+            valueCheck = CASCADE;
+
+        } else {
+            valueCheck = MethodHandles.guardWithTest(IS_EXACTLY.bindTo(declaredType),
+                                                     chain(declaredType, enclosing),
+                                                     CASCADE);
+        }
+
+        return valueCheck;
+    }
+
+    // the type argument of the declared type of a field, Object for a type variable or wildcard
+    private static Class<?> typeArgument(final Field field, final int index) {
+
+        final Type genericType = field.getGenericType();
+        Class<?> argument = Object.class;
+
+        if (genericType instanceof ParameterizedType) {
+            final Type[] arguments = ((ParameterizedType) genericType).getActualTypeArguments();
+
+            if (arguments.length > index && arguments[index] instanceof Class) {
+                argument = (Class<?>) arguments[index];
+            }
+        }
+
+        return argument;
+    }
+
+    private static MethodHandle bindName(final MethodHandle preCheck, final String name) {
+
+        return MethodHandles.insertArguments(preCheck, 1, name);
+    }
+
+    // adapts a check of the field value to a check of the object, (Object)void
+    private static MethodHandle check(final Field field, final MethodHandle valueCheck) {
+
+        final MethodHandle getter;
+
+        try {
+            field.setAccessible(true);
+            getter = LOOKUP.unreflectGetter(field);
+        } catch (final IllegalAccessException e) {
+            throw new IllegalStateException("Field '" + field.getName() + "' is not accessible", e);
+        }
+
+        final MethodHandle typedCheck = valueCheck.asType(MethodType.methodType(void.class,
+                                                                                field.getType()));
+        return MethodHandles.filterArguments(typedCheck,
+                                             0,
+                                             getter.asType(MethodType.methodType(field.getType(),
+                                                                                 Object.class)));
+    }
+
+    private static IllegalArgumentException notApplicable(final Field field,
+                                                          final Class<?> annotation) {
+
+        return new IllegalArgumentException(String.format(
+                "@%s is not applicable to the field '%s' of type %s in %s!",
+                annotation.getSimpleName(),
+                field.getName(),
+                field.getType().getName(),
+                field.getDeclaringClass().getName()));
+    }
+
+    private static MethodHandle findStatic(final Class<?> owner,
+                                           final String name,
+                                           final Class<?> returnType,
+                                           final Class<?>... parameterTypes) {
+
+        return CheckChain.findStatic(LOOKUP, owner, name, returnType, parameterTypes);
+    }
+
+    private static boolean isExactly(final Class<?> type, final Object value) {
+
+        return value != null && value.getClass() == type;
+    }
+
+    @SuppressWarnings("checkstyle:IllegalThrows")
+    // the element checks are bound by the enclosing handle and invoked like folded checks
+    private static void eachElement(final MethodHandle elementCheck, final Object value)
+            throws Throwable {
+
+        if (value instanceof List && value instanceof RandomAccess) {
+            final List<?> list = (List<?>) value;
+
+            for (int i = 0; i < list.size(); i++) {
+                elementCheck.invokeExact(list.get(i));
+            }
+
+        } else if (value != null) {
+            for (final Object element : (Iterable<?>) value) {
+                elementCheck.invokeExact(element);
+            }
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalThrows")
+    private static void eachArrayElement(final MethodHandle elementCheck, final Object value)
+            throws Throwable {
+
+        if (value != null) {
+            for (final Object element : (Object[]) value) {
+                elementCheck.invokeExact(element);
+            }
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalThrows")
+    private static void eachMapValue(final MethodHandle valueCheck, final Object value)
+            throws Throwable {
+
+        if (value != null) {
+            for (final Object element : ((Map<?, ?>) value).values()) {
+                valueCheck.invokeExact(element);
+            }
+        }
+    }
+
+    // validates a value of a class other than the declared one, or its elements, unless the value
+    // is validated already. A cycle of the object graph always passes here, as the folded checks
+    // of a type do not contain themselves.
+    @SuppressWarnings("checkstyle:IllegalThrows")
+    private static void cascade(final Object value) throws Throwable {
+
+        final Visited visited = VISITED.get();
+
+        if (value != null && visited.enter(value)) {
+            try {
+                cascadeUnvisited(value);
+            } finally {
+                visited.leave();
+            }
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalThrows")
+    private static void cascadeUnvisited(final Object value) throws Throwable {
+
+        if (value instanceof Iterable) {
+            eachElement(CASCADE, value);
+
+        } else if (value instanceof Map) {
+            eachMapValue(CASCADE, value);
+
+        } else if (value instanceof Object[]) {
+            eachArrayElement(CASCADE, value);
+
+        } else {
+            VALIDATORS.get(value.getClass()).checks.invokeExact(value);
+        }
+    }
+
+    /**
+     * The values cascaded to by the outermost cascade of the thread, compared by identity. The
+     * table of the map is kept when it is cleared, so tracking does not allocate once it is large
+     * enough.
+     */
+    private static final class Visited {
+
+        private final Map<Object, Boolean> values = new IdentityHashMap<>();
+
+        private int depth;
+
+        private boolean enter(final Object value) {
+
+            final boolean entered = values.put(value, Boolean.TRUE) == null;
+
+            if (entered) {
+                depth++;
+            }
+
+            return entered;
+        }
+
+        private void leave() {
+
+            depth--;
+
+            if (depth == 0) {
+                values.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.softcake.cherry.core.base;
+
+/**
+ * Finds the call site of a check in a stack trace, for {@link PreCheckStatistics} and {@link
+ * PreCheckSampler}.
+ *
+ * <p>The call site is the first frame outside of the classes that run checks on behalf of their
+ * caller, including their nested classes. The package cannot be skipped as a whole, it is shared
+ * with the tests. The frames of method handles and of a validated stream are skipped as well, so
+ * that a check in a stream is attributed to its terminal operation.
+ *
+ * @author softcake.org
+ */
+final class CallSites {
+
+    /**
+     * The call site of a stack trace without a frame outside of cherry, e.g. an empty one.
+     */
+    static final String UNKNOWN = "<unknown>";
+
+    private static final String[] INTERNAL_PACKAGES = {"java.lang.invoke.", "java.util.stream."};
+
+    private static final String[] INTERNAL_CLASSES = {PreCheck.class.getName(),
+                                                      PreCheckSampler.class.getName(),
+                                                      CheckSwitch.class.getName(),
+                                                      CheckChain.class.getName(),
+                                                      Validator.class.getName(),
+                                                      BeanValidator.class.getName(),
+                                                      ValidationCache.class.getName(),
+                                                      PreCheckStreams.class.getName(),
+                                                      Violations.class.getName()};
+
+    private CallSites() {
+
+    }
+
+    /**
+     * Returns the call site of a check.
+     *
+     * @param stackTrace the stack trace taken in the check
+     *
+     * @return the first frame of the caller as text, or {@link #UNKNOWN}
+     */
+    static String find(final StackTraceElement[] stackTrace) {
+
+        int index = 0;
+
+        while (index < stackTrace.length && isInternal(stackTrace[index].getClassName())) {
+            index++;
+        }
+
+        return index < stackTrace.length ? stackTrace[index].toString() : UNKNOWN;
+    }
+
+    /**
+     * Tests whether a class runs checks on behalf of its caller.
+     *
+     * @param className the binary name of the class
+     *
+     * @return true if the frames of the class are skipped, false otherwise
+     */
+    static boolean isInternal(final String className) {
+
+        boolean internal = false;
+
+        for (int i = 0; !internal && i < INTERNAL_PACKAGES.length; i++) {
+            internal = className.startsWith(INTERNAL_PACKAGES[i]);
+        }
+
+        for (int i = 0; !internal && i < INTERNAL_CLASSES.length; i++) {
+            final String internalClass = INTERNAL_CLASSES[i];
+            internal = className.startsWith(internalClass)
+                       && (className.length() == internalClass.length()
+                           || className.charAt(internalClass.length()) == '$');
+        }
+
+        return internal;
+    }
+}
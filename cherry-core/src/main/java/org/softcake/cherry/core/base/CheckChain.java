@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.softcake.cherry.core.base;
+
+import com.google.common.base.Throwables;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.List;
+
+/**
+ * Folds checks of an object, method handles of the type (Object)void, into a single handle, used
+ * by {@link Validator} and {@link BeanValidator}.
+ *
+ * <p>The checks are folded once, when a validator is created, so running them is a single handle
+ * invocation that neither iterates over the checks nor allocates.
+ *
+ * @author softcake.org
+ */
+final class CheckChain {
+
+    /**
+     * The check that does nothing, the chain of no checks.
+     */
+    static final MethodHandle NONE = findStatic(MethodHandles.lookup(),
+                                                CheckChain.class,
+                                                "none",
+                                                void.class,
+                                                Object.class);
+
+    private CheckChain() {
+
+        throw new IllegalStateException("No instances!");
+    }
+
+    /**
+     * Folds the given checks into one handle that runs them in order.
+     *
+     * @param checks the checks, each of the type (Object)void
+     *
+     * @return the folded checks
+     */
+    static MethodHandle sequence(final List<MethodHandle> checks) {
+
+        return sequence(checks, 0, checks.size());
+    }
+
+    /**
+     * Runs the given checks on an object.
+     *
+     * @param checks the checks, of the type (Object)void
+     * @param obj    the object to check
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    static void invoke(final MethodHandle checks, final Object obj) {
+
+        try {
+            checks.invokeExact(obj);
+        } catch (final Throwable e) {
+            // the checks throw unchecked exceptions only
+            Throwables.throwIfUnchecked(e);
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    /**
+     * Finds a static method that is known to exist.
+     *
+     * @param lookup         a lookup with access to the method
+     * @param owner          the class declaring the method
+     * @param name           the name of the method
+     * @param returnType     the return type of the method
+     * @param parameterTypes the parameter types of the method
+     *
+     * @return the method handle
+     */
+    static MethodHandle findStatic(final MethodHandles.Lookup lookup,
+                                   final Class<?> owner,
+                                   final String name,
+                                   final Class<?> returnType,
+                                   final Class<?>... parameterTypes) {
+
+        final MethodType methodType = MethodType.methodType(returnType, parameterTypes);
+
+        try {
+            return lookup.findStatic(owner, name, methodType);
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Method " + name + methodType + " not found", e);
+        }
+    }
+
+    // folds the checks as a balanced tree, the nesting of a linear fold grows with the number of
+    // checks, that of a balanced tree only with its logarithm
+    private static MethodHandle sequence(final List<MethodHandle> checks,
+                                         final int from,
+                                         final int to) {
+
+        final MethodHandle result;
+
+        if (from == to) {
+            result = NONE;
+
+        } else if (from + 1 == to) {
+            result = checks.get(from);
+
+        } else {
+            final int middle = (from + to) >>> 1;
+
+            // folding runs the combiner before the target
+            result = MethodHandles.foldArguments(sequence(checks, middle, to),
+                                                 sequence(checks, from, middle));
+        }
+
+        return result;
+    }
+
+    private static void none(final Object obj) {
+
+        // the end of a chain of checks
+    }
+}
@@ -0,0 +1,666 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Switches the {@link PreCheck} checks of a class on or off.
+ *
+ * <p>The switch is obtained once per class and kept in a {@code static final} field:
+ *
+ * <pre>{@code
+ * private static final CheckSwitch CHECKS = CheckSwitch.forClass(OrderBook.class);
+ *
+ * void add(Order order) {
+ *     orders.add(CHECKS.notNull(order));
+ * }
+ * }</pre>
+ *
+ * <p>The JIT treats the field as a constant, so the calls are bound to the exact implementation
+ * and inlined. The enabled switch delegates to {@link PreCheck}, the disabled switch overrides
+ * every check to just return the argument unchanged, after inlining nothing is left of the call.
+ * The arguments are still evaluated by the caller, an expensive argument is either passed as a
+ * {@link Supplier} or guarded with {@link #isEnabled()}.
+ *
+ * <p>The checks of a class are disabled with the system property {@value #DISABLED_PROPERTY}. It
+ * takes a comma separated list in the syntax of the {@code -da} option of the {@code java}
+ * launcher: {@code com.acme.Foo} disables the class {@code com.acme.Foo} and its nested classes,
+ * {@code com.acme...} the package {@code com.acme} and all its subpackages and {@code ...} the
+ * unnamed package. The property is read once, when this class is initialized.
+ *
+ * @author softcake.org
+ */
+public class CheckSwitch {
+
+    /**
+     * The system property listing the classes and packages whose checks are disabled.
+     */
+    public static final String DISABLED_PROPERTY = "org.softcake.cherry.precheck.disabled";
+
+    private static final String PACKAGE_WILDCARD = "...";
+
+    private static final String[] DISABLED = parse(System.getProperty(DISABLED_PROPERTY));
+
+    private static final CheckSwitch ENABLED = new CheckSwitch();
+
+    CheckSwitch() {
+
+    }
+
+    /**
+     * Returns the switch for the checks of the given class.
+     *
+     * @param type the class performing the checks
+     *
+     * @return the disabled switch if the class is matched by {@value #DISABLED_PROPERTY}, the
+     *         enabled switch otherwise
+     */
+    public static CheckSwitch forClass(final Class<?> type) {
+
+        return isDisabled(PreCheck.parameterNotNull(type, "type").getName(), DISABLED)
+               ? disabled()
+               : enabled();
+    }
+
+    /**
+     * Returns the switch that performs all checks.
+     *
+     * @return the enabled switch
+     */
+    public static CheckSwitch enabled() {
+
+        return ENABLED;
+    }
+
+    /**
+     * Returns the switch that skips all checks.
+     *
+     * @return the disabled switch
+     */
+    public static CheckSwitch disabled() {
+
+        return Disabled.INSTANCE;
+    }
+
+    static String[] parse(final String property) {
+
+        if (property == null || property.trim().isEmpty()) {
+            return new String[0];
+        }
+
+        return Arrays.stream(property.split(","))
+                     .map(String::trim)
+                     .filter(pattern -> !pattern.isEmpty())
+                     .toArray(String[]::new);
+    }
+
+    static boolean isDisabled(final String className, final String[] patterns) {
+
+        final int nested = className.indexOf('$');
+        final String topLevel = nested < 0 ? className : className.substring(0, nested);
+        final int lastDot = topLevel.lastIndexOf('.');
+        final String packageName = lastDot < 0 ? "" : topLevel.substring(0, lastDot);
+
+        for (final String pattern : patterns) {
+            if (matches(pattern, topLevel, packageName)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean matches(final String pattern,
+                                   final String topLevel,
+                                   final String packageName) {
+
+        if (!pattern.endsWith(PACKAGE_WILDCARD)) {
+            return pattern.equals(topLevel);
+        }
+
+        final String prefix = pattern.substring(0, pattern.length() - PACKAGE_WILDCARD.length());
+
+        return prefix.isEmpty()
+               ? packageName.isEmpty()
+               : packageName.equals(prefix) || packageName.startsWith(prefix + ".");
+    }
+
+    /**
+     * Tests whether the checks are performed.
+     *
+     * <p>The result is a constant for a switch held in a {@code static final} field, so a block
+     * guarded by it is removed by the JIT if the switch is disabled.
+     *
+     * @return true if the checks are performed, false otherwise
+     */
+    public boolean isEnabled() {
+
+        return true;
+    }
+
+    /**
+     * Ensures that an object reference is not null, see {@link PreCheck#notNull(Object)}.
+     *
+     * @param <T> the type
+     * @param obj an object reference
+     *
+     * @return the value that was passed in
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
+     */
+    public <T> T notNull(final T obj) {
+
+        return PreCheck.notNull(obj);
+    }
+
+    /**
+     * Ensures that an object reference is not null, see {@link PreCheck#notNull(Object, String)}.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage the exception message to use if the check fails
+     *
+     * @return the value that was passed in
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
+     */
+    public <T> T notNull(final T obj, final String errorMessage) {
+
+        return PreCheck.notNull(obj, errorMessage);
+    }
+
+    /**
+     * Ensures that an object reference is not null, see {@link PreCheck#notNull(Object,
+     * Supplier)}.
+     *
+     * @param <T>                  the type
+     * @param obj                  an object reference
+     * @param errorMessageSupplier supplies the exception message, only invoked if the check
+     *                             fails
+     *
+     * @return the value that was passed in
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
+     */
+    public <T> T notNull(final T obj, final Supplier<String> errorMessageSupplier) {
+
+        return PreCheck.notNull(obj, errorMessageSupplier);
+    }
+
+    /**
+     * Ensures that an object reference is not null and not empty, see {@link
+     * PreCheck#notNullOrEmpty(Object)}.
+     *
+     * @param <T> the type
+     * @param obj an object reference
+     *
+     * @return the value that was passed in
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public <T> T notNullOrEmpty(final T obj) {
+
+        return PreCheck.notNullOrEmpty(obj);
+    }
+
+    /**
+     * Ensures that an object reference is not null and not empty, see {@link
+     * PreCheck#notNullOrEmpty(Object, String)}.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage the exception message to use if the check fails
+     *
+     * @return the value that was passed in
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public <T> T notNullOrEmpty(final T obj, final String errorMessage) {
+
+        return PreCheck.notNullOrEmpty(obj, errorMessage);
+    }
+
+    /**
+     * Ensures that an object reference is not null and not empty, see {@link
+     * PreCheck#notNullOrEmpty(Object, Supplier)}.
+     *
+     * @param <T>                  the type
+     * @param obj                  an object reference
+     * @param errorMessageSupplier supplies the exception message, only invoked if the check
+     *                             fails
+     *
+     * @return the value that was passed in
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public <T> T notNullOrEmpty(final T obj, final Supplier<String> errorMessageSupplier) {
+
+        return PreCheck.notNullOrEmpty(obj, errorMessageSupplier);
+    }
+
+    /**
+     * Ensures that a parameter is not null, see {@link PreCheck#parameterNotNull(Object,
+     * String)}.
+     *
+     * @param <T>           the type
+     * @param obj           an object reference
+     * @param parameterName the parameter name to use in the message if the check fails
+     *
+     * @return the value that was passed in
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
+     */
+    public <T> T parameterNotNull(final T obj, final String parameterName) {
+
+        return PreCheck.parameterNotNull(obj, parameterName);
+    }
+
+    /**
+     * Ensures that a parameter is not null and not empty, see {@link
+     * PreCheck#parameterNotNullOrEmpty(Object, String)}.
+     *
+     * @param <T>           the type
+     * @param obj           an object reference
+     * @param parameterName the parameter name to use in the message if the check fails
+     *
+     * @return the value that was passed in
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public <T> T parameterNotNullOrEmpty(final T obj, final String parameterName) {
+
+        return PreCheck.parameterNotNullOrEmpty(obj, parameterName);
+    }
+
+    /**
+     * Ensures the truth of an expression, see {@link PreCheck#expression(boolean)}.
+     *
+     * @param expression a boolean expression
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public void expression(final boolean expression) {
+
+        PreCheck.expression(expression);
+    }
+
+    /**
+     * Ensures the truth of an expression, see {@link PreCheck#expression(boolean, Object)}.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage the exception message to use if the check fails
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public void expression(final boolean expression, final Object errorMessage) {
+
+        PreCheck.expression(expression, errorMessage);
+    }
+
+    /**
+     * Ensures the truth of an expression, see {@link PreCheck#expression(boolean, Supplier)}.
+     *
+     * @param expression           a boolean expression
+     * @param errorMessageSupplier supplies the exception message, only invoked if the check
+     *                             fails
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public void expression(final boolean expression,
+                           final Supplier<String> errorMessageSupplier) {
+
+        PreCheck.expression(expression, errorMessageSupplier);
+    }
+
+    /**
+     * Ensures that a value is positive, see {@link PreCheck#positive(int, String)}.
+     *
+     * @param value         the value to check
+     * @param parameterName the parameter name to use in the message if the check fails
+     *
+     * @return the value that was passed in
+     *
+     * @throws IllegalArgumentException if {@code value} is not positive
+     */
+    public int positive(final int value, final String parameterName) {
+
+        return PreCheck.positive(value, parameterName);
+    }
+
+    /**
+     * Ensures that a value is positive, see {@link PreCheck#positive(long, String)}.
+     *
+     * @param value         the value to check
+     * @param parameterName the parameter name to use in the message if the check fails
+     *
+     * @return the value that was passed in
+     *
+     * @throws IllegalArgumentException if {@code value} is not positive
+     */
+    public long positive(final long value, final String parameterName) {
+
+        return PreCheck.positive(value, parameterName);
+    }
+
+    /**
+     * Ensures that a value is positive, see {@link PreCheck#positive(double, String)}.
+     *
+     * @param value         the value to check
+     * @param parameterName the parameter name to use in the message if the check fails
+     *
+     * @return the value that was passed in
+     *
+     * @throws IllegalArgumentException if {@code value} is not positive
+     */
+    public double positive(final double value, final String parameterName) {
+
+        return PreCheck.positive(value, parameterName);
+    }
+
+    /**
+     * Ensures that a value is not negative, see {@link PreCheck#nonNegative(int,
+     * String)}.
+     *
+     * @param value         the value to check
+     * @param parameterName the parameter name to use in the message if the check fails
+     *
+     * @return the value that was passed in
+     *
+     * @throws IllegalArgumentException if {@code value} is negative
+     */
+    public int nonNegative(final int value, final String parameterName) {
+
+        return PreCheck.nonNegative(value, parameterName);
+    }
+
+    /**
+     * Ensures that a value is not negative, see {@link PreCheck#nonNegative(long,
+     * String)}.
+     *
+     * @param value         the value to check
+     * @param parameterName the parameter name to use in the message if the check fails
+     *
+     * @return the value that was passed in
+     *
+     * @throws IllegalArgumentException if {@code value} is negative
+     */
+    public long nonNegative(final long value, final String parameterName) {
+
+        return PreCheck.nonNegative(value, parameterName);
+    }
+
+    /**
+     * Ensures that a value is not negative, see {@link PreCheck#nonNegative(double,
+     * String)}.
+     *
+     * @param value         the value to check
+     * @param parameterName the parameter name to use in the message if the check fails
+     *
+     * @return the value that was passed in
+     *
+     * @throws IllegalArgumentException if {@code value} is negative
+     */
+    public double nonNegative(final double value, final String parameterName) {
+
+        return PreCheck.nonNegative(value, parameterName);
+    }
+
+    /**
+     * Ensures that a value lies within a closed range, see {@link PreCheck#inRange(int,
+     * int, int, String)}.
+     *
+     * @param value         the value to check
+     * @param lo            the lower bound, inclusive
+     * @param hi            the upper bound, inclusive
+     * @param parameterName the parameter name to use in the message if the check fails
+     *
+     * @return the value that was passed in
+     *
+     * @throws IllegalArgumentException if {@code value} is outside of the range
+     */
+    public int inRange(final int value,
+                       final int lo,
+                       final int hi,
+                       final String parameterName) {
+
+        return PreCheck.inRange(value, lo, hi, parameterName);
+    }
+
+    /**
+     * Ensures that a value lies within a closed range, see {@link PreCheck#inRange(long,
+     * long, long, String)}.
+     *
+     * @param value         the value to check
+     * @param lo            the lower bound, inclusive
+     * @param hi            the upper bound, inclusive
+     * @param parameterName the parameter name to use in the message if the check fails
+     *
+     * @return the value that was passed in
+     *
+     * @throws IllegalArgumentException if {@code value} is outside of the range
+     */
+    public long inRange(final long value,
+                        final long lo,
+                        final long hi,
+                        final String parameterName) {
+
+        return PreCheck.inRange(value, lo, hi, parameterName);
+    }
+
+    /**
+     * Ensures that a value lies within a closed range, see {@link PreCheck#inRange(double,
+     * double, double, String)}.
+     *
+     * @param value         the value to check
+     * @param lo            the lower bound, inclusive
+     * @param hi            the upper bound, inclusive
+     * @param parameterName the parameter name to use in the message if the check fails
+     *
+     * @return the value that was passed in
+     *
+     * @throws IllegalArgumentException if {@code value} is outside of the range
+     */
+    public double inRange(final double value,
+                          final double lo,
+                          final double hi,
+                          final String parameterName) {
+
+        return PreCheck.inRange(value, lo, hi, parameterName);
+    }
+
+    /**
+     * Ensures that a value is finite, see {@link PreCheck#finite(double, String)}.
+     *
+     * @param value         the value to check
+     * @param parameterName the parameter name to use in the message if the check fails
+     *
+     * @return the value that was passed in
+     *
+     * @throws IllegalArgumentException if {@code value} is infinite or NaN
+     */
+    public double finite(final double value, final String parameterName) {
+
+        return PreCheck.finite(value, parameterName);
+    }
+
+    /**
+     * Ensures that a value is not NaN, see {@link PreCheck#notNaN(double, String)}.
+     *
+     * @param value         the value to check
+     * @param parameterName the parameter name to use in the message if the check fails
+     *
+     * @return the value that was passed in
+     *
+     * @throws IllegalArgumentException if {@code value} is NaN
+     */
+    public double notNaN(final double value, final String parameterName) {
+
+        return PreCheck.notNaN(value, parameterName);
+    }
+
+    private static final class Disabled extends CheckSwitch {
+
+        private static final CheckSwitch INSTANCE = new Disabled();
+
+        @Override
+        public boolean isEnabled() {
+
+            return false;
+        }
+
+        @Override
+        public <T> T notNull(final T obj) {
+
+            return obj;
+        }
+
+        @Override
+        public <T> T notNull(final T obj, final String errorMessage) {
+
+            return obj;
+        }
+
+        @Override
+        public <T> T notNull(final T obj, final Supplier<String> errorMessageSupplier) {
+
+            return obj;
+        }
+
+        @Override
+        public <T> T notNullOrEmpty(final T obj) {
+
+            return obj;
+        }
+
+        @Override
+        public <T> T notNullOrEmpty(final T obj, final String errorMessage) {
+
+            return obj;
+        }
+
+        @Override
+        public <T> T notNullOrEmpty(final T obj, final Supplier<String> errorMessageSupplier) {
+
+            return obj;
+        }
+
+        @Override
+        public <T> T parameterNotNull(final T obj, final String parameterName) {
+
+            return obj;
+        }
+
+        @Override
+        public <T> T parameterNotNullOrEmpty(final T obj, final String parameterName) {
+
+            return obj;
+        }
+
+        @Override
+        public void expression(final boolean expression) {
+
+        }
+
+        @Override
+        public void expression(final boolean expression, final Object errorMessage) {
+
+        }
+
+        @Override
+        public void expression(final boolean expression,
+                               final Supplier<String> errorMessageSupplier) {
+
+        }
+
+        @Override
+        public int positive(final int value, final String parameterName) {
+
+            return value;
+        }
+
+        @Override
+        public long positive(final long value, final String parameterName) {
+
+            return value;
+        }
+
+        @Override
+        public double positive(final double value, final String parameterName) {
+
+            return value;
+        }
+
+        @Override
+        public int nonNegative(final int value, final String parameterName) {
+
+            return value;
+        }
+
+        @Override
+        public long nonNegative(final long value, final String parameterName) {
+
+            return value;
+        }
+
+        @Override
+        public double nonNegative(final double value, final String parameterName) {
+
+            return value;
+        }
+
+        @Override
+        public int inRange(final int value,
+                           final int lo,
+                           final int hi,
+                           final String parameterName) {
+
+            return value;
+        }
+
+        @Override
+        public long inRange(final long value,
+                            final long lo,
+                            final long hi,
+                            final String parameterName) {
+
+            return value;
+        }
+
+        @Override
+        public double inRange(final double value,
+                              final double lo,
+                              final double hi,
+                              final String parameterName) {
+
+            return value;
+        }
+
+        @Override
+        public double finite(final double value, final String parameterName) {
+
+            return value;
+        }
+
+        @Override
+        public double notNaN(final double value, final String parameterName) {
+
+            return value;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import java.nio.Buffer;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Emptiness strategy of a type, resolved once per class and cached in a {@link ClassValue}.
+ *
+ * <p>Used by {@link PreCheck#isParamNullOrEmpty(Object)} when the static type of the argument
+ * is not known at the call site. Every strategy is O(1) and reflection-free.
+ *
+ * @author softcake.org
+ */
+enum Emptiness {
+
+    STRING {
+        @Override
+        boolean isEmpty(final Object obj) {
+
+            return ((String) obj).isEmpty();
+        }
+    },
+    CHAR_SEQUENCE {
+        @Override
+        boolean isEmpty(final Object obj) {
+
+            return ((CharSequence) obj).length() == 0;
+        }
+    },
+    COLLECTION {
+        @Override
+        boolean isEmpty(final Object obj) {
+
+            return ((Collection<?>) obj).isEmpty();
+        }
+    },
+    MAP {
+        @Override
+        boolean isEmpty(final Object obj) {
+
+            return ((Map<?, ?>) obj).isEmpty();
+        }
+    },
+    ITERABLE {
+        @Override
+        boolean isEmpty(final Object obj) {
+
+            return !((Iterable<?>) obj).iterator().hasNext();
+        }
+    },
+    OPTIONAL {
+        @Override
+        boolean isEmpty(final Object obj) {
+
+            return !((Optional<?>) obj).isPresent();
+        }
+    },
+    BUFFER {
+        @Override
+        boolean isEmpty(final Object obj) {
+
+            return !((Buffer) obj).hasRemaining();
+        }
+    },
+    OBJECT_ARRAY {
+        @Override
+        boolean isEmpty(final Object obj) {
+
+            return ((Object[]) obj).length == 0;
+        }
+    },
+    BOOLEAN_ARRAY {
+        @Override
+        boolean isEmpty(final Object obj) {
+
+            return ((boolean[]) obj).length == 0;
+        }
+    },
+    BYTE_ARRAY {
+        @Override
+        boolean isEmpty(final Object obj) {
+
+            return ((byte[]) obj).length == 0;
+        }
+    },
+    CHAR_ARRAY {
+        @Override
+        boolean isEmpty(final Object obj) {
+
+            return ((char[]) obj).length == 0;
+        }
+    },
+    SHORT_ARRAY {
+        @Override
+        boolean isEmpty(final Object obj) {
+
+            return ((short[]) obj).length == 0;
+        }
+    },
+    INT_ARRAY {
+        @Override
+        boolean isEmpty(final Object obj) {
+
+            return ((int[]) obj).length == 0;
+        }
+    },
+    LONG_ARRAY {
+        @Override
+        boolean isEmpty(final Object obj) {
+
+            return ((long[]) obj).length == 0;
+        }
+    },
+    FLOAT_ARRAY {
+        @Override
+        boolean isEmpty(final Object obj) {
+
+            return ((float[]) obj).length == 0;
+        }
+    },
+    DOUBLE_ARRAY {
+        @Override
+        boolean isEmpty(final Object obj) {
+
+            return ((double[]) obj).length == 0;
+        }
+    },
+    UNSUPPORTED {
+        @Override
+        boolean isEmpty(final Object obj) {
+
+            throw new IllegalArgumentException("parameter must be type Object");
+        }
+    };
+
+    private static final ClassValue<Emptiness> STRATEGIES = new ClassValue<Emptiness>() {
+        @Override
+        protected Emptiness computeValue(final Class<?> type) {
+
+            return resolve(type);
+        }
+    };
+
+    /**
+     * Returns the cached emptiness strategy of the given type.
+     *
+     * @param type the runtime class of a non-null object
+     *
+     * @return the strategy, {@link #UNSUPPORTED} if the type has no notion of emptiness
+     */
+    static Emptiness of(final Class<?> type) {
+
+        return STRATEGIES.get(type);
+    }
+
+    /**
+     * Tests whether the given non-null object is empty.
+     *
+     * @param obj an object of a type this strategy was resolved for
+     *
+     * @return true if the object is empty, false otherwise
+     */
+    abstract boolean isEmpty(Object obj);
+
+    private static Emptiness resolve(final Class<?> type) {
+
+        Emptiness result;
+
+        if (type.isArray()) {
+            result = resolveArray(type.getComponentType());
+
+        } else if (String.class == type) {
+            result = STRING;
+
+        } else if (Collection.class.isAssignableFrom(type)) {
+            result = COLLECTION;
+
+        } else if (Map.class.isAssignableFrom(type)) {
+            result = MAP;
+
+        } else if (CharSequence.class.isAssignableFrom(type)) {
+            result = CHAR_SEQUENCE;
+
+        } else if (Iterable.class.isAssignableFrom(type)) {
+            result = ITERABLE;
+
+        } else if (Optional.class == type) {
+            result = OPTIONAL;
+
+        } else if (Buffer.class.isAssignableFrom(type)) {
+            result = BUFFER;
+
+        } else {
+            result = UNSUPPORTED;
+        }
+
+        return result;
+    }
+
+    private static Emptiness resolveArray(final Class<?> componentType) {
+
+        Emptiness result;
+
+        if (!componentType.isPrimitive()) {
+            result = OBJECT_ARRAY;
+
+        } else if (boolean.class == componentType) {
+            result = BOOLEAN_ARRAY;
+
+        } else if (byte.class == componentType) {
+            result = BYTE_ARRAY;
+
+        } else if (char.class == componentType) {
+            result = CHAR_ARRAY;
+
+        } else if (short.class == componentType) {
+            result = SHORT_ARRAY;
+
+        } else if (int.class == componentType) {
+            result = INT_ARRAY;
+
+        } else if (long.class == componentType) {
+            result = LONG_ARRAY;
+
+        } else if (float.class == componentType) {
+            result = FLOAT_ARRAY;
+
+        } else {
+            result = DOUBLE_ARRAY;
+        }
+
+        return result;
+    }
+}
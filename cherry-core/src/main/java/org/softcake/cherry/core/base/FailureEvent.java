@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.softcake.cherry.core.base;
+
+import java.time.Instant;
+
+/**
+ * A failed check, as published by {@link PreCheck} to a {@link FailureEventSink}.
+ *
+ * <p>The event is created on the failing thread and carries the exception about to be thrown, its
+ * stack trace is the context of the failure unless it was created in the stackless mode of
+ * {@link PreCheckException}.
+ *
+ * @author softcake.org
+ */
+public final class FailureEvent {
+
+    private final long timeMillis;
+
+    private final String threadName;
+
+    private final RuntimeException exception;
+
+    FailureEvent(final long timeMillis, final String threadName, final RuntimeException exception) {
+
+        this.timeMillis = timeMillis;
+        this.threadName = threadName;
+        this.exception = exception;
+    }
+
+    /**
+     * Returns the time of the failure.
+     *
+     * @return the time in milliseconds since the epoch
+     */
+    public long getTimeMillis() {
+
+        return timeMillis;
+    }
+
+    /**
+     * Returns the name of the thread the check failed on.
+     *
+     * @return the thread name at the time of the failure
+     */
+    public String getThreadName() {
+
+        return threadName;
+    }
+
+    /**
+     * Returns the exception thrown by the failed check.
+     *
+     * @return a {@link PreCheckException}, or an {@link IllegalStateException} for the state checks
+     */
+    public RuntimeException getException() {
+
+        return exception;
+    }
+
+    /**
+     * Returns the message of the failed check.
+     *
+     * @return the exception message
+     */
+    public String getMessage() {
+
+        return exception.getMessage();
+    }
+
+    @Override
+    public String toString() {
+
+        return Instant.ofEpochMilli(timeMillis) + " [" + threadName + "] " + exception;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.softcake.cherry.core.base;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * Receives the failure events drained by a {@link FailureEventSink}.
+ *
+ * <p>All methods are called on the consumer thread of the sink, one event at a time, so a handler
+ * does not need to be thread-safe. It may block, e.g. on I/O, the failing threads are not held up
+ * by it, but events published meanwhile are dropped once the buffer of the sink is full.
+ *
+ * @author softcake.org
+ */
+@FunctionalInterface
+public interface FailureEventHandler {
+
+    /**
+     * Creates a handler that logs each event as a warning, with the exception attached.
+     *
+     * @param logger the logger
+     *
+     * @return a new handler
+     */
+    static FailureEventHandler logger(final Logger logger) {
+
+        PreCheck.parameterNotNull(logger, "logger");
+
+        return event -> {
+            final LogRecord record = new LogRecord(Level.WARNING,
+                                                   "[" + event.getThreadName() + "] "
+                                                   + event.getMessage());
+            record.setMillis(event.getTimeMillis());
+            record.setThrown(event.getException());
+            record.setLoggerName(logger.getName());
+            logger.log(record);
+        };
+    }
+
+    /**
+     * Creates a handler that appends each event with the stack trace of its exception to a file.
+     *
+     * <p>The file is flushed after each batch of events and closed when the sink is closed.
+     *
+     * @param file the file, created if it does not exist
+     *
+     * @return a new handler
+     *
+     * @throws IOException if the file cannot be opened
+     */
+    static FailureEventHandler file(final Path file) throws IOException {
+
+        PreCheck.parameterNotNull(file, "file");
+
+        return new FileFailureEventHandler(file);
+    }
+
+    /**
+     * Creates a handler that adds each event to the given collection, meant for tests.
+     *
+     * <p>The collection is written by the consumer thread of the sink, it can be read safely
+     * after the sink is closed.
+     *
+     * @param events the collection to add the events to
+     *
+     * @return a new handler
+     */
+    static FailureEventHandler memory(final Collection<? super FailureEvent> events) {
+
+        PreCheck.parameterNotNull(events, "events");
+
+        return events::add;
+    }
+
+    /**
+     * Handles a failure event.
+     *
+     * @param event the event
+     */
+    void onEvent(FailureEvent event);
+
+    /**
+     * Called after the events available at once have been handled, e.g. to flush a stream.
+     */
+    default void onEndOfBatch() {
+
+    }
+
+    /**
+     * Called once when the sink is closed, after the last event has been handled.
+     */
+    default void onClose() {
+
+    }
+}
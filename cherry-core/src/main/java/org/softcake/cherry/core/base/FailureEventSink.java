@@ -0,0 +1,397 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.softcake.cherry.core.base;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Publishes the failures of the {@link PreCheck} checks to a {@link FailureEventHandler} on a
+ * background thread, e.g. to log them for forensics without slowing down the failing threads.
+ *
+ * <pre>{@code
+ * FailureEventSink sink = FailureEventSink.start(FailureEventHandler.logger(LOG));
+ * ...
+ * sink.close();
+ * }</pre>
+ *
+ * <p>The sink is off by default and at most one sink is started at a time. While no sink is
+ * started, a failing check pays a single volatile read for it, a passing check nothing.
+ *
+ * <p>A failing check publishes a {@link FailureEvent} to a bounded ring buffer. The failing
+ * threads claim the slots of the buffer by a compare-and-set on a shared counter, each slot has
+ * a sequence number that tells whether it is free and whether its event is complete, so neither
+ * the failing threads nor the consumer thread ever take a lock or wait for each other. If the
+ * buffer is full, the event is dropped and counted in {@link #getDroppedCount()}, a burst of
+ * failures therefore never blocks the failing threads, however slow the handler is. The consumer
+ * thread is a daemon that drains the buffer in batches and parks while it is empty, it is only
+ * unparked by a failing thread if it is actually parked.
+ *
+ * <p>The failures of the index checks, e.g. {@link PreCheck#checkIndex(int, int)}, are not
+ * published, their exceptions are thrown by the JDK on Java 9 and later.
+ *
+ * @author softcake.org
+ */
+public final class FailureEventSink implements AutoCloseable {
+
+    /**
+     * The capacity of the buffer used by {@link #start(FailureEventHandler)}.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    // the consumer wakes up regularly even if it misses an unpark
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static volatile FailureEventSink started;
+
+    private final FailureEventHandler handler;
+
+    private final int mask;
+
+    private final AtomicReferenceArray<FailureEvent> events;
+
+    /*
+     * The sequence number of a slot is its position if the slot is free for the producer that
+     * claims this position, and the position plus one if it holds the event of that position.
+     */
+    private final AtomicLongArray sequences;
+
+    private final AtomicLong tail = new AtomicLong();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final Thread consumer;
+
+    // the fields below are written by the consumer thread only
+    private long head;
+
+    private volatile long handledCount;
+
+    private volatile long handlerFailureCount;
+
+    private volatile boolean parked;
+
+    private volatile boolean closed;
+
+    private FailureEventSink(final int capacity, final FailureEventHandler handler) {
+
+        this.handler = handler;
+        mask = capacity - 1;
+        events = new AtomicReferenceArray<>(capacity);
+        sequences = new AtomicLongArray(capacity);
+
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+
+        consumer = new Thread(this::drain, "cherry-failure-events");
+        consumer.setDaemon(true);
+    }
+
+    /**
+     * Starts a sink with a buffer of {@value #DEFAULT_CAPACITY} events.
+     *
+     * @param handler the handler of the events
+     *
+     * @return the started sink
+     *
+     * @throws IllegalStateException if a sink is already started
+     */
+    public static FailureEventSink start(final FailureEventHandler handler) {
+
+        return start(DEFAULT_CAPACITY, handler);
+    }
+
+    /**
+     * Starts a sink with a buffer of the given capacity.
+     *
+     * @param capacity the number of events the buffer holds, rounded up to a power of two
+     * @param handler  the handler of the events
+     *
+     * @return the started sink
+     *
+     * @throws IllegalStateException if a sink is already started
+     */
+    public static FailureEventSink start(final int capacity, final FailureEventHandler handler) {
+
+        PreCheck.positive(capacity, "capacity");
+        PreCheck.parameterNotNull(handler, "handler");
+        PreCheck.expression(capacity <= MAXIMUM_CAPACITY, "capacity must be at most %s!",
+                            MAXIMUM_CAPACITY);
+
+        final FailureEventSink sink = new FailureEventSink(roundUpToPowerOfTwo(capacity), handler);
+
+        synchronized (FailureEventSink.class) {
+            PreCheck.state(started == null, "a failure event sink is already started!");
+            sink.consumer.start();
+            started = sink;
+        }
+
+        return sink;
+    }
+
+    /**
+     * Publishes a failure to the started sink, if any.
+     *
+     * <p>Failures on the consumer thread are not published, a failing handler would otherwise
+     * feed itself.
+     *
+     * @param exception the exception about to be thrown
+     * @param <E>       the type of the exception
+     *
+     * @return the given exception
+     */
+    static <E extends RuntimeException> E publish(final E exception) {
+
+        final FailureEventSink sink = started;
+
+        if (sink != null && Thread.currentThread() != sink.consumer) {
+            sink.offer(exception);
+        }
+
+        return exception;
+    }
+
+    /**
+     * Returns the number of events the buffer holds.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+
+        return mask + 1;
+    }
+
+    /**
+     * Returns the number of events passed to the handler.
+     *
+     * @return the number of handled events
+     */
+    public long getHandledCount() {
+
+        return handledCount;
+    }
+
+    /**
+     * Returns the number of events dropped because the buffer was full.
+     *
+     * @return the number of dropped events
+     */
+    public long getDroppedCount() {
+
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the number of events the handler failed on with an exception.
+     *
+     * <p>These events are counted as handled as well, the consumer thread carries on with the
+     * next event.
+     *
+     * @return the number of failed events
+     */
+    public long getHandlerFailureCount() {
+
+        return handlerFailureCount;
+    }
+
+    /**
+     * Tests whether the sink is started and not yet closed.
+     *
+     * @return true if failures are published to this sink, false otherwise
+     */
+    public boolean isStarted() {
+
+        return started == this;
+    }
+
+    /**
+     * Stops publishing failures to this sink and waits until the events in the buffer are handled
+     * and the handler is closed.
+     *
+     * <p>If the calling thread is interrupted while waiting, the interrupt flag is set again and
+     * the remaining events are handled in the background. Closing a closed sink has no effect.
+     */
+    @Override
+    public void close() {
+
+        synchronized (FailureEventSink.class) {
+            if (started == this) {
+                started = null;
+            }
+        }
+
+        closed = true;
+        LockSupport.unpark(consumer);
+
+        // a handler closing its own sink cannot wait for itself
+        if (Thread.currentThread() != consumer) {
+            try {
+                consumer.join();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+
+        return "FailureEventSink[capacity=" + getCapacity() + ", handled=" + handledCount
+               + ", dropped=" + getDroppedCount() + "]";
+    }
+
+    private static int roundUpToPowerOfTwo(final int capacity) {
+
+        return capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    /*
+     * A producer claims the position at the tail if the slot of the position is free, the event
+     * is created only after the claim, so that a dropped failure does not allocate. The volatile
+     * write of the sequence publishes the event to the consumer, and as the consumer writes parked
+     * before it checks the buffer, either the consumer sees the event or the producer sees it
+     * parked.
+     */
+    private void offer(final RuntimeException exception) {
+
+        long position = tail.get();
+        boolean published = false;
+        boolean full = false;
+
+        while (!published && !full) {
+            final int index = (int) position & mask;
+            final long distance = sequences.get(index) - position;
+
+            if (distance == 0 && tail.compareAndSet(position, position + 1)) {
+                events.lazySet(index, new FailureEvent(System.currentTimeMillis(),
+                                                       Thread.currentThread().getName(),
+                                                       exception));
+                sequences.set(index, position + 1);
+                published = true;
+
+            } else if (distance < 0) {
+                // the slot still holds the event of the previous lap
+                full = true;
+
+            } else {
+                position = tail.get();
+            }
+        }
+
+        if (full) {
+            dropped.increment();
+
+        } else if (parked) {
+            parked = false;
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private FailureEvent poll() {
+
+        final int index = (int) head & mask;
+        FailureEvent event = null;
+
+        if (sequences.get(index) == head + 1) {
+            event = events.get(index);
+            events.lazySet(index, null);
+            sequences.set(index, head + mask + 1);
+            head++;
+        }
+
+        return event;
+    }
+
+    private boolean isEmpty() {
+
+        return sequences.get((int) head & mask) != head + 1;
+    }
+
+    private void drain() {
+
+        boolean running = true;
+
+        while (running) {
+            // read before draining, so that the events published before the close are handled
+            running = !closed;
+            int batch = 0;
+
+            for (FailureEvent event = poll(); event != null; event = poll()) {
+                handle(event);
+                batch++;
+            }
+
+            if (batch > 0) {
+                endOfBatch();
+
+            } else if (running) {
+                park();
+            }
+        }
+
+        closeHandler();
+    }
+
+    private void park() {
+
+        parked = true;
+
+        if (isEmpty() && !closed) {
+            LockSupport.parkNanos(this, PARK_NANOS);
+        }
+
+        parked = false;
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void handle(final FailureEvent event) {
+
+        try {
+            handler.onEvent(event);
+        } catch (final RuntimeException e) {
+            handlerFailureCount++;
+        }
+
+        handledCount++;
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void endOfBatch() {
+
+        try {
+            handler.onEndOfBatch();
+        } catch (final RuntimeException e) {
+            handlerFailureCount++;
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void closeHandler() {
+
+        try {
+            handler.onClose();
+        } catch (final RuntimeException e) {
+            handlerFailureCount++;
+        }
+    }
+}
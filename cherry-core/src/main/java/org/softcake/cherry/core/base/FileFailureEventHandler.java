@@ -0,0 +1,66 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.softcake.cherry.core.base;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+
+/**
+ * Appends failure events to a file, see {@link FailureEventHandler#file(Path)}.
+ *
+ * <p>The writer is buffered and only flushed at the end of a batch. A {@link PrintWriter} does
+ * not throw on I/O errors, a failing file therefore does not stop the consumer thread.
+ *
+ * @author softcake.org
+ */
+final class FileFailureEventHandler implements FailureEventHandler {
+
+    private final PrintWriter writer;
+
+    FileFailureEventHandler(final Path file) throws IOException {
+
+        writer = new PrintWriter(Files.newBufferedWriter(file,
+                                                         StandardCharsets.UTF_8,
+                                                         StandardOpenOption.CREATE,
+                                                         StandardOpenOption.WRITE,
+                                                         StandardOpenOption.APPEND));
+    }
+
+    @Override
+    public void onEvent(final FailureEvent event) {
+
+        writer.print(Instant.ofEpochMilli(event.getTimeMillis()) + " [" + event.getThreadName()
+                     + "] ");
+        event.getException().printStackTrace(writer);
+    }
+
+    @Override
+    public void onEndOfBatch() {
+
+        writer.flush();
+    }
+
+    @Override
+    public void onClose() {
+
+        writer.close();
+    }
+}
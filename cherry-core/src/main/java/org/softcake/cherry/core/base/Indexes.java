@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+/**
+ * The index checks of {@link PreCheck} on Java 8.
+ *
+ * <p>On Java 9 and later this class is replaced by the one in {@code META-INF/versions/9} of the
+ * multi-release jar, which delegates to the intrinsics of {@code java.util.Objects}. Both
+ * versions throw the same exceptions with the same messages.
+ *
+ * @author softcake.org
+ */
+final class Indexes {
+
+    private Indexes() {
+
+        throw new IllegalStateException("No instances!");
+    }
+
+    static int checkIndex(final int index, final int length) {
+
+        if (index < 0 || index >= length) {
+
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length "
+                                                + length);
+
+        }
+        return index;
+    }
+
+    static int checkFromToIndex(final int fromIndex, final int toIndex, final int length) {
+
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > length) {
+
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex
+                                                + ") out of bounds for length " + length);
+
+        }
+        return fromIndex;
+    }
+
+    static int checkFromIndexSize(final int fromIndex, final int size, final int length) {
+
+        if ((length | fromIndex | size) < 0 || size > length - fromIndex) {
+
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + fromIndex + " + "
+                                                + size + ") out of bounds for length " + length);
+
+        }
+        return fromIndex;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import java.util.Arrays;
+
+/**
+ * A parsed exception message template that only knows the {@code %s} placeholder.
+ *
+ * <p>Each {@code %s} is replaced by the argument at the same position, unmatched arguments are
+ * appended in square braces and unmatched placeholders are left as-is. Parsed templates are kept
+ * in a bounded, direct-mapped cache keyed by template identity, so constant templates are parsed
+ * once. Racing threads may parse a template twice, which is harmless as instances are immutable.
+ *
+ * @author softcake.org
+ */
+final class MessageTemplate {
+
+    private static final String PLACEHOLDER = "%s";
+
+    private static final int CACHE_SIZE = 256;
+
+    private static final int CACHE_MASK = CACHE_SIZE - 1;
+
+    private static final int ESTIMATED_ARGUMENT_LENGTH = 16;
+
+    private static final MessageTemplate[] TEMPLATES = new MessageTemplate[CACHE_SIZE];
+
+    private final String template;
+
+    private final int[] placeholders;
+
+    private MessageTemplate(final String template, final int[] placeholders) {
+
+        this.template = template;
+        this.placeholders = placeholders;
+    }
+
+    /**
+     * Formats the given template with the given arguments.
+     *
+     * @param template a non-null message template
+     * @param args     the arguments to be substituted into the template, may be null
+     *
+     * @return the formatted message
+     */
+    static String format(final String template, final Object... args) {
+
+        final int slot = System.identityHashCode(template) & CACHE_MASK;
+        MessageTemplate parsed = TEMPLATES[slot];
+
+        if (parsed == null || parsed.template != template) {
+            parsed = parse(template);
+            TEMPLATES[slot] = parsed;
+        }
+
+        return parsed.format(args);
+    }
+
+    /**
+     * Parses the given template without caching it.
+     *
+     * @param template a non-null message template
+     *
+     * @return the parsed template
+     */
+    static MessageTemplate parse(final String template) {
+
+        int[] positions = new int[4];
+        int count = 0;
+        int index = template.indexOf(PLACEHOLDER);
+
+        while (index != -1) {
+
+            if (count == positions.length) {
+                positions = Arrays.copyOf(positions, count << 1);
+            }
+
+            positions[count++] = index;
+            index = template.indexOf(PLACEHOLDER, index + PLACEHOLDER.length());
+        }
+
+        return new MessageTemplate(template, Arrays.copyOf(positions, count));
+    }
+
+    /**
+     * Substitutes the given arguments into this template in a single pass.
+     *
+     * @param args the arguments to be substituted into the template, may be null
+     *
+     * @return the formatted message
+     */
+    String format(final Object... args) {
+
+        final int argCount = args == null ? 0 : args.length;
+        final StringBuilder builder = new StringBuilder(template.length()
+                                                        + ESTIMATED_ARGUMENT_LENGTH * argCount);
+        int start = 0;
+        int i = 0;
+
+        for (; i < argCount && i < placeholders.length; i++) {
+            builder.append(template, start, placeholders[i]).append(args[i]);
+            start = placeholders[i] + PLACEHOLDER.length();
+        }
+
+        builder.append(template, start, template.length());
+
+        if (i < argCount) {
+            builder.append(" [").append(args[i++]);
+
+            while (i < argCount) {
+                builder.append(", ").append(args[i++]);
+            }
+
+            builder.append(']');
+        }
+
+        return builder.toString();
+    }
+}
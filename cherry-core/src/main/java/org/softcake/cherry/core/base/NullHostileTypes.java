@@ -0,0 +1,141 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * A registry of collection and map types that can never contain null, neither as element nor as
+ * key or value. {@link PreCheck#noNullElements(Iterable)} and {@link
+ * PreCheck#noNullElements(Map)} trust these types and skip the scan of their elements.
+ *
+ * <p>Registered are Guava's immutable collections and maps, {@link EnumSet} and, on Java 9 and
+ * later, the collections and maps of {@code Set.of}, {@code Map.of} and {@code List.of} with up
+ * to two elements. Lists of {@code List.of} with more elements share their class with the lists
+ * of {@code Stream.toList()}, which may contain null, and are still scanned.
+ *
+ * <p>A registered type covers its subtypes. Whether a class is null-hostile is resolved once per
+ * class and cached in a {@link ClassValue}; registering a type invalidates the cache.
+ *
+ * @author softcake.org
+ */
+public final class NullHostileTypes {
+
+    private static final String[] JDK_TYPES = {"java.util.ImmutableCollections$List12",
+                                               "java.util.ImmutableCollections$Set12",
+                                               "java.util.ImmutableCollections$SetN",
+                                               "java.util.ImmutableCollections$Map1",
+                                               "java.util.ImmutableCollections$MapN"};
+
+    private static final Set<Class<?>> TYPES = new CopyOnWriteArraySet<>();
+
+    private static final ClassValue<Resolution> RESOLUTIONS = new ClassValue<Resolution>() {
+        @Override
+        protected Resolution computeValue(final Class<?> type) {
+
+            return resolve(type);
+        }
+    };
+
+    private static volatile int generation;
+
+    static {
+        TYPES.add(ImmutableCollection.class);
+        TYPES.add(ImmutableMap.class);
+        TYPES.add(EnumSet.class);
+
+        for (final String name : JDK_TYPES) {
+            try {
+                TYPES.add(Class.forName(name, false, null));
+            } catch (final ClassNotFoundException e) {
+                // Java 8, or a later release that renamed the implementation
+            }
+        }
+    }
+
+    private NullHostileTypes() {
+
+        throw new IllegalStateException("No instances!");
+    }
+
+    /**
+     * Registers a type whose instances, and the instances of its subtypes, never contain null.
+     *
+     * <p>Registering a type whose instances may contain null makes the element checks pass for
+     * them, so only types enforcing this in all their implementations should be registered.
+     *
+     * @param type the null-hostile collection or map type
+     *
+     * @throws IllegalArgumentException if {@code type} is null
+     */
+    public static void register(final Class<?> type) {
+
+        if (TYPES.add(PreCheck.parameterNotNull(type, "type"))) {
+            generation++;
+        }
+    }
+
+    /**
+     * Tests whether the instances of a class can never contain null.
+     *
+     * @param type the class of a collection or map
+     *
+     * @return true if {@code type} is a registered type or a subtype of one, false otherwise
+     */
+    public static boolean isNullHostile(final Class<?> type) {
+
+        Resolution resolution = RESOLUTIONS.get(type);
+
+        if (resolution.generation != generation) {
+            RESOLUTIONS.remove(type);
+            resolution = RESOLUTIONS.get(type);
+        }
+
+        return resolution.nullHostile;
+    }
+
+    private static Resolution resolve(final Class<?> type) {
+
+        // read before the types, so a concurrent registration leaves this resolution stale
+        final int current = generation;
+        boolean nullHostile = false;
+
+        for (final Class<?> registered : TYPES) {
+            nullHostile |= registered.isAssignableFrom(type);
+        }
+
+        return new Resolution(current, nullHostile);
+    }
+
+    private static final class Resolution {
+
+        private final int generation;
+
+        private final boolean nullHostile;
+
+        private Resolution(final int generation, final boolean nullHostile) {
+
+            this.generation = generation;
+            this.nullHostile = nullHostile;
+        }
+    }
+}
@@ -16,9 +16,15 @@
 
 package org.softcake.cherry.core.base;
 
-import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 /**
  * PreCheck Class.
@@ -27,6 +33,62 @@ import java.util.Map;
  */
 public final class PreCheck {
 
+    static final String NOT_NULL_MESSAGE = "must not be null!";
+
+    static final String NOT_NULL_OR_EMPTY_MESSAGE = "must not be null or empty!";
+
+    static final String EXPRESSION_MESSAGE = "expression not valid!";
+
+    static final String NOT_BLANK_MESSAGE = "must not be null or blank!";
+
+    private static final String NOT_NULL_CHECK = "notNull";
+
+    private static final String NOT_NULL_OR_EMPTY_CHECK = "notNullOrEmpty";
+
+    private static final String PARAMETER_NOT_NULL_CHECK = "parameterNotNull";
+
+    private static final String PARAMETER_NOT_NULL_OR_EMPTY_CHECK = "parameterNotNullOrEmpty";
+
+    private static final String EXPRESSION_CHECK = "expression";
+
+    private static final int NOT_FOUND = -1;
+
+    private static final String STATE_MESSAGE = "state not valid!";
+
+    private static final String LOCK_MESSAGE = "lock must be held by the current thread!";
+
+    private static final String POSITIVE_MESSAGE = "must be positive, but was ";
+
+    private static final String NON_NEGATIVE_MESSAGE = "must not be negative, but was ";
+
+    private static final String FINITE_MESSAGE = "must be finite, but was ";
+
+    private static final String NOT_NAN_MESSAGE = "must not be NaN, but was ";
+
+    private static final String DIRECT_MESSAGE = "must be a direct buffer!";
+
+    private static final String READ_ONLY_MESSAGE = "must not be read-only!";
+
+    private static final String MALFORMED_MESSAGE
+            = "must be well-formed UTF-8, but is malformed at index ";
+
+    private static final String ASCII_MESSAGE
+            = "must contain only ASCII characters, but has a non-ASCII character at index ";
+
+    private static final String MATCHES_MESSAGE = "must match '";
+
+    private static final String NULL_ELEMENT_MESSAGE
+            = "must not contain null elements, found null at index ";
+
+    private static final String NULL_ENTRY_MESSAGE
+            = "must not contain null keys or values, found null at entry ";
+
+    private static final String EMPTY_ELEMENT_MESSAGE
+            = "must not contain null or empty elements, found null or empty at index ";
+
+    private static final String EMPTY_ENTRY_MESSAGE
+            = "must not contain null or empty keys or values, found null or empty at entry ";
+
     private PreCheck() {
 
         throw new IllegalStateException("No instances!");
@@ -46,10 +108,11 @@ public final class PreCheck {
 
         if (obj == null) {
 
-            throw new IllegalArgumentException("must not be null!");
+            throw failure(NOT_NULL_CHECK, NOT_NULL_MESSAGE);
 
         }
 
+        sample(NOT_NULL_CHECK);
         return obj;
     }
 
@@ -68,10 +131,94 @@ public final class PreCheck {
 
         if (obj == null) {
 
-            throw new IllegalArgumentException(errorMessage);
+            throw failure(NOT_NULL_CHECK, errorMessage);
+
+        }
+
+        sample(NOT_NULL_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null.
+     *
+     * @param <T>       the type
+     * @param obj       an object reference
+     * @param exception the preallocated exception to throw if the check fails, see {@link
+     *                  PreCheckException#stackless(String)}
+     *
+     * @return the non-null reference that was validated
+     *
+     * @throws PreCheckException if {@code obj} is null
+     */
+    public static <T> T notNull(final T obj, final PreCheckException exception) {
+
+        if (obj == null) {
+
+            throw failure(NOT_NULL_CHECK, exception);
+
+        }
+
+        sample(NOT_NULL_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null.
+     *
+     * <p>The message is built lazily, a non-capturing lambda or a method reference does not
+     * allocate if the check passes.
+     *
+     * @param <T>                  the type
+     * @param obj                  an object reference
+     * @param errorMessageSupplier supplies the exception message to use if the check fails; it is
+     *                             only invoked if the check fails
+     *
+     * @return the non-null reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
+     */
+    public static <T> T notNull(final T obj, final Supplier<String> errorMessageSupplier) {
+
+        if (obj == null) {
+
+            throw failure(NOT_NULL_CHECK, getErrorMessage(errorMessageSupplier));
+
+        }
+
+        sample(NOT_NULL_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null.
+     *
+     * <p>The message is built lazily from the given argument, which lets the function stay a
+     * non-capturing lambda that does not allocate if the check passes.
+     *
+     * @param <T>                  the type
+     * @param <A>                  the type of the message argument
+     * @param obj                  an object reference
+     * @param errorMessageFunction computes the exception message from {@code errorMessageArg} if
+     *                             the check fails; it is only invoked if the check fails
+     * @param errorMessageArg      the argument passed to {@code errorMessageFunction}
+     *
+     * @return the non-null reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
+     */
+    public static <T, A> T notNull(final T obj,
+                                   final Function<? super A, String> errorMessageFunction,
+                                   final A errorMessageArg) {
+
+        if (obj == null) {
+
+            throw failure(NOT_NULL_CHECK, getErrorMessage(errorMessageFunction,
+                                                          errorMessageArg));
 
         }
 
+        sample(NOT_NULL_CHECK);
         return obj;
     }
 
@@ -99,256 +246,4603 @@ public final class PreCheck {
 
         if (obj == null) {
 
-            throw new IllegalArgumentException(format(errorMessage, errorMessageArgs));
+            throw failure(NOT_NULL_CHECK, format(errorMessage, errorMessageArgs));
 
         }
 
+        sample(NOT_NULL_CHECK);
         return obj;
     }
 
     /**
-     * Ensures that an object reference passed as a parameter to the calling method is not null and
-     * not empty.
+     * Ensures that an object reference passed as a parameter to the calling method is not null.
      *
-     * @param <T> the type
-     * @param obj an object reference
+     * <p>See {@link #notNull(Object, String, Object...)} for details.
      *
-     * @return the non-null and not empty reference that was validated
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
      *
-     * @throws IllegalArgumentException if {@code obj} is null or empty
+     * @return the non-null reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
      */
-    public static <T> T notNullOrEmpty(final T obj) {
+    public static <T> T notNull(final T obj, final String errorMessage, final char p1) {
 
-        if (isParamNullOrEmpty(obj)) {
+        if (obj == null) {
 
-            throw new IllegalArgumentException("must not be null or empty!");
+            throw failure(NOT_NULL_CHECK, format(errorMessage, p1));
 
         }
 
+        sample(NOT_NULL_CHECK);
         return obj;
     }
 
     /**
-     * Ensures that an object reference passed as a parameter to the calling method is not null and
-     * not empty.
+     * Ensures that an object reference passed as a parameter to the calling method is not null.
+     *
+     * <p>See {@link #notNull(Object, String, Object...)} for details.
      *
      * @param <T>          the type
      * @param obj          an object reference
-     * @param errorMessage the exception message to use if the check fails
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
      *
-     * @return the non-null and not empty reference that was validated
+     * @return the non-null reference that was validated
      *
-     * @throws IllegalArgumentException if {@code obj} is null or empty
+     * @throws IllegalArgumentException if {@code obj} is null
      */
-    public static <T> T notNullOrEmpty(final T obj, final String errorMessage) {
+    public static <T> T notNull(final T obj, final String errorMessage, final int p1) {
 
-        if (isParamNullOrEmpty(obj)) {
+        if (obj == null) {
 
-            throw new IllegalArgumentException(errorMessage);
+            throw failure(NOT_NULL_CHECK, format(errorMessage, p1));
 
         }
 
+        sample(NOT_NULL_CHECK);
         return obj;
     }
 
     /**
-     * Ensures that an object reference passed as a parameter to the calling method is not null and
-     * not empty.
+     * Ensures that an object reference passed as a parameter to the calling method is not null.
      *
-     * @param <T>              the type
-     * @param obj              an object reference
-     * @param errorMessage     a template for the exception message should the check fail. The
-     *                         message is formed by replacing each {@code %s} placeholder in the
-     *                         template with an argument. These are matched by position - the first
-     *                         {@code %s} gets {@code errorMessageArgs[0]}, etc. Unmatched arguments
-     *                         will be appended to the formatted message in square braces. Unmatched
-     *                         placeholders will be left as-is.
-     * @param errorMessageArgs the arguments to be substituted into the message template. Arguments
-     *                         are converted to strings using {@link String#valueOf(Object)}.
+     * <p>See {@link #notNull(Object, String, Object...)} for details.
      *
-     * @return the non-null and not empty reference that was validated
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
      *
-     * @throws IllegalArgumentException if {@code obj} is null or empty
+     * @return the non-null reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
      */
-    public static <T> T notNullOrEmpty(final T obj,
-                                       final String errorMessage,
-                                       final Object... errorMessageArgs) {
+    public static <T> T notNull(final T obj, final String errorMessage, final long p1) {
 
-        if (isParamNullOrEmpty(obj)) {
+        if (obj == null) {
 
-            throw new IllegalArgumentException(format(errorMessage, errorMessageArgs));
+            throw failure(NOT_NULL_CHECK, format(errorMessage, p1));
 
         }
 
+        sample(NOT_NULL_CHECK);
         return obj;
     }
 
     /**
      * Ensures that an object reference passed as a parameter to the calling method is not null.
      *
-     * @param <T>           the type
-     * @param obj           an object reference
-     * @param parameterName the parameter name to use in exception message if the check fails.
-     *                      Message: "parameter 'parameterName' must not be null!"
+     * <p>See {@link #notNull(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
      *
      * @return the non-null reference that was validated
      *
      * @throws IllegalArgumentException if {@code obj} is null
      */
-    public static <T> T parameterNotNull(final T obj, final String parameterName) {
+    public static <T> T notNull(final T obj, final String errorMessage, final Object p1) {
 
         if (obj == null) {
 
-            throw new IllegalArgumentException("parameter '"
-                                               + parameterName
-                                               + "'"
-                                               + " must not be null!");
+            throw failure(NOT_NULL_CHECK, format(errorMessage, p1));
 
         }
+
+        sample(NOT_NULL_CHECK);
         return obj;
     }
 
     /**
-     * Ensures that an object reference passed as a parameter to the calling method is not null and
-     * not empty
+     * Ensures that an object reference passed as a parameter to the calling method is not null.
      *
-     * @param <T>           the type
-     * @param obj           an object reference
-     * @param parameterName the parameter name to use in exception message if the check fails.
-     *                      Message: "parameter 'parameterName' must not be null or empty"
+     * <p>See {@link #notNull(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
      *
      * @return the non-null reference that was validated
      *
-     * @throws IllegalArgumentException if {@code obj} is null or empty
+     * @throws IllegalArgumentException if {@code obj} is null
      */
-    public static <T> T parameterNotNullOrEmpty(final T obj, final String parameterName) {
+    public static <T> T notNull(final T obj,
+                                final String errorMessage,
+                                final char p1,
+                                final char p2) {
 
-        if (isParamNullOrEmpty(obj)) {
+        if (obj == null) {
 
-            throw new IllegalArgumentException("parameter '"
-                                               + parameterName
-                                               + "'"
-                                               + " must not be null or empty!");
+            throw failure(NOT_NULL_CHECK, format(errorMessage, p1, p2));
 
         }
 
+        sample(NOT_NULL_CHECK);
         return obj;
     }
 
     /**
-     * Ensures the truth that an object reference passed as a parameter to the calling method is
-     * null or empty
+     * Ensures that an object reference passed as a parameter to the calling method is not null.
      *
-     * @param <T> the type
-     * @param obj an object reference (Objects, Arrays, Collections, String etc. and also Arrays of
-     *            primitive types)
+     * <p>See {@link #notNull(Object, String, Object...)} for details.
      *
-     * @return the true if the given object is null or empty, false otherwise
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
      */
-    public static <T> boolean isParamNullOrEmpty(final T obj) {
-
-        boolean result;
+    public static <T> T notNull(final T obj,
+                                final String errorMessage,
+                                final char p1,
+                                final int p2) {
 
         if (obj == null) {
-            result = true;
 
-        } else if (obj.getClass().isArray()) {
-            result = Array.getLength(obj) == 0;
+            throw failure(NOT_NULL_CHECK, format(errorMessage, p1, p2));
 
-        } else if (obj instanceof String) {
-            result = ((String) obj).isEmpty();
-
-        } else if (obj instanceof Collection) {
-            result = ((Collection) obj).isEmpty();
+        }
 
-        } else if (obj instanceof Map) {
-            result = ((Map) obj).isEmpty();
+        sample(NOT_NULL_CHECK);
+        return obj;
+    }
 
-        } else if (obj instanceof CharSequence) {
-            result = ((CharSequence) obj).length() == 0;
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null.
+     *
+     * <p>See {@link #notNull(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
+     */
+    public static <T> T notNull(final T obj,
+                                final String errorMessage,
+                                final char p1,
+                                final long p2) {
 
-        } else {
+        if (obj == null) {
 
-            throw new IllegalArgumentException("parameter must be type Object");
+            throw failure(NOT_NULL_CHECK, format(errorMessage, p1, p2));
 
         }
 
-        return result;
-
+        sample(NOT_NULL_CHECK);
+        return obj;
     }
 
     /**
-     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     * Ensures that an object reference passed as a parameter to the calling method is not null.
      *
-     * @param expression a boolean expression
+     * <p>See {@link #notNull(Object, String, Object...)} for details.
      *
-     * @throws IllegalArgumentException if {@code expression} is false
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
      */
-    public static void expression(final boolean expression) {
+    public static <T> T notNull(final T obj,
+                                final String errorMessage,
+                                final char p1,
+                                final Object p2) {
 
-        if (!expression) {
+        if (obj == null) {
 
-            throw new IllegalArgumentException("expression not valid!");
+            throw failure(NOT_NULL_CHECK, format(errorMessage, p1, p2));
 
         }
+
+        sample(NOT_NULL_CHECK);
+        return obj;
     }
 
     /**
-     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     * Ensures that an object reference passed as a parameter to the calling method is not null.
      *
-     * @param expression   a boolean expression
-     * @param errorMessage the exception message to use if the check fails; will be converted to a
-     *                     string using {@link String#valueOf(Object)}
+     * <p>See {@link #notNull(Object, String, Object...)} for details.
      *
-     * @throws IllegalArgumentException if {@code expression} is false
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
      */
-    public static void expression(final boolean expression, final Object errorMessage) {
+    public static <T> T notNull(final T obj,
+                                final String errorMessage,
+                                final int p1,
+                                final char p2) {
 
-        if (!expression) {
+        if (obj == null) {
 
-            throw new IllegalArgumentException(getErrorMessage(errorMessage));
+            throw failure(NOT_NULL_CHECK, format(errorMessage, p1, p2));
 
         }
+
+        sample(NOT_NULL_CHECK);
+        return obj;
     }
 
     /**
-     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     * Ensures that an object reference passed as a parameter to the calling method is not null.
      *
-     * @param expression       a boolean expression
-     * @param errorMessage     a template for the exception message should the check fail. The
-     *                         message is formed by replacing each {@code %s} placeholder in the
-     *                         template with an argument. These are matched by position - the first
-     *                         {@code %s} gets {@code errorMessageArgs[0]}, etc. Unmatched arguments
-     *                         will be appended to the formatted message in square braces. Unmatched
-     *                         placeholders will be left as-is.
-     * @param errorMessageArgs the arguments to be substituted into the message template. Arguments
-     *                         are converted to strings using {@link String#valueOf(Object)}.
+     * <p>See {@link #notNull(Object, String, Object...)} for details.
      *
-     * @throws IllegalArgumentException if {@code expression} is false or if the check fails and
-     *                                  either {@code errorMessageTemplate} or {@code
-     *                                  errorMessageArgs} is null (don't let this happen)
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
      */
-    public static void expression(final boolean expression,
-                                  final String errorMessage,
-                                  final Object... errorMessageArgs) {
+    public static <T> T notNull(final T obj,
+                                final String errorMessage,
+                                final int p1,
+                                final int p2) {
 
-        if (!expression) {
+        if (obj == null) {
 
-            throw new IllegalArgumentException(format(errorMessage, errorMessageArgs));
+            throw failure(NOT_NULL_CHECK, format(errorMessage, p1, p2));
 
         }
+
+        sample(NOT_NULL_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null.
+     *
+     * <p>See {@link #notNull(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
+     */
+    public static <T> T notNull(final T obj,
+                                final String errorMessage,
+                                final int p1,
+                                final long p2) {
+
+        if (obj == null) {
+
+            throw failure(NOT_NULL_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null.
+     *
+     * <p>See {@link #notNull(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
+     */
+    public static <T> T notNull(final T obj,
+                                final String errorMessage,
+                                final int p1,
+                                final Object p2) {
+
+        if (obj == null) {
+
+            throw failure(NOT_NULL_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null.
+     *
+     * <p>See {@link #notNull(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
+     */
+    public static <T> T notNull(final T obj,
+                                final String errorMessage,
+                                final long p1,
+                                final char p2) {
+
+        if (obj == null) {
+
+            throw failure(NOT_NULL_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null.
+     *
+     * <p>See {@link #notNull(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
+     */
+    public static <T> T notNull(final T obj,
+                                final String errorMessage,
+                                final long p1,
+                                final int p2) {
+
+        if (obj == null) {
+
+            throw failure(NOT_NULL_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null.
+     *
+     * <p>See {@link #notNull(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
+     */
+    public static <T> T notNull(final T obj,
+                                final String errorMessage,
+                                final long p1,
+                                final long p2) {
+
+        if (obj == null) {
+
+            throw failure(NOT_NULL_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null.
+     *
+     * <p>See {@link #notNull(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
+     */
+    public static <T> T notNull(final T obj,
+                                final String errorMessage,
+                                final long p1,
+                                final Object p2) {
+
+        if (obj == null) {
+
+            throw failure(NOT_NULL_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null.
+     *
+     * <p>See {@link #notNull(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
+     */
+    public static <T> T notNull(final T obj,
+                                final String errorMessage,
+                                final Object p1,
+                                final char p2) {
+
+        if (obj == null) {
+
+            throw failure(NOT_NULL_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null.
+     *
+     * <p>See {@link #notNull(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
+     */
+    public static <T> T notNull(final T obj,
+                                final String errorMessage,
+                                final Object p1,
+                                final int p2) {
+
+        if (obj == null) {
+
+            throw failure(NOT_NULL_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null.
+     *
+     * <p>See {@link #notNull(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
+     */
+    public static <T> T notNull(final T obj,
+                                final String errorMessage,
+                                final Object p1,
+                                final long p2) {
+
+        if (obj == null) {
+
+            throw failure(NOT_NULL_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null.
+     *
+     * <p>See {@link #notNull(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
+     */
+    public static <T> T notNull(final T obj,
+                                final String errorMessage,
+                                final Object p1,
+                                final Object p2) {
+
+        if (obj == null) {
+
+            throw failure(NOT_NULL_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null.
+     *
+     * <p>See {@link #notNull(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     * @param p3           the third argument to be substituted into the message template
+     *
+     * @return the non-null reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
+     */
+    public static <T> T notNull(final T obj,
+                                final String errorMessage,
+                                final Object p1,
+                                final Object p2,
+                                final Object p3) {
+
+        if (obj == null) {
+
+            throw failure(NOT_NULL_CHECK, format(errorMessage, p1, p2, p3));
+
+        }
+
+        sample(NOT_NULL_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null.
+     *
+     * <p>See {@link #notNull(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     * @param p3           the third argument to be substituted into the message template
+     * @param p4           the fourth argument to be substituted into the message template
+     *
+     * @return the non-null reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
+     */
+    public static <T> T notNull(final T obj,
+                                final String errorMessage,
+                                final Object p1,
+                                final Object p2,
+                                final Object p3,
+                                final Object p4) {
+
+        if (obj == null) {
+
+            throw failure(NOT_NULL_CHECK, format(errorMessage, p1, p2, p3, p4));
+
+        }
+
+        sample(NOT_NULL_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * @param <T> the type
+     * @param obj an object reference
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, NOT_NULL_OR_EMPTY_MESSAGE);
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage the exception message to use if the check fails
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj, final String errorMessage) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, errorMessage);
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * @param <T>       the type
+     * @param obj       an object reference
+     * @param exception the preallocated exception to throw if the check fails, see {@link
+     *                  PreCheckException#stackless(String)}
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws PreCheckException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj, final PreCheckException exception) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, exception);
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * <p>The message is built lazily, a non-capturing lambda or a method reference does not
+     * allocate if the check passes.
+     *
+     * @param <T>                  the type
+     * @param obj                  an object reference
+     * @param errorMessageSupplier supplies the exception message to use if the check fails; it is
+     *                             only invoked if the check fails
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj, final Supplier<String> errorMessageSupplier) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, getErrorMessage(errorMessageSupplier));
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * <p>The message is built lazily from the given argument, which lets the function stay a
+     * non-capturing lambda that does not allocate if the check passes.
+     *
+     * @param <T>                  the type
+     * @param <A>                  the type of the message argument
+     * @param obj                  an object reference
+     * @param errorMessageFunction computes the exception message from {@code errorMessageArg} if
+     *                             the check fails; it is only invoked if the check fails
+     * @param errorMessageArg      the argument passed to {@code errorMessageFunction}
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T, A> T notNullOrEmpty(final T obj,
+                                          final Function<? super A, String> errorMessageFunction,
+                                          final A errorMessageArg) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, getErrorMessage(errorMessageFunction,
+                                                                   errorMessageArg));
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * @param <T>              the type
+     * @param obj              an object reference
+     * @param errorMessage     a template for the exception message should the check fail. The
+     *                         message is formed by replacing each {@code %s} placeholder in the
+     *                         template with an argument. These are matched by position - the first
+     *                         {@code %s} gets {@code errorMessageArgs[0]}, etc. Unmatched arguments
+     *                         will be appended to the formatted message in square braces. Unmatched
+     *                         placeholders will be left as-is.
+     * @param errorMessageArgs the arguments to be substituted into the message template. Arguments
+     *                         are converted to strings using {@link String#valueOf(Object)}.
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj,
+                                       final String errorMessage,
+                                       final Object... errorMessageArgs) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, format(errorMessage, errorMessageArgs));
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * <p>See {@link #notNullOrEmpty(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj, final String errorMessage, final char p1) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, format(errorMessage, p1));
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * <p>See {@link #notNullOrEmpty(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj, final String errorMessage, final int p1) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, format(errorMessage, p1));
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * <p>See {@link #notNullOrEmpty(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj, final String errorMessage, final long p1) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, format(errorMessage, p1));
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * <p>See {@link #notNullOrEmpty(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj, final String errorMessage, final Object p1) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, format(errorMessage, p1));
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * <p>See {@link #notNullOrEmpty(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj,
+                                       final String errorMessage,
+                                       final char p1,
+                                       final char p2) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * <p>See {@link #notNullOrEmpty(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj,
+                                       final String errorMessage,
+                                       final char p1,
+                                       final int p2) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * <p>See {@link #notNullOrEmpty(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj,
+                                       final String errorMessage,
+                                       final char p1,
+                                       final long p2) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * <p>See {@link #notNullOrEmpty(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj,
+                                       final String errorMessage,
+                                       final char p1,
+                                       final Object p2) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * <p>See {@link #notNullOrEmpty(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj,
+                                       final String errorMessage,
+                                       final int p1,
+                                       final char p2) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * <p>See {@link #notNullOrEmpty(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj,
+                                       final String errorMessage,
+                                       final int p1,
+                                       final int p2) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * <p>See {@link #notNullOrEmpty(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj,
+                                       final String errorMessage,
+                                       final int p1,
+                                       final long p2) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * <p>See {@link #notNullOrEmpty(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj,
+                                       final String errorMessage,
+                                       final int p1,
+                                       final Object p2) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * <p>See {@link #notNullOrEmpty(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj,
+                                       final String errorMessage,
+                                       final long p1,
+                                       final char p2) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * <p>See {@link #notNullOrEmpty(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj,
+                                       final String errorMessage,
+                                       final long p1,
+                                       final int p2) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * <p>See {@link #notNullOrEmpty(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj,
+                                       final String errorMessage,
+                                       final long p1,
+                                       final long p2) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * <p>See {@link #notNullOrEmpty(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj,
+                                       final String errorMessage,
+                                       final long p1,
+                                       final Object p2) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * <p>See {@link #notNullOrEmpty(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj,
+                                       final String errorMessage,
+                                       final Object p1,
+                                       final char p2) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * <p>See {@link #notNullOrEmpty(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj,
+                                       final String errorMessage,
+                                       final Object p1,
+                                       final int p2) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * <p>See {@link #notNullOrEmpty(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj,
+                                       final String errorMessage,
+                                       final Object p1,
+                                       final long p2) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * <p>See {@link #notNullOrEmpty(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj,
+                                       final String errorMessage,
+                                       final Object p1,
+                                       final Object p2) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * <p>See {@link #notNullOrEmpty(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     * @param p3           the third argument to be substituted into the message template
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj,
+                                       final String errorMessage,
+                                       final Object p1,
+                                       final Object p2,
+                                       final Object p3) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, format(errorMessage, p1, p2, p3));
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty.
+     *
+     * <p>See {@link #notNullOrEmpty(Object, String, Object...)} for details.
+     *
+     * @param <T>          the type
+     * @param obj          an object reference
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     * @param p3           the third argument to be substituted into the message template
+     * @param p4           the fourth argument to be substituted into the message template
+     *
+     * @return the non-null and not empty reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T notNullOrEmpty(final T obj,
+                                       final String errorMessage,
+                                       final Object p1,
+                                       final Object p2,
+                                       final Object p3,
+                                       final Object p4) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(NOT_NULL_OR_EMPTY_CHECK, format(errorMessage, p1, p2, p3, p4));
+
+        }
+
+        sample(NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null.
+     *
+     * @param <T>           the type
+     * @param obj           an object reference
+     * @param parameterName the parameter name to use in exception message if the check fails.
+     *                      Message: "parameter 'parameterName' must not be null!"
+     *
+     * @return the non-null reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null
+     */
+    public static <T> T parameterNotNull(final T obj, final String parameterName) {
+
+        if (obj == null) {
+
+            throw failure(PARAMETER_NOT_NULL_CHECK, parameterName, NOT_NULL_MESSAGE);
+
+        }
+
+        sample(PARAMETER_NOT_NULL_CHECK);
+        return obj;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling method is not null and
+     * not empty
+     *
+     * @param <T>           the type
+     * @param obj           an object reference
+     * @param parameterName the parameter name to use in exception message if the check fails.
+     *                      Message: "parameter 'parameterName' must not be null or empty"
+     *
+     * @return the non-null reference that was validated
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or empty
+     */
+    public static <T> T parameterNotNullOrEmpty(final T obj, final String parameterName) {
+
+        if (isParamNullOrEmpty(obj)) {
+
+            throw failure(PARAMETER_NOT_NULL_OR_EMPTY_CHECK,
+                          parameterName,
+                          NOT_NULL_OR_EMPTY_MESSAGE);
+
+        }
+
+        sample(PARAMETER_NOT_NULL_OR_EMPTY_CHECK);
+        return obj;
+    }
+
+    /**
+     * Creates the exception of a failed {@link #parameterNotNull(Object, String)} check, for code
+     * that tests the parameter itself, e.g. the checks generated by the cherry-processor.
+     *
+     * <p>The failure is counted by {@link PreCheckStatistics} and published to a started {@link
+     * FailureEventSink} like a failure of the check itself.
+     *
+     * @param parameterName the parameter name to use in exception message.
+     *                      Message: "parameter 'parameterName' must not be null!"
+     *
+     * @return the exception to throw
+     */
+    public static PreCheckException parameterNullFailure(final String parameterName) {
+
+        return failure(PARAMETER_NOT_NULL_CHECK, parameterName, NOT_NULL_MESSAGE);
+    }
+
+    /**
+     * Creates the exception of a failed {@link #parameterNotNullOrEmpty(Object, String)} check,
+     * for code that tests the parameter itself, e.g. the checks generated by the cherry-processor.
+     *
+     * <p>The failure is counted by {@link PreCheckStatistics} and published to a started {@link
+     * FailureEventSink} like a failure of the check itself.
+     *
+     * @param parameterName the parameter name to use in exception message.
+     *                      Message: "parameter 'parameterName' must not be null or empty!"
+     *
+     * @return the exception to throw
+     */
+    public static PreCheckException parameterNullOrEmptyFailure(final String parameterName) {
+
+        return failure(PARAMETER_NOT_NULL_OR_EMPTY_CHECK, parameterName, NOT_NULL_OR_EMPTY_MESSAGE);
+    }
+
+    /**
+     * Ensures that a numeric value passed as a parameter to the calling method is positive.
+     *
+     * @param value the value to check
+     *
+     * @return the value that was validated
+     *
+     * @throws IllegalArgumentException if {@code value} is zero or negative
+     */
+    public static int positive(final int value) {
+
+        if (value <= 0) {
+
+            throw numberException(null, POSITIVE_MESSAGE, value);
+
+        }
+        return value;
+    }
+
+    /**
+     * Ensures that a numeric value passed as a parameter to the calling method is positive.
+     *
+     * @param value the value to check
+     * @param parameterName the parameter name to use in the message if the check fails.
+     *                      Message: "parameter 'parameterName' must be positive, but was value!"
+     *
+     * @return the value that was validated
+     *
+     * @throws IllegalArgumentException if {@code value} is zero or negative
+     */
+    public static int positive(final int value, final String parameterName) {
+
+        if (value <= 0) {
+
+            throw numberException(parameterName, POSITIVE_MESSAGE, value);
+
+        }
+        return value;
+    }
+
+    /**
+     * Ensures that a numeric value passed as a parameter to the calling method is positive.
+     *
+     * @param value the value to check
+     *
+     * @return the value that was validated
+     *
+     * @throws IllegalArgumentException if {@code value} is zero or negative
+     */
+    public static long positive(final long value) {
+
+        if (value <= 0L) {
+
+            throw numberException(null, POSITIVE_MESSAGE, value);
+
+        }
+        return value;
+    }
+
+    /**
+     * Ensures that a numeric value passed as a parameter to the calling method is positive.
+     *
+     * @param value the value to check
+     * @param parameterName the parameter name to use in the message if the check fails.
+     *                      Message: "parameter 'parameterName' must be positive, but was value!"
+     *
+     * @return the value that was validated
+     *
+     * @throws IllegalArgumentException if {@code value} is zero or negative
+     */
+    public static long positive(final long value, final String parameterName) {
+
+        if (value <= 0L) {
+
+            throw numberException(parameterName, POSITIVE_MESSAGE, value);
+
+        }
+        return value;
+    }
+
+    /**
+     * Ensures that a numeric value passed as a parameter to the calling method is positive.
+     *
+     * @param value the value to check
+     *
+     * @return the value that was validated
+     *
+     * @throws IllegalArgumentException if {@code value} is zero or negative or NaN
+     */
+    public static double positive(final double value) {
+
+        if (!(value > 0.0)) {
+
+            throw numberException(null, POSITIVE_MESSAGE, value);
+
+        }
+        return value;
+    }
+
+    /**
+     * Ensures that a numeric value passed as a parameter to the calling method is positive.
+     *
+     * @param value the value to check
+     * @param parameterName the parameter name to use in the message if the check fails.
+     *                      Message: "parameter 'parameterName' must be positive, but was value!"
+     *
+     * @return the value that was validated
+     *
+     * @throws IllegalArgumentException if {@code value} is zero or negative or NaN
+     */
+    public static double positive(final double value, final String parameterName) {
+
+        if (!(value > 0.0)) {
+
+            throw numberException(parameterName, POSITIVE_MESSAGE, value);
+
+        }
+        return value;
+    }
+
+    /**
+     * Ensures that a numeric value passed as a parameter to the calling method is not
+     * negative.
+     *
+     * @param value the value to check
+     *
+     * @return the value that was validated
+     *
+     * @throws IllegalArgumentException if {@code value} is negative
+     */
+    public static int nonNegative(final int value) {
+
+        if (value < 0) {
+
+            throw numberException(null, NON_NEGATIVE_MESSAGE, value);
+
+        }
+        return value;
+    }
+
+    /**
+     * Ensures that a numeric value passed as a parameter to the calling method is not
+     * negative.
+     *
+     * @param value the value to check
+     * @param parameterName the parameter name to use in the message if the check fails.
+     *                      Message: "parameter 'parameterName' must not be negative, but was
+     *                      value!"
+     *
+     * @return the value that was validated
+     *
+     * @throws IllegalArgumentException if {@code value} is negative
+     */
+    public static int nonNegative(final int value, final String parameterName) {
+
+        if (value < 0) {
+
+            throw numberException(parameterName, NON_NEGATIVE_MESSAGE, value);
+
+        }
+        return value;
+    }
+
+    /**
+     * Ensures that a numeric value passed as a parameter to the calling method is not
+     * negative.
+     *
+     * @param value the value to check
+     *
+     * @return the value that was validated
+     *
+     * @throws IllegalArgumentException if {@code value} is negative
+     */
+    public static long nonNegative(final long value) {
+
+        if (value < 0L) {
+
+            throw numberException(null, NON_NEGATIVE_MESSAGE, value);
+
+        }
+        return value;
+    }
+
+    /**
+     * Ensures that a numeric value passed as a parameter to the calling method is not
+     * negative.
+     *
+     * @param value the value to check
+     * @param parameterName the parameter name to use in the message if the check fails.
+     *                      Message: "parameter 'parameterName' must not be negative, but was
+     *                      value!"
+     *
+     * @return the value that was validated
+     *
+     * @throws IllegalArgumentException if {@code value} is negative
+     */
+    public static long nonNegative(final long value, final String parameterName) {
+
+        if (value < 0L) {
+
+            throw numberException(parameterName, NON_NEGATIVE_MESSAGE, value);
+
+        }
+        return value;
+    }
+
+    /**
+     * Ensures that a numeric value passed as a parameter to the calling method is not
+     * negative.
+     *
+     * @param value the value to check
+     *
+     * @return the value that was validated
+     *
+     * @throws IllegalArgumentException if {@code value} is negative or NaN
+     */
+    public static double nonNegative(final double value) {
+
+        if (!(value >= 0.0)) {
+
+            throw numberException(null, NON_NEGATIVE_MESSAGE, value);
+
+        }
+        return value;
+    }
+
+    /**
+     * Ensures that a numeric value passed as a parameter to the calling method is not
+     * negative.
+     *
+     * @param value the value to check
+     * @param parameterName the parameter name to use in the message if the check fails.
+     *                      Message: "parameter 'parameterName' must not be negative, but was
+     *                      value!"
+     *
+     * @return the value that was validated
+     *
+     * @throws IllegalArgumentException if {@code value} is negative or NaN
+     */
+    public static double nonNegative(final double value, final String parameterName) {
+
+        if (!(value >= 0.0)) {
+
+            throw numberException(parameterName, NON_NEGATIVE_MESSAGE, value);
+
+        }
+        return value;
+    }
+
+    /**
+     * Ensures that a numeric value passed as a parameter to the calling method lies within the
+     * closed range {@code [lo, hi]}.
+     *
+     * <p>The value is tested with a single unsigned comparison of {@code value - lo} against
+     * {@code hi - lo}; the test of the bounds themselves folds away for constant bounds.
+     *
+     * @param value the value to check
+     * @param lo    the lower bound, inclusive
+     * @param hi    the upper bound, inclusive
+     *
+     * @return the value that was validated
+     *
+     * @throws IllegalArgumentException if {@code value} is outside of the range or if {@code lo} is
+     *                                  greater than {@code hi}
+     */
+    public static int inRange(final int value, final int lo, final int hi) {
+
+        if (lo > hi || Integer.compareUnsigned(value - lo, hi - lo) > 0) {
+
+            throw rangeException(null, value, lo, hi);
+
+        }
+        return value;
+    }
+
+    /**
+     * Ensures that a numeric value passed as a parameter to the calling method lies within the
+     * closed range {@code [lo, hi]}.
+     *
+     * <p>The value is tested with a single unsigned comparison of {@code value - lo} against
+     * {@code hi - lo}; the test of the bounds themselves folds away for constant bounds.
+     *
+     * @param value the value to check
+     * @param lo    the lower bound, inclusive
+     * @param hi    the upper bound, inclusive
+     * @param parameterName the parameter name to use in the message if the check fails.
+     *                      Message: "parameter 'parameterName' must be in range [lo, hi],
+     *                      but was value!"
+     *
+     * @return the value that was validated
+     *
+     * @throws IllegalArgumentException if {@code value} is outside of the range or if {@code lo} is
+     *                                  greater than {@code hi}
+     */
+    public static int inRange(final int value,
+                              final int lo,
+                              final int hi,
+                              final String parameterName) {
+
+        if (lo > hi || Integer.compareUnsigned(value - lo, hi - lo) > 0) {
+
+            throw rangeException(parameterName, value, lo, hi);
+
+        }
+        return value;
+    }
+
+    /**
+     * Ensures that a numeric value passed as a parameter to the calling method lies within the
+     * closed range {@code [lo, hi]}.
+     *
+     * <p>The value is tested with a single unsigned comparison of {@code value - lo} against
+     * {@code hi - lo}; the test of the bounds themselves folds away for constant bounds.
+     *
+     * @param value the value to check
+     * @param lo    the lower bound, inclusive
+     * @param hi    the upper bound, inclusive
+     *
+     * @return the value that was validated
+     *
+     * @throws IllegalArgumentException if {@code value} is outside of the range or if {@code lo} is
+     *                                  greater than {@code hi}
+     */
+    public static long inRange(final long value, final long lo, final long hi) {
+
+        if (lo > hi || Long.compareUnsigned(value - lo, hi - lo) > 0) {
+
+            throw rangeException(null, value, lo, hi);
+
+        }
+        return value;
+    }
+
+    /**
+     * Ensures that a numeric value passed as a parameter to the calling method lies within the
+     * closed range {@code [lo, hi]}.
+     *
+     * <p>The value is tested with a single unsigned comparison of {@code value - lo} against
+     * {@code hi - lo}; the test of the bounds themselves folds away for constant bounds.
+     *
+     * @param value the value to check
+     * @param lo    the lower bound, inclusive
+     * @param hi    the upper bound, inclusive
+     * @param parameterName the parameter name to use in the message if the check fails.
+     *                      Message: "parameter 'parameterName' must be in range [lo, hi],
+     *                      but was value!"
+     *
+     * @return the value that was validated
+     *
+     * @throws IllegalArgumentException if {@code value} is outside of the range or if {@code lo} is
+     *                                  greater than {@code hi}
+     */
+    public static long inRange(final long value,
+                               final long lo,
+                               final long hi,
+                               final String parameterName) {
+
+        if (lo > hi || Long.compareUnsigned(value - lo, hi - lo) > 0) {
+
+            throw rangeException(parameterName, value, lo, hi);
+
+        }
+        return value;
+    }
+
+    /**
+     * Ensures that a numeric value passed as a parameter to the calling method lies within the
+     * closed range {@code [lo, hi]}.
+     *
+     * @param value the value to check
+     * @param lo    the lower bound, inclusive
+     * @param hi    the upper bound, inclusive
+     *
+     * @return the value that was validated
+     *
+     * @throws IllegalArgumentException if {@code value} is outside of the range or NaN or if
+     *                                  {@code lo} is greater than {@code hi}
+     */
+    public static double inRange(final double value, final double lo, final double hi) {
+
+        if (!(value >= lo && value <= hi)) {
+
+            throw rangeException(null, value, lo, hi);
+
+        }
+        return value;
+    }
+
+    /**
+     * Ensures that a numeric value passed as a parameter to the calling method lies within the
+     * closed range {@code [lo, hi]}.
+     *
+     * @param value the value to check
+     * @param lo    the lower bound, inclusive
+     * @param hi    the upper bound, inclusive
+     * @param parameterName the parameter name to use in the message if the check fails.
+     *                      Message: "parameter 'parameterName' must be in range [lo, hi],
+     *                      but was value!"
+     *
+     * @return the value that was validated
+     *
+     * @throws IllegalArgumentException if {@code value} is outside of the range or NaN or if
+     *                                  {@code lo} is greater than {@code hi}
+     */
+    public static double inRange(final double value,
+                                 final double lo,
+                                 final double hi,
+                                 final String parameterName) {
+
+        if (!(value >= lo && value <= hi)) {
+
+            throw rangeException(parameterName, value, lo, hi);
+
+        }
+        return value;
+    }
+
+    /**
+     * Ensures that a floating point value passed as a parameter to the calling method is
+     * finite, that is neither infinite nor NaN.
+     *
+     * @param value the value to check
+     *
+     * @return the value that was validated
+     *
+     * @throws IllegalArgumentException if {@code value} is infinite or NaN
+     */
+    public static double finite(final double value) {
+
+        if (!(Math.abs(value) <= Double.MAX_VALUE)) {
+
+            throw numberException(null, FINITE_MESSAGE, value);
+
+        }
+        return value;
+    }
+
+    /**
+     * Ensures that a floating point value passed as a parameter to the calling method is
+     * finite, that is neither infinite nor NaN.
+     *
+     * @param value the value to check
+     * @param parameterName the parameter name to use in the message if the check fails.
+     *                      Message: "parameter 'parameterName' must be finite, but was
+     *                      value!"
+     *
+     * @return the value that was validated
+     *
+     * @throws IllegalArgumentException if {@code value} is infinite or NaN
+     */
+    public static double finite(final double value, final String parameterName) {
+
+        if (!(Math.abs(value) <= Double.MAX_VALUE)) {
+
+            throw numberException(parameterName, FINITE_MESSAGE, value);
+
+        }
+        return value;
+    }
+
+    /**
+     * Ensures that a floating point value passed as a parameter to the calling method is not
+     * NaN.
+     *
+     * @param value the value to check
+     *
+     * @return the value that was validated
+     *
+     * @throws IllegalArgumentException if {@code value} is NaN
+     */
+    public static double notNaN(final double value) {
+
+        if (value != value) {
+
+            throw numberException(null, NOT_NAN_MESSAGE, value);
+
+        }
+        return value;
+    }
+
+    /**
+     * Ensures that a floating point value passed as a parameter to the calling method is not
+     * NaN.
+     *
+     * @param value the value to check
+     * @param parameterName the parameter name to use in the message if the check fails.
+     *                      Message: "parameter 'parameterName' must not be NaN, but was
+     *                      NaN!"
+     *
+     * @return the value that was validated
+     *
+     * @throws IllegalArgumentException if {@code value} is NaN
+     */
+    public static double notNaN(final double value, final String parameterName) {
+
+        if (value != value) {
+
+            throw numberException(parameterName, NOT_NAN_MESSAGE, value);
+
+        }
+        return value;
+    }
+
+    /**
+     * Ensures that an index passed as a parameter to the calling method is a valid index of an
+     * array, list or string of the given length.
+     *
+     * <p>Unlike the other checks this throws an {@link IndexOutOfBoundsException}, like the
+     * access it guards. On Java 9 and later the check delegates to {@code
+     * java.util.Objects#checkIndex}, which the JIT eliminates together with the bounds check of
+     * the array access inside a loop.
+     *
+     * @param index  the index to check
+     * @param length the length of the indexed range
+     *
+     * @return the index that was validated
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@code
+     *                                   length}
+     */
+    public static int checkIndex(final int index, final int length) {
+
+        return Indexes.checkIndex(index, length);
+    }
+
+    /**
+     * Ensures that the sub-range {@code [fromIndex, toIndex)} passed as parameters to the calling
+     * method lies within {@code [0, length)}.
+     *
+     * @param fromIndex the lower bound of the sub-range, inclusive
+     * @param toIndex   the upper bound of the sub-range, exclusive
+     * @param length    the length of the range
+     *
+     * @return the lower bound that was validated
+     *
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, greater than {@code
+     *                                   toIndex} or {@code toIndex} is greater than {@code
+     *                                   length}
+     * @see #checkIndex(int, int)
+     */
+    public static int checkFromToIndex(final int fromIndex, final int toIndex, final int length) {
+
+        return Indexes.checkFromToIndex(fromIndex, toIndex, length);
+    }
+
+    /**
+     * Ensures that the sub-range {@code [fromIndex, fromIndex + size)} passed as parameters to the
+     * calling method lies within {@code [0, length)}, without overflowing.
+     *
+     * @param fromIndex the lower bound of the sub-range, inclusive
+     * @param size      the size of the sub-range
+     * @param length    the length of the range
+     *
+     * @return the lower bound that was validated
+     *
+     * @throws IndexOutOfBoundsException if any argument is negative or the sub-range ends after
+     *                                   {@code length}
+     * @see #checkIndex(int, int)
+     */
+    public static int checkFromIndexSize(final int fromIndex, final int size, final int length) {
+
+        return Indexes.checkFromIndexSize(fromIndex, size, length);
+    }
+
+    /**
+     * Ensures that a buffer passed as a parameter to the calling method has at least the given
+     * number of bytes remaining between its position and its limit.
+     *
+     * <p>Like all buffer checks this neither copies the buffer nor changes its position, limit or
+     * mark.
+     *
+     * @param <B>    the type of the buffer
+     * @param buffer the buffer to check
+     * @param length the number of bytes about to be read or written
+     *
+     * @return the buffer that was validated
+     *
+     * @throws IllegalArgumentException if {@code buffer} is null, {@code length} is negative or
+     *                                  fewer than {@code length} bytes are remaining
+     */
+    public static <B extends ByteBuffer> B hasRemaining(final B buffer, final int length) {
+
+        if (Integer.compareUnsigned(notNull(buffer).remaining(), length) < 0) {
+
+            throw remainingException(null, buffer, length);
+
+        }
+        return buffer;
+    }
+
+    /**
+     * Ensures that a buffer passed as a parameter to the calling method has at least the given
+     * number of bytes remaining between its position and its limit.
+     *
+     * @param <B>           the type of the buffer
+     * @param buffer        the buffer to check
+     * @param length        the number of bytes about to be read or written
+     * @param parameterName the parameter name to use in the message if the check fails.
+     *                      Message: "parameter 'parameterName' must have length bytes remaining,
+     *                      but has remaining!"
+     *
+     * @return the buffer that was validated
+     *
+     * @throws IllegalArgumentException if {@code buffer} is null, {@code length} is negative or
+     *                                  fewer than {@code length} bytes are remaining
+     */
+    public static <B extends ByteBuffer> B hasRemaining(final B buffer,
+                                                        final int length,
+                                                        final String parameterName) {
+
+        if (Integer.compareUnsigned(parameterNotNull(buffer, parameterName).remaining(), length)
+            < 0) {
+
+            throw remainingException(parameterName, buffer, length);
+
+        }
+        return buffer;
+    }
+
+    /**
+     * Ensures that the range {@code [offset, offset + size)} lies within the limit of a buffer
+     * passed as a parameter to the calling method, as required by its absolute get and put
+     * methods.
+     *
+     * @param buffer the buffer to check
+     * @param offset the index of the first byte of the range
+     * @param size   the number of bytes of the range
+     *
+     * @return the offset that was validated
+     *
+     * @throws IllegalArgumentException if {@code buffer} is null, {@code offset} or {@code size}
+     *                                  is negative or the range ends after the limit
+     */
+    public static int checkFromIndexSize(final ByteBuffer buffer,
+                                         final int offset,
+                                         final int size) {
+
+        final int limit = notNull(buffer).limit();
+
+        if ((offset | size) < 0 || size > limit - offset) {
+
+            throw boundsException(null, offset, size, "limit", limit);
+
+        }
+        return offset;
+    }
+
+    /**
+     * Ensures that the range {@code [offset, offset + size)} lies within the limit of a buffer
+     * passed as a parameter to the calling method, as required by its absolute get and put
+     * methods.
+     *
+     * @param buffer        the buffer to check
+     * @param offset        the index of the first byte of the range
+     * @param size          the number of bytes of the range
+     * @param parameterName the parameter name to use in the message if the check fails.
+     *                      Message: "parameter 'parameterName' range [offset, offset + size)
+     *                      out of bounds for limit limit!"
+     *
+     * @return the offset that was validated
+     *
+     * @throws IllegalArgumentException if {@code buffer} is null, {@code offset} or {@code size}
+     *                                  is negative or the range ends after the limit
+     */
+    public static int checkFromIndexSize(final ByteBuffer buffer,
+                                         final int offset,
+                                         final int size,
+                                         final String parameterName) {
+
+        final int limit = parameterNotNull(buffer, parameterName).limit();
+
+        if ((offset | size) < 0 || size > limit - offset) {
+
+            throw boundsException(parameterName, offset, size, "limit", limit);
+
+        }
+        return offset;
+    }
+
+    /**
+     * Ensures that a buffer passed as a parameter to the calling method is a direct buffer.
+     *
+     * @param <B>    the type of the buffer
+     * @param buffer the buffer to check
+     *
+     * @return the buffer that was validated
+     *
+     * @throws IllegalArgumentException if {@code buffer} is null or not direct
+     */
+    public static <B extends ByteBuffer> B direct(final B buffer) {
+
+        if (!notNull(buffer).isDirect()) {
+
+            throw parameterException(null, DIRECT_MESSAGE);
+
+        }
+        return buffer;
+    }
+
+    /**
+     * Ensures that a buffer passed as a parameter to the calling method is a direct buffer.
+     *
+     * @param <B>           the type of the buffer
+     * @param buffer        the buffer to check
+     * @param parameterName the parameter name to use in the message if the check fails.
+     *                      Message: "parameter 'parameterName' must be a direct buffer!"
+     *
+     * @return the buffer that was validated
+     *
+     * @throws IllegalArgumentException if {@code buffer} is null or not direct
+     */
+    public static <B extends ByteBuffer> B direct(final B buffer, final String parameterName) {
+
+        if (!parameterNotNull(buffer, parameterName).isDirect()) {
+
+            throw parameterException(parameterName, DIRECT_MESSAGE);
+
+        }
+        return buffer;
+    }
+
+    /**
+     * Ensures that a buffer passed as a parameter to the calling method is writable.
+     *
+     * @param <B>    the type of the buffer
+     * @param buffer the buffer to check
+     *
+     * @return the buffer that was validated
+     *
+     * @throws IllegalArgumentException if {@code buffer} is null or read-only
+     */
+    public static <B extends ByteBuffer> B notReadOnly(final B buffer) {
+
+        if (notNull(buffer).isReadOnly()) {
+
+            throw parameterException(null, READ_ONLY_MESSAGE);
+
+        }
+        return buffer;
+    }
+
+    /**
+     * Ensures that a buffer passed as a parameter to the calling method is writable.
+     *
+     * @param <B>           the type of the buffer
+     * @param buffer        the buffer to check
+     * @param parameterName the parameter name to use in the message if the check fails.
+     *                      Message: "parameter 'parameterName' must not be read-only!"
+     *
+     * @return the buffer that was validated
+     *
+     * @throws IllegalArgumentException if {@code buffer} is null or read-only
+     */
+    public static <B extends ByteBuffer> B notReadOnly(final B buffer,
+                                                       final String parameterName) {
+
+        if (parameterNotNull(buffer, parameterName).isReadOnly()) {
+
+            throw parameterException(parameterName, READ_ONLY_MESSAGE);
+
+        }
+        return buffer;
+    }
+
+    /**
+     * Ensures that an array passed as a parameter to the calling method is well-formed UTF-8.
+     *
+     * <p>The bytes are checked without decoding them, runs of ASCII eight bytes at a time.
+     * Overlong encodings, surrogates and code points above {@code U+10FFFF} are malformed.
+     *
+     * @param bytes the bytes to check
+     *
+     * @return the bytes that were validated
+     *
+     * @throws IllegalArgumentException if {@code bytes} is null or not well-formed UTF-8
+     */
+    public static byte[] wellFormedUtf8(final byte[] bytes) {
+
+        final int index = Utf8.malformedIndex(notNull(bytes), 0, bytes.length);
+
+        if (index != Utf8.WELL_FORMED) {
+
+            throw parameterException(null, MALFORMED_MESSAGE + index + "!");
+
+        }
+        return bytes;
+    }
+
+    /**
+     * Ensures that an array passed as a parameter to the calling method is well-formed UTF-8.
+     *
+     * @param bytes         the bytes to check
+     * @param parameterName the parameter name to use in the message if the check fails.
+     *                      Message: "parameter 'parameterName' must be well-formed UTF-8, but is
+     *                      malformed at index index!"
+     *
+     * @return the bytes that were validated
+     *
+     * @throws IllegalArgumentException if {@code bytes} is null or not well-formed UTF-8
+     * @see #wellFormedUtf8(byte[])
+     */
+    public static byte[] wellFormedUtf8(final byte[] bytes, final String parameterName) {
+
+        final int index = Utf8.malformedIndex(parameterNotNull(bytes, parameterName),
+                                              0,
+                                              bytes.length);
+
+        if (index != Utf8.WELL_FORMED) {
+
+            throw parameterException(parameterName, MALFORMED_MESSAGE + index + "!");
+
+        }
+        return bytes;
+    }
+
+    /**
+     * Ensures that a range of an array passed as a parameter to the calling method is
+     * well-formed UTF-8. A sequence must not continue past the end of the range.
+     *
+     * @param bytes  the bytes to check
+     * @param offset the index of the first byte of the range
+     * @param length the number of bytes of the range
+     *
+     * @return the bytes that were validated
+     *
+     * @throws IllegalArgumentException if {@code bytes} is null, the range is out of its bounds
+     *                                  or not well-formed UTF-8
+     * @see #wellFormedUtf8(byte[])
+     */
+    public static byte[] wellFormedUtf8(final byte[] bytes, final int offset, final int length) {
+
+        if ((offset | length) < 0 || length > notNull(bytes).length - offset) {
+
+            throw boundsException(null, offset, length, "length", bytes.length);
+
+        }
+
+        final int index = Utf8.malformedIndex(bytes, offset, length);
+
+        if (index != Utf8.WELL_FORMED) {
+
+            throw parameterException(null, MALFORMED_MESSAGE + index + "!");
+
+        }
+        return bytes;
+    }
+
+    /**
+     * Ensures that the bytes between the position and the limit of a buffer passed as a parameter
+     * to the calling method are well-formed UTF-8. The position of the buffer is not changed, the
+     * index in the message is an index of the buffer.
+     *
+     * @param <B>    the type of the buffer
+     * @param buffer the buffer to check
+     *
+     * @return the buffer that was validated
+     *
+     * @throws IllegalArgumentException if {@code buffer} is null or not well-formed UTF-8
+     * @see #wellFormedUtf8(byte[])
+     */
+    public static <B extends ByteBuffer> B wellFormedUtf8(final B buffer) {
+
+        final int index = Utf8.malformedIndex(notNull(buffer));
+
+        if (index != Utf8.WELL_FORMED) {
+
+            throw parameterException(null, MALFORMED_MESSAGE + index + "!");
+
+        }
+        return buffer;
+    }
+
+    /**
+     * Ensures that the bytes between the position and the limit of a buffer passed as a parameter
+     * to the calling method are well-formed UTF-8. The position of the buffer is not changed, the
+     * index in the message is an index of the buffer.
+     *
+     * @param <B>           the type of the buffer
+     * @param buffer        the buffer to check
+     * @param parameterName the parameter name to use in the message if the check fails.
+     *                      Message: "parameter 'parameterName' must be well-formed UTF-8, but is
+     *                      malformed at index index!"
+     *
+     * @return the buffer that was validated
+     *
+     * @throws IllegalArgumentException if {@code buffer} is null or not well-formed UTF-8
+     * @see #wellFormedUtf8(byte[])
+     */
+    public static <B extends ByteBuffer> B wellFormedUtf8(final B buffer,
+                                                          final String parameterName) {
+
+        final int index = Utf8.malformedIndex(parameterNotNull(buffer, parameterName));
+
+        if (index != Utf8.WELL_FORMED) {
+
+            throw parameterException(parameterName, MALFORMED_MESSAGE + index + "!");
+
+        }
+        return buffer;
+    }
+
+    /**
+     * Ensures that a character sequence passed as a parameter to the calling method is not null
+     * and contains at least one character that is not whitespace as defined by {@link
+     * Character#isWhitespace(char)}.
+     *
+     * <p>Unlike {@code trim().isEmpty()} the characters are scanned without allocating.
+     *
+     * @param <T>   the type of the character sequence
+     * @param chars the characters to check
+     *
+     * @return the characters that were validated
+     *
+     * @throws IllegalArgumentException if {@code chars} is null, empty or only whitespace
+     */
+    public static <T extends CharSequence> T notBlank(final T chars) {
+
+        if (chars == null || Text.isBlank(chars)) {
+
+            throw parameterException(null, NOT_BLANK_MESSAGE);
+
+        }
+        return chars;
+    }
+
+    /**
+     * Ensures that a character sequence passed as a parameter to the calling method is not null
+     * and contains at least one character that is not whitespace.
+     *
+     * @param <T>           the type of the character sequence
+     * @param chars         the characters to check
+     * @param parameterName the parameter name to use in the message if the check fails.
+     *                      Message: "parameter 'parameterName' must not be null or blank!"
+     *
+     * @return the characters that were validated
+     *
+     * @throws IllegalArgumentException if {@code chars} is null, empty or only whitespace
+     * @see #notBlank(CharSequence)
+     */
+    public static <T extends CharSequence> T notBlank(final T chars, final String parameterName) {
+
+        if (chars == null || Text.isBlank(chars)) {
+
+            throw parameterException(parameterName, NOT_BLANK_MESSAGE);
+
+        }
+        return chars;
+    }
+
+    /**
+     * Ensures that a character sequence passed as a parameter to the calling method contains only
+     * ASCII characters, e.g. an HTTP header name or an identifier.
+     *
+     * @param <T>   the type of the character sequence
+     * @param chars the characters to check
+     *
+     * @return the characters that were validated
+     *
+     * @throws IllegalArgumentException if {@code chars} is null or contains a character above
+     *                                  {@code U+007F}
+     */
+    public static <T extends CharSequence> T ascii(final T chars) {
+
+        final int index = Text.nonAsciiIndex(notNull(chars));
+
+        if (index != Text.NOT_FOUND) {
+
+            throw parameterException(null, ASCII_MESSAGE + index + "!");
+
+        }
+        return chars;
+    }
+
+    /**
+     * Ensures that a character sequence passed as a parameter to the calling method contains only
+     * ASCII characters.
+     *
+     * @param <T>           the type of the character sequence
+     * @param chars         the characters to check
+     * @param parameterName the parameter name to use in the message if the check fails.
+     *                      Message: "parameter 'parameterName' must contain only ASCII
+     *                      characters, but has a non-ASCII character at index index!"
+     *
+     * @return the characters that were validated
+     *
+     * @throws IllegalArgumentException if {@code chars} is null or contains a character above
+     *                                  {@code U+007F}
+     */
+    public static <T extends CharSequence> T ascii(final T chars, final String parameterName) {
+
+        final int index = Text.nonAsciiIndex(parameterNotNull(chars, parameterName));
+
+        if (index != Text.NOT_FOUND) {
+
+            throw parameterException(parameterName, ASCII_MESSAGE + index + "!");
+
+        }
+        return chars;
+    }
+
+    /**
+     * Ensures that a character sequence passed as a parameter to the calling method has at most
+     * the given number of characters.
+     *
+     * @param <T>       the type of the character sequence
+     * @param chars     the characters to check
+     * @param maxLength the maximum number of characters
+     *
+     * @return the characters that were validated
+     *
+     * @throws IllegalArgumentException if {@code chars} is null or longer than {@code maxLength}
+     */
+    public static <T extends CharSequence> T maxLength(final T chars, final int maxLength) {
+
+        if (notNull(chars).length() > maxLength) {
+
+            throw lengthException(null, chars, maxLength);
+
+        }
+        return chars;
+    }
+
+    /**
+     * Ensures that a character sequence passed as a parameter to the calling method has at most
+     * the given number of characters.
+     *
+     * @param <T>           the type of the character sequence
+     * @param chars         the characters to check
+     * @param maxLength     the maximum number of characters
+     * @param parameterName the parameter name to use in the message if the check fails.
+     *                      Message: "parameter 'parameterName' must have at most maxLength
+     *                      characters, but has length!"
+     *
+     * @return the characters that were validated
+     *
+     * @throws IllegalArgumentException if {@code chars} is null or longer than {@code maxLength}
+     */
+    public static <T extends CharSequence> T maxLength(final T chars,
+                                                       final int maxLength,
+                                                       final String parameterName) {
+
+        if (parameterNotNull(chars, parameterName).length() > maxLength) {
+
+            throw lengthException(parameterName, chars, maxLength);
+
+        }
+        return chars;
+    }
+
+    /**
+     * Ensures that a character sequence passed as a parameter to the calling method matches a
+     * regular expression entirely.
+     *
+     * <p>The regular expression is compiled on its first use only and kept in a bounded cache
+     * shared by all callers, so it may be passed as a constant string at the call site.
+     *
+     * @param <T>   the type of the character sequence
+     * @param chars the characters to check
+     * @param regex the regular expression to match
+     *
+     * @return the characters that were validated
+     *
+     * @throws IllegalArgumentException if {@code chars} or {@code regex} is null, the regular
+     *                                  expression is invalid or does not match
+     */
+    public static <T extends CharSequence> T matches(final T chars, final String regex) {
+
+        if (!Text.pattern(notNull(regex)).matcher(notNull(chars)).matches()) {
+
+            throw parameterException(null, MATCHES_MESSAGE + regex + "'!");
+
+        }
+        return chars;
+    }
+
+    /**
+     * Ensures that a character sequence passed as a parameter to the calling method matches a
+     * regular expression entirely.
+     *
+     * @param <T>           the type of the character sequence
+     * @param chars         the characters to check
+     * @param regex         the regular expression to match
+     * @param parameterName the parameter name to use in the message if the check fails.
+     *                      Message: "parameter 'parameterName' must match 'regex'!"
+     *
+     * @return the characters that were validated
+     *
+     * @throws IllegalArgumentException if {@code chars} or {@code regex} is null, the regular
+     *                                  expression is invalid or does not match
+     * @see #matches(CharSequence, String)
+     */
+    public static <T extends CharSequence> T matches(final T chars,
+                                                     final String regex,
+                                                     final String parameterName) {
+
+        final Pattern pattern = Text.pattern(notNull(regex));
+
+        if (!pattern.matcher(parameterNotNull(chars, parameterName)).matches()) {
+
+            throw parameterException(parameterName, MATCHES_MESSAGE + regex + "'!");
+
+        }
+        return chars;
+    }
+
+    /**
+     * Ensures that an array passed as a parameter to the calling method is not null and does not
+     * contain null elements.
+     *
+     * @param <T>   the element type
+     * @param array an array reference
+     *
+     * @return the validated array
+     *
+     * @throws IllegalArgumentException if {@code array} is null or contains a null element
+     */
+    public static <T> T[] noNullElements(final T[] array) {
+
+        notNull(array);
+        final int index = indexOfNull(array);
+
+        if (index != NOT_FOUND) {
+
+            throw checkException(NULL_ELEMENT_MESSAGE + index + "!");
+
+        }
+
+        return array;
+    }
+
+    /**
+     * Ensures that an array passed as a parameter to the calling method is not null and does not
+     * contain null elements.
+     *
+     * @param <T>           the element type
+     * @param array         an array reference
+     * @param parameterName the parameter name to use in exception message if the check fails.
+     *                      Message: "parameter 'parameterName' must not contain null elements,
+     *                      found null at index 'index'!"
+     *
+     * @return the validated array
+     *
+     * @throws IllegalArgumentException if {@code array} is null or contains a null element
+     */
+    public static <T> T[] noNullElements(final T[] array, final String parameterName) {
+
+        parameterNotNull(array, parameterName);
+        final int index = indexOfNull(array);
+
+        if (index != NOT_FOUND) {
+
+            throw checkException(parameterMessage(parameterName,
+                                                  NULL_ELEMENT_MESSAGE,
+                                                  index));
+
+        }
+
+        return array;
+    }
+
+    /**
+     * Ensures that an iterable, e.g. a collection, passed as a parameter to the calling method is
+     * not null and does not contain null elements.
+     *
+     * <p>Lists that implement {@link RandomAccess} are scanned by index without an iterator. The
+     * elements of types registered in {@link NullHostileTypes} are not scanned at all.
+     *
+     * @param <I>      the iterable type
+     * @param iterable an iterable reference
+     *
+     * @return the validated iterable
+     *
+     * @throws IllegalArgumentException if {@code iterable} is null or contains a null element
+     */
+    public static <I extends Iterable<?>> I noNullElements(final I iterable) {
+
+        notNull(iterable);
+        final int index = indexOfNull(iterable);
+
+        if (index != NOT_FOUND) {
+
+            throw checkException(NULL_ELEMENT_MESSAGE + index + "!");
+
+        }
+
+        return iterable;
+    }
+
+    /**
+     * Ensures that an iterable, e.g. a collection, passed as a parameter to the calling method is
+     * not null and does not contain null elements.
+     *
+     * <p>Lists that implement {@link RandomAccess} are scanned by index without an iterator. The
+     * elements of types registered in {@link NullHostileTypes} are not scanned at all.
+     *
+     * @param <I>           the iterable type
+     * @param iterable      an iterable reference
+     * @param parameterName the parameter name to use in exception message if the check fails.
+     *                      Message: "parameter 'parameterName' must not contain null elements,
+     *                      found null at index 'index'!"
+     *
+     * @return the validated iterable
+     *
+     * @throws IllegalArgumentException if {@code iterable} is null or contains a null element
+     */
+    public static <I extends Iterable<?>> I noNullElements(final I iterable,
+                                                           final String parameterName) {
+
+        parameterNotNull(iterable, parameterName);
+        final int index = indexOfNull(iterable);
+
+        if (index != NOT_FOUND) {
+
+            throw checkException(parameterMessage(parameterName,
+                                                  NULL_ELEMENT_MESSAGE,
+                                                  index));
+
+        }
+
+        return iterable;
+    }
+
+    /**
+     * Ensures that a map passed as a parameter to the calling method is not null and does not
+     * contain null keys or null values.
+     *
+     * <p>The entries of types registered in {@link NullHostileTypes} are not scanned.
+     *
+     * @param <M> the map type
+     * @param map a map reference
+     *
+     * @return the validated map
+     *
+     * @throws IllegalArgumentException if {@code map} is null or contains a null key or value
+     */
+    public static <M extends Map<?, ?>> M noNullElements(final M map) {
+
+        notNull(map);
+        final int index = indexOfNull(map);
+
+        if (index != NOT_FOUND) {
+
+            throw checkException(NULL_ENTRY_MESSAGE + index + "!");
+
+        }
+
+        return map;
+    }
+
+    /**
+     * Ensures that a map passed as a parameter to the calling method is not null and does not
+     * contain null keys or null values.
+     *
+     * <p>The entries of types registered in {@link NullHostileTypes} are not scanned.
+     *
+     * @param <M>           the map type
+     * @param map           a map reference
+     * @param parameterName the parameter name to use in exception message if the check fails.
+     *                      Message: "parameter 'parameterName' must not contain null keys or
+     *                      values, found null at entry 'index'!"
+     *
+     * @return the validated map
+     *
+     * @throws IllegalArgumentException if {@code map} is null or contains a null key or value
+     */
+    public static <M extends Map<?, ?>> M noNullElements(final M map, final String parameterName) {
+
+        parameterNotNull(map, parameterName);
+        final int index = indexOfNull(map);
+
+        if (index != NOT_FOUND) {
+
+            throw checkException(parameterMessage(parameterName, NULL_ENTRY_MESSAGE, index));
+
+        }
+
+        return map;
+    }
+
+    /**
+     * Ensures that an array passed as a parameter to the calling method is not null and does not
+     * contain null or empty elements, see {@link #isParamNullOrEmpty(Object)}.
+     *
+     * @param <T>   the element type
+     * @param array an array reference
+     *
+     * @return the validated array
+     *
+     * @throws IllegalArgumentException if {@code array} is null or contains a null or empty
+     *                                  element
+     */
+    public static <T> T[] noEmptyElements(final T[] array) {
+
+        notNull(array);
+        final int index = indexOfNullOrEmpty(array);
+
+        if (index != NOT_FOUND) {
+
+            throw checkException(EMPTY_ELEMENT_MESSAGE + index + "!");
+
+        }
+
+        return array;
+    }
+
+    /**
+     * Ensures that an array passed as a parameter to the calling method is not null and does not
+     * contain null or empty elements, see {@link #isParamNullOrEmpty(Object)}.
+     *
+     * @param <T>           the element type
+     * @param array         an array reference
+     * @param parameterName the parameter name to use in exception message if the check fails.
+     *                      Message: "parameter 'parameterName' must not contain null or empty
+     *                      elements, found null or empty at index 'index'!"
+     *
+     * @return the validated array
+     *
+     * @throws IllegalArgumentException if {@code array} is null or contains a null or empty
+     *                                  element
+     */
+    public static <T> T[] noEmptyElements(final T[] array, final String parameterName) {
+
+        parameterNotNull(array, parameterName);
+        final int index = indexOfNullOrEmpty(array);
+
+        if (index != NOT_FOUND) {
+
+            throw checkException(parameterMessage(parameterName,
+                                                  EMPTY_ELEMENT_MESSAGE,
+                                                  index));
+
+        }
+
+        return array;
+    }
+
+    /**
+     * Ensures that an iterable, e.g. a collection, passed as a parameter to the calling method is
+     * not null and does not contain null or empty elements, see {@link
+     * #isParamNullOrEmpty(Object)}.
+     *
+     * <p>Lists that implement {@link RandomAccess} are scanned by index without an iterator.
+     *
+     * @param <I>      the iterable type
+     * @param iterable an iterable reference
+     *
+     * @return the validated iterable
+     *
+     * @throws IllegalArgumentException if {@code iterable} is null or contains a null or empty
+     *                                  element
+     */
+    public static <I extends Iterable<?>> I noEmptyElements(final I iterable) {
+
+        notNull(iterable);
+        final int index = indexOfNullOrEmpty(iterable);
+
+        if (index != NOT_FOUND) {
+
+            throw checkException(EMPTY_ELEMENT_MESSAGE + index + "!");
+
+        }
+
+        return iterable;
+    }
+
+    /**
+     * Ensures that an iterable, e.g. a collection, passed as a parameter to the calling method is
+     * not null and does not contain null or empty elements, see {@link
+     * #isParamNullOrEmpty(Object)}.
+     *
+     * <p>Lists that implement {@link RandomAccess} are scanned by index without an iterator.
+     *
+     * @param <I>           the iterable type
+     * @param iterable      an iterable reference
+     * @param parameterName the parameter name to use in exception message if the check fails.
+     *                      Message: "parameter 'parameterName' must not contain null or empty
+     *                      elements, found null or empty at index 'index'!"
+     *
+     * @return the validated iterable
+     *
+     * @throws IllegalArgumentException if {@code iterable} is null or contains a null or empty
+     *                                  element
+     */
+    public static <I extends Iterable<?>> I noEmptyElements(final I iterable,
+                                                            final String parameterName) {
+
+        parameterNotNull(iterable, parameterName);
+        final int index = indexOfNullOrEmpty(iterable);
+
+        if (index != NOT_FOUND) {
+
+            throw checkException(parameterMessage(parameterName,
+                                                  EMPTY_ELEMENT_MESSAGE,
+                                                  index));
+
+        }
+
+        return iterable;
+    }
+
+    /**
+     * Ensures that a map passed as a parameter to the calling method is not null and does not
+     * contain null or empty keys or values, see {@link #isParamNullOrEmpty(Object)}.
+     *
+     * @param <M> the map type
+     * @param map a map reference
+     *
+     * @return the validated map
+     *
+     * @throws IllegalArgumentException if {@code map} is null or contains a null or empty key or
+     *                                  value
+     */
+    public static <M extends Map<?, ?>> M noEmptyElements(final M map) {
+
+        notNull(map);
+        final int index = indexOfNullOrEmpty(map);
+
+        if (index != NOT_FOUND) {
+
+            throw checkException(EMPTY_ENTRY_MESSAGE + index + "!");
+
+        }
+
+        return map;
+    }
+
+    /**
+     * Ensures that a map passed as a parameter to the calling method is not null and does not
+     * contain null or empty keys or values, see {@link #isParamNullOrEmpty(Object)}.
+     *
+     * @param <M>           the map type
+     * @param map           a map reference
+     * @param parameterName the parameter name to use in exception message if the check fails.
+     *                      Message: "parameter 'parameterName' must not contain null or empty
+     *                      keys or values, found null or empty at entry 'index'!"
+     *
+     * @return the validated map
+     *
+     * @throws IllegalArgumentException if {@code map} is null or contains a null or empty key or
+     *                                  value
+     */
+    public static <M extends Map<?, ?>> M noEmptyElements(final M map, final String parameterName) {
+
+        parameterNotNull(map, parameterName);
+        final int index = indexOfNullOrEmpty(map);
+
+        if (index != NOT_FOUND) {
+
+            throw checkException(parameterMessage(parameterName,
+                                                  EMPTY_ENTRY_MESSAGE,
+                                                  index));
+
+        }
+
+        return map;
+    }
+
+    /**
+     * Ensures the truth that an object reference passed as a parameter to the calling method is
+     * null or empty
+     *
+     * <p>The emptiness strategy of the runtime class is resolved once and cached, supported are
+     * {@link CharSequence}s, {@link Collection}s, {@link Map}s, {@link Iterable}s,
+     * {@link java.util.Optional}s, {@link java.nio.Buffer}s (no remaining elements) and arrays.
+     * Prefer the typed overloads when the static type is known at the call site.
+     *
+     * @param <T> the type
+     * @param obj an object reference (Objects, Arrays, Collections, String etc. and also Arrays of
+     *            primitive types)
+     *
+     * @return the true if the given object is null or empty, false otherwise
+     *
+     * @throws IllegalArgumentException if {@code obj} is of a type without a notion of emptiness
+     */
+    public static <T> boolean isParamNullOrEmpty(final T obj) {
+
+        return obj == null || Emptiness.of(obj.getClass()).isEmpty(obj);
+
+    }
+
+    /**
+     * Ensures the truth that a string passed as a parameter to the calling method is null or empty
+     *
+     * @param obj a string reference
+     *
+     * @return the true if the given string is null or empty, false otherwise
+     */
+    public static boolean isParamNullOrEmpty(final String obj) {
+
+        return obj == null || obj.isEmpty();
+    }
+
+    /**
+     * Ensures the truth that a character sequence passed as a parameter to the calling method is
+     * null or empty
+     *
+     * @param obj a character sequence reference
+     *
+     * @return the true if the given character sequence is null or empty, false otherwise
+     */
+    public static boolean isParamNullOrEmpty(final CharSequence obj) {
+
+        return obj == null || obj.length() == 0;
+    }
+
+    /**
+     * Ensures the truth that a collection passed as a parameter to the calling method is
+     * null or empty
+     *
+     * @param obj a collection reference
+     *
+     * @return the true if the given collection is null or empty, false otherwise
+     */
+    public static boolean isParamNullOrEmpty(final Collection<?> obj) {
+
+        return obj == null || obj.isEmpty();
+    }
+
+    /**
+     * Ensures the truth that a map passed as a parameter to the calling method is null or empty
+     *
+     * @param obj a map reference
+     *
+     * @return the true if the given map is null or empty, false otherwise
+     */
+    public static boolean isParamNullOrEmpty(final Map<?, ?> obj) {
+
+        return obj == null || obj.isEmpty();
+    }
+
+    /**
+     * Ensures the truth that an array passed as a parameter to the calling method is null or empty
+     *
+     * @param obj an array reference
+     *
+     * @return the true if the given array is null or empty, false otherwise
+     */
+    public static boolean isParamNullOrEmpty(final Object[] obj) {
+
+        return obj == null || obj.length == 0;
+    }
+
+    /**
+     * Ensures the truth that an array passed as a parameter to the calling method is null or empty
+     *
+     * @param obj an array reference
+     *
+     * @return the true if the given array is null or empty, false otherwise
+     */
+    public static boolean isParamNullOrEmpty(final boolean[] obj) {
+
+        return obj == null || obj.length == 0;
+    }
+
+    /**
+     * Ensures the truth that an array passed as a parameter to the calling method is null or empty
+     *
+     * @param obj an array reference
+     *
+     * @return the true if the given array is null or empty, false otherwise
+     */
+    public static boolean isParamNullOrEmpty(final byte[] obj) {
+
+        return obj == null || obj.length == 0;
+    }
+
+    /**
+     * Ensures the truth that an array passed as a parameter to the calling method is null or empty
+     *
+     * @param obj an array reference
+     *
+     * @return the true if the given array is null or empty, false otherwise
+     */
+    public static boolean isParamNullOrEmpty(final char[] obj) {
+
+        return obj == null || obj.length == 0;
+    }
+
+    /**
+     * Ensures the truth that an array passed as a parameter to the calling method is null or empty
+     *
+     * @param obj an array reference
+     *
+     * @return the true if the given array is null or empty, false otherwise
+     */
+    public static boolean isParamNullOrEmpty(final short[] obj) {
+
+        return obj == null || obj.length == 0;
+    }
+
+    /**
+     * Ensures the truth that an array passed as a parameter to the calling method is null or empty
+     *
+     * @param obj an array reference
+     *
+     * @return the true if the given array is null or empty, false otherwise
+     */
+    public static boolean isParamNullOrEmpty(final int[] obj) {
+
+        return obj == null || obj.length == 0;
+    }
+
+    /**
+     * Ensures the truth that an array passed as a parameter to the calling method is null or empty
+     *
+     * @param obj an array reference
+     *
+     * @return the true if the given array is null or empty, false otherwise
+     */
+    public static boolean isParamNullOrEmpty(final long[] obj) {
+
+        return obj == null || obj.length == 0;
+    }
+
+    /**
+     * Ensures the truth that an array passed as a parameter to the calling method is null or empty
+     *
+     * @param obj an array reference
+     *
+     * @return the true if the given array is null or empty, false otherwise
+     */
+    public static boolean isParamNullOrEmpty(final float[] obj) {
+
+        return obj == null || obj.length == 0;
+    }
+
+    /**
+     * Ensures the truth that an array passed as a parameter to the calling method is null or empty
+     *
+     * @param obj an array reference
+     *
+     * @return the true if the given array is null or empty, false otherwise
+     */
+    public static boolean isParamNullOrEmpty(final double[] obj) {
+
+        return obj == null || obj.length == 0;
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * @param expression a boolean expression
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static void expression(final boolean expression) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, EXPRESSION_MESSAGE);
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage the exception message to use if the check fails; will be converted to a
+     *                     string using {@link String#valueOf(Object)}
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static void expression(final boolean expression, final Object errorMessage) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, getErrorMessage(errorMessage));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * <p>The message is built lazily, a non-capturing lambda or a method reference does not
+     * allocate if the check passes.
+     *
+     * @param expression           a boolean expression
+     * @param errorMessageSupplier supplies the exception message to use if the check fails; it is
+     *                             only invoked if the check fails
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static void expression(final boolean expression,
+                                  final Supplier<String> errorMessageSupplier) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, getErrorMessage(errorMessageSupplier));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * @param expression a boolean expression
+     * @param exception  the preallocated exception to throw if the check fails, see {@link
+     *                   PreCheckException#stackless(String)}
+     *
+     * @throws PreCheckException if {@code expression} is false
+     */
+    public static void expression(final boolean expression, final PreCheckException exception) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, exception);
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * <p>The message is built lazily from the given argument, which lets the function stay a
+     * non-capturing lambda that does not allocate if the check passes.
+     *
+     * @param <A>                  the type of the message argument
+     * @param expression           a boolean expression
+     * @param errorMessageFunction computes the exception message from {@code errorMessageArg} if
+     *                             the check fails; it is only invoked if the check fails
+     * @param errorMessageArg      the argument passed to {@code errorMessageFunction}
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static <A> void expression(final boolean expression,
+                                      final Function<? super A, String> errorMessageFunction,
+                                      final A errorMessageArg) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, getErrorMessage(errorMessageFunction,
+                                                            errorMessageArg));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * @param expression       a boolean expression
+     * @param errorMessage     a template for the exception message should the check fail. The
+     *                         message is formed by replacing each {@code %s} placeholder in the
+     *                         template with an argument. These are matched by position - the first
+     *                         {@code %s} gets {@code errorMessageArgs[0]}, etc. Unmatched arguments
+     *                         will be appended to the formatted message in square braces. Unmatched
+     *                         placeholders will be left as-is.
+     * @param errorMessageArgs the arguments to be substituted into the message template. Arguments
+     *                         are converted to strings using {@link String#valueOf(Object)}.
+     *
+     * @throws IllegalArgumentException if {@code expression} is false or if the check fails and
+     *                                  either {@code errorMessageTemplate} or {@code
+     *                                  errorMessageArgs} is null (don't let this happen)
+     */
+    public static void expression(final boolean expression,
+                                  final String errorMessage,
+                                  final Object... errorMessageArgs) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, format(errorMessage, errorMessageArgs));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * <p>See {@link #expression(boolean, String, Object...)} for details.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static void expression(final boolean expression,
+                                  final String errorMessage,
+                                  final char p1) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, format(errorMessage, p1));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * <p>See {@link #expression(boolean, String, Object...)} for details.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static void expression(final boolean expression,
+                                  final String errorMessage,
+                                  final int p1) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, format(errorMessage, p1));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * <p>See {@link #expression(boolean, String, Object...)} for details.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static void expression(final boolean expression,
+                                  final String errorMessage,
+                                  final long p1) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, format(errorMessage, p1));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * <p>See {@link #expression(boolean, String, Object...)} for details.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static void expression(final boolean expression,
+                                  final String errorMessage,
+                                  final Object p1) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, format(errorMessage, p1));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * <p>See {@link #expression(boolean, String, Object...)} for details.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static void expression(final boolean expression,
+                                  final String errorMessage,
+                                  final char p1,
+                                  final char p2) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * <p>See {@link #expression(boolean, String, Object...)} for details.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static void expression(final boolean expression,
+                                  final String errorMessage,
+                                  final char p1,
+                                  final int p2) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * <p>See {@link #expression(boolean, String, Object...)} for details.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static void expression(final boolean expression,
+                                  final String errorMessage,
+                                  final char p1,
+                                  final long p2) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * <p>See {@link #expression(boolean, String, Object...)} for details.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static void expression(final boolean expression,
+                                  final String errorMessage,
+                                  final char p1,
+                                  final Object p2) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * <p>See {@link #expression(boolean, String, Object...)} for details.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static void expression(final boolean expression,
+                                  final String errorMessage,
+                                  final int p1,
+                                  final char p2) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * <p>See {@link #expression(boolean, String, Object...)} for details.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static void expression(final boolean expression,
+                                  final String errorMessage,
+                                  final int p1,
+                                  final int p2) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * <p>See {@link #expression(boolean, String, Object...)} for details.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static void expression(final boolean expression,
+                                  final String errorMessage,
+                                  final int p1,
+                                  final long p2) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * <p>See {@link #expression(boolean, String, Object...)} for details.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static void expression(final boolean expression,
+                                  final String errorMessage,
+                                  final int p1,
+                                  final Object p2) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * <p>See {@link #expression(boolean, String, Object...)} for details.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static void expression(final boolean expression,
+                                  final String errorMessage,
+                                  final long p1,
+                                  final char p2) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * <p>See {@link #expression(boolean, String, Object...)} for details.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static void expression(final boolean expression,
+                                  final String errorMessage,
+                                  final long p1,
+                                  final int p2) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * <p>See {@link #expression(boolean, String, Object...)} for details.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static void expression(final boolean expression,
+                                  final String errorMessage,
+                                  final long p1,
+                                  final long p2) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * <p>See {@link #expression(boolean, String, Object...)} for details.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static void expression(final boolean expression,
+                                  final String errorMessage,
+                                  final long p1,
+                                  final Object p2) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * <p>See {@link #expression(boolean, String, Object...)} for details.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static void expression(final boolean expression,
+                                  final String errorMessage,
+                                  final Object p1,
+                                  final char p2) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * <p>See {@link #expression(boolean, String, Object...)} for details.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static void expression(final boolean expression,
+                                  final String errorMessage,
+                                  final Object p1,
+                                  final int p2) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * <p>See {@link #expression(boolean, String, Object...)} for details.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static void expression(final boolean expression,
+                                  final String errorMessage,
+                                  final Object p1,
+                                  final long p2) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * <p>See {@link #expression(boolean, String, Object...)} for details.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static void expression(final boolean expression,
+                                  final String errorMessage,
+                                  final Object p1,
+                                  final Object p2) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, format(errorMessage, p1, p2));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * <p>See {@link #expression(boolean, String, Object...)} for details.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     * @param p3           the third argument to be substituted into the message template
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static void expression(final boolean expression,
+                                  final String errorMessage,
+                                  final Object p1,
+                                  final Object p2,
+                                  final Object p3) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, format(errorMessage, p1, p2, p3));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to the calling method.
+     *
+     * <p>See {@link #expression(boolean, String, Object...)} for details.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage a template for the exception message should the check fail
+     * @param p1           the first argument to be substituted into the message template
+     * @param p2           the second argument to be substituted into the message template
+     * @param p3           the third argument to be substituted into the message template
+     * @param p4           the fourth argument to be substituted into the message template
+     *
+     * @throws IllegalArgumentException if {@code expression} is false
+     */
+    public static void expression(final boolean expression,
+                                  final String errorMessage,
+                                  final Object p1,
+                                  final Object p2,
+                                  final Object p3,
+                                  final Object p4) {
+
+        if (!expression) {
+
+            throw failure(EXPRESSION_CHECK, format(errorMessage, p1, p2, p3, p4));
+
+        }
+
+        sample(EXPRESSION_CHECK);
+    }
+
+    /**
+     * Ensures the truth of an expression involving the state of the calling instance, but not
+     * involving any parameters to the calling method.
+     *
+     * @param expression a boolean expression
+     *
+     * @throws IllegalStateException if {@code expression} is false
+     */
+    public static void state(final boolean expression) {
+
+        if (!expression) {
+
+            throw stateException(STATE_MESSAGE);
+
+        }
+    }
+
+    /**
+     * Ensures the truth of an expression involving the state of the calling instance, but not
+     * involving any parameters to the calling method.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage the exception message to use if the check fails; will be converted to a
+     *                     string using {@link String#valueOf(Object)}
+     *
+     * @throws IllegalStateException if {@code expression} is false
+     */
+    public static void state(final boolean expression, final Object errorMessage) {
+
+        if (!expression) {
+
+            throw stateException(getErrorMessage(errorMessage));
+
+        }
+    }
+
+    /**
+     * Ensures the truth of an expression involving the state of the calling instance, but not
+     * involving any parameters to the calling method.
+     *
+     * <p>The message is built lazily, a non-capturing lambda or a method reference does not
+     * allocate if the check passes.
+     *
+     * @param expression           a boolean expression
+     * @param errorMessageSupplier supplies the exception message to use if the check fails; it is
+     *                             only invoked if the check fails
+     *
+     * @throws IllegalStateException if {@code expression} is false
+     */
+    public static void state(final boolean expression,
+                             final Supplier<String> errorMessageSupplier) {
+
+        if (!expression) {
+
+            throw stateException(getErrorMessage(errorMessageSupplier));
+
+        }
+    }
+
+    /**
+     * Ensures the truth of an expression involving the state of the calling instance, but not
+     * involving any parameters to the calling method.
+     *
+     * <p>See {@link #expression(boolean, String, Object...)} for the message template.
+     *
+     * @param expression       a boolean expression
+     * @param errorMessage     a template for the exception message should the check fail
+     * @param errorMessageArgs the arguments to be substituted into the message template
+     *
+     * @throws IllegalStateException if {@code expression} is false
+     */
+    public static void state(final boolean expression,
+                             final String errorMessage,
+                             final Object... errorMessageArgs) {
+
+        if (!expression) {
+
+            throw stateException(format(errorMessage, errorMessageArgs));
+
+        }
+    }
+
+    /**
+     * Ensures that a lock guarding the state of the calling instance is held by the current
+     * thread.
+     *
+     * <p>The check compares the owner of the lock with the current thread and is cheap enough to
+     * stay on in production code.
+     *
+     * @param <L>  the type of the lock
+     * @param lock the lock to check
+     *
+     * @return the lock that was validated
+     *
+     * @throws IllegalArgumentException if {@code lock} is null
+     * @throws IllegalStateException    if {@code lock} is not held by the current thread
+     */
+    public static <L extends ReentrantLock> L heldByCurrentThread(final L lock) {
+
+        if (!notNull(lock).isHeldByCurrentThread()) {
+
+            throw stateException(LOCK_MESSAGE);
+
+        }
+        return lock;
+    }
+
+    /**
+     * Tests that an object reference is not null, without throwing.
+     *
+     * <p>The {@code test*} methods run the same checks as their throwing counterparts, but return
+     * a constant {@link Violation} instead of throwing, for paths that reject most of their input.
+     *
+     * @param obj an object reference
+     *
+     * @return {@link Violation#NONE} or {@link Violation#NULL}
+     */
+    public static Violation testNotNull(final Object obj) {
+
+        return obj == null ? Violation.NULL : Violation.NONE;
+    }
+
+    /**
+     * Tests that an object reference is not null and not empty, without throwing.
+     *
+     * @param obj an object reference
+     *
+     * @return {@link Violation#NONE} or {@link Violation#NULL_OR_EMPTY}
+     *
+     * @see #isParamNullOrEmpty(Object)
+     */
+    public static Violation testNotNullOrEmpty(final Object obj) {
+
+        return isParamNullOrEmpty(obj) ? Violation.NULL_OR_EMPTY : Violation.NONE;
+    }
+
+    /**
+     * Tests that a character sequence is not null and not only whitespace, without throwing.
+     *
+     * @param chars the characters to test
+     *
+     * @return {@link Violation#NONE} or {@link Violation#BLANK}
+     *
+     * @see #notBlank(CharSequence)
+     */
+    public static Violation testNotBlank(final CharSequence chars) {
+
+        return chars == null || Text.isBlank(chars) ? Violation.BLANK : Violation.NONE;
+    }
+
+    /**
+     * Tests the truth of an expression, without throwing.
+     *
+     * @param expression a boolean expression
+     *
+     * @return {@link Violation#NONE} or {@link Violation#EXPRESSION}
+     */
+    public static Violation testExpression(final boolean expression) {
+
+        return expression ? Violation.NONE : Violation.EXPRESSION;
+    }
+
+    /**
+     * Tests that a numeric value is positive, without throwing.
+     *
+     * @param value the value to test
+     *
+     * @return {@link Violation#NONE} or {@link Violation#NOT_POSITIVE}
+     */
+    public static Violation testPositive(final long value) {
+
+        return value > 0 ? Violation.NONE : Violation.NOT_POSITIVE;
+    }
+
+    /**
+     * Tests that a numeric value is positive, without throwing.
+     *
+     * @param value the value to test
+     *
+     * @return {@link Violation#NONE} or {@link Violation#NOT_POSITIVE}, also if {@code value} is
+     * NaN
+     */
+    public static Violation testPositive(final double value) {
+
+        return value > 0 ? Violation.NONE : Violation.NOT_POSITIVE;
+    }
+
+    /**
+     * Tests that a numeric value is not negative, without throwing.
+     *
+     * @param value the value to test
+     *
+     * @return {@link Violation#NONE} or {@link Violation#NEGATIVE}
+     */
+    public static Violation testNonNegative(final long value) {
+
+        return value >= 0 ? Violation.NONE : Violation.NEGATIVE;
+    }
+
+    /**
+     * Tests that a numeric value is not negative, without throwing.
+     *
+     * @param value the value to test
+     *
+     * @return {@link Violation#NONE} or {@link Violation#NEGATIVE}, also if {@code value} is NaN
+     */
+    public static Violation testNonNegative(final double value) {
+
+        return value >= 0 ? Violation.NONE : Violation.NEGATIVE;
+    }
+
+    /**
+     * Tests that a floating point value is neither infinite nor NaN, without throwing.
+     *
+     * @param value the value to test
+     *
+     * @return {@link Violation#NONE} or {@link Violation#NOT_FINITE}
+     */
+    public static Violation testFinite(final double value) {
+
+        return Math.abs(value) <= Double.MAX_VALUE ? Violation.NONE : Violation.NOT_FINITE;
+    }
+
+    /**
+     * Tests that a floating point value is not NaN, without throwing.
+     *
+     * @param value the value to test
+     *
+     * @return {@link Violation#NONE} or {@link Violation#NAN}
+     */
+    public static Violation testNotNaN(final double value) {
+
+        return value == value ? Violation.NONE : Violation.NAN;
+    }
+
+    /**
+     * Tests that a character sequence is not null and contains only ASCII characters, without
+     * throwing.
+     *
+     * @param chars the characters to test
+     *
+     * @return {@link Violation#NONE}, {@link Violation#NULL} or {@link Violation#NOT_ASCII}
+     */
+    public static Violation testAscii(final CharSequence chars) {
+
+        return chars == null
+               ? Violation.NULL
+               : Text.nonAsciiIndex(chars) == Text.NOT_FOUND ? Violation.NONE : Violation.NOT_ASCII;
+    }
+
+    /**
+     * Tests that a character sequence is not null and has at most the given number of characters,
+     * without throwing.
+     *
+     * @param chars     the characters to test
+     * @param maxLength the maximum number of characters
+     *
+     * @return {@link Violation#NONE}, {@link Violation#NULL} or {@link Violation#TOO_LONG}
+     */
+    public static Violation testMaxLength(final CharSequence chars, final int maxLength) {
+
+        return chars == null
+               ? Violation.NULL
+               : chars.length() <= maxLength ? Violation.NONE : Violation.TOO_LONG;
+    }
+
+    /**
+     * Tests that a character sequence is not null and matches a regular expression entirely,
+     * without throwing for a mismatch.
+     *
+     * @param chars the characters to test
+     * @param regex the regular expression to match, compiled once and cached
+     *
+     * @return {@link Violation#NONE}, {@link Violation#NULL} or {@link Violation#NO_MATCH}
+     *
+     * @throws IllegalArgumentException if {@code regex} is null or invalid
+     * @see #matches(CharSequence, String)
+     */
+    public static Violation testMatches(final CharSequence chars, final String regex) {
+
+        final Pattern pattern = Text.pattern(notNull(regex));
+
+        return chars == null
+               ? Violation.NULL
+               : pattern.matcher(chars).matches() ? Violation.NONE : Violation.NO_MATCH;
+    }
+
+    /**
+     * Tests that an array is not null and well-formed UTF-8, without throwing.
+     *
+     * @param bytes the bytes to test
+     *
+     * @return {@link Violation#NONE}, {@link Violation#NULL} or {@link Violation#MALFORMED_UTF8}
+     *
+     * @see #wellFormedUtf8(byte[])
+     */
+    public static Violation testWellFormedUtf8(final byte[] bytes) {
+
+        return bytes == null
+               ? Violation.NULL
+               : Utf8.malformedIndex(bytes, 0, bytes.length) == Utf8.WELL_FORMED
+                 ? Violation.NONE
+                 : Violation.MALFORMED_UTF8;
+    }
+
+    /**
+     * Tests that an index is a valid index of a range of the given length, without throwing.
+     *
+     * @param index  the index to test
+     * @param length the length of the indexed range
+     *
+     * @return {@link Violation#NONE} or {@link Violation#OUT_OF_BOUNDS}
+     *
+     * @see #checkIndex(int, int)
+     */
+    public static Violation testIndex(final int index, final int length) {
+
+        return index >= 0 && index < length ? Violation.NONE : Violation.OUT_OF_BOUNDS;
+    }
+
+    private static int indexOfNull(final Object[] array) {
+
+        for (int i = 0; i < array.length; i++) {
+
+            if (array[i] == null) {
+                return i;
+            }
+        }
+
+        return NOT_FOUND;
+    }
+
+    private static int indexOfNull(final Iterable<?> iterable) {
+
+        final int index;
+
+        if (NullHostileTypes.isNullHostile(iterable.getClass())) {
+            index = NOT_FOUND;
+        } else if (iterable instanceof List && iterable instanceof RandomAccess) {
+            index = indexOfNullByIndex((List<?>) iterable);
+        } else {
+            index = indexOfNullByIterator(iterable);
+        }
+
+        return index;
+    }
+
+    private static int indexOfNullByIndex(final List<?> list) {
+
+        final int size = list.size();
+
+        for (int i = 0; i < size; i++) {
+
+            if (list.get(i) == null) {
+                return i;
+            }
+        }
+
+        return NOT_FOUND;
+    }
+
+    private static int indexOfNullByIterator(final Iterable<?> iterable) {
+
+        int index = 0;
+
+        for (final Object element : iterable) {
+
+            if (element == null) {
+                return index;
+            }
+
+            index++;
+        }
+
+        return NOT_FOUND;
+    }
+
+    private static int indexOfNull(final Map<?, ?> map) {
+
+        return NullHostileTypes.isNullHostile(map.getClass())
+               ? NOT_FOUND
+               : indexOfNullByEntry(map);
+    }
+
+    private static int indexOfNullByEntry(final Map<?, ?> map) {
+
+        int index = 0;
+
+        for (final Map.Entry<?, ?> entry : map.entrySet()) {
+
+            if (entry.getKey() == null || entry.getValue() == null) {
+                return index;
+            }
+
+            index++;
+        }
+
+        return NOT_FOUND;
+    }
+
+    private static int indexOfNullOrEmpty(final Object[] array) {
+
+        Class<?> type = null;
+        Emptiness emptiness = null;
+
+        for (int i = 0; i < array.length; i++) {
+            final Object element = array[i];
+
+            if (element == null) {
+                return i;
+            }
+
+            /* batches are mostly homogeneous, resolve the strategy only if the type changes */
+            if (element.getClass() != type) {
+                type = element.getClass();
+                emptiness = Emptiness.of(type);
+            }
+
+            if (emptiness.isEmpty(element)) {
+                return i;
+            }
+        }
+
+        return NOT_FOUND;
+    }
+
+    private static int indexOfNullOrEmpty(final Iterable<?> iterable) {
+
+        return iterable instanceof List && iterable instanceof RandomAccess
+               ? indexOfNullOrEmptyByIndex((List<?>) iterable)
+               : indexOfNullOrEmptyByIterator(iterable);
+    }
+
+    private static int indexOfNullOrEmptyByIndex(final List<?> list) {
+
+        final int size = list.size();
+        Class<?> type = null;
+        Emptiness emptiness = null;
+
+        for (int i = 0; i < size; i++) {
+            final Object element = list.get(i);
+
+            if (element == null) {
+                return i;
+            }
+
+            if (element.getClass() != type) {
+                type = element.getClass();
+                emptiness = Emptiness.of(type);
+            }
+
+            if (emptiness.isEmpty(element)) {
+                return i;
+            }
+        }
+
+        return NOT_FOUND;
+    }
+
+    private static int indexOfNullOrEmptyByIterator(final Iterable<?> iterable) {
+
+        int index = 0;
+        Class<?> type = null;
+        Emptiness emptiness = null;
+
+        for (final Object element : iterable) {
+
+            if (element == null) {
+                return index;
+            }
+
+            if (element.getClass() != type) {
+                type = element.getClass();
+                emptiness = Emptiness.of(type);
+            }
+
+            if (emptiness.isEmpty(element)) {
+                return index;
+            }
+
+            index++;
+        }
+
+        return NOT_FOUND;
+    }
+
+    private static int indexOfNullOrEmpty(final Map<?, ?> map) {
+
+        int index = 0;
+
+        for (final Map.Entry<?, ?> entry : map.entrySet()) {
+
+            if (isParamNullOrEmpty(entry.getKey()) || isParamNullOrEmpty(entry.getValue())) {
+                return index;
+            }
+
+            index++;
+        }
+
+        return NOT_FOUND;
+    }
+
+    /*
+     * PreCheckSampler.ENABLED is a static final flag, with the sampling off the JIT folds this
+     * call away and the successful checks carry no extra cost.
+     */
+    private static void sample(final String check) {
+
+        if (PreCheckSampler.ENABLED) {
+            PreCheckSampler.sample(check);
+        }
+    }
+
+    /*
+     * Every failure of the null, empty and expression checks passes through one of these, which
+     * lets PreCheckStatistics count it and the FailureEventSink publish it. Nothing is recorded on
+     * the success path.
+     */
+    private static PreCheckException failure(final String check, final String message) {
+
+        return failure(check, new PreCheckException(message));
+    }
+
+    private static PreCheckException failure(final String check,
+                                             final String parameterName,
+                                             final String message) {
+
+        return PreCheckStatistics.record(check,
+                                         parameterName,
+                                         FailureEventSink.publish(new PreCheckException(
+                                                 parameterMessage(parameterName, message))));
+    }
+
+    private static PreCheckException failure(final String check,
+                                             final PreCheckException exception) {
+
+        return PreCheckStatistics.record(check, null, FailureEventSink.publish(exception));
+    }
+
+    private static IllegalStateException stateException(final String message) {
+
+        return FailureEventSink.publish(new IllegalStateException(message));
+    }
+
+    /*
+     * The failure messages of the numeric checks are built here, out of line, so that the checks
+     * themselves stay small enough to be inlined into their callers.
+     */
+    private static PreCheckException numberException(final String parameterName,
+                                                     final String message,
+                                                     final long value) {
+
+        return parameterException(parameterName, message + value + "!");
+    }
+
+    private static PreCheckException numberException(final String parameterName,
+                                                     final String message,
+                                                     final double value) {
+
+        return parameterException(parameterName, message + value + "!");
+    }
+
+    private static PreCheckException rangeException(final String parameterName,
+                                                    final long value,
+                                                    final long lo,
+                                                    final long hi) {
+
+        return lo > hi
+               ? checkException("invalid range [" + lo + ", " + hi + "]!")
+               : parameterException(parameterName, "must be in range [" + lo + ", " + hi
+                                                  + "], but was " + value + "!");
     }
 
-    private static String getErrorMessage(final Object msg) {
+    private static PreCheckException rangeException(final String parameterName,
+                                                    final double value,
+                                                    final double lo,
+                                                    final double hi) {
+
+        return lo > hi
+               ? checkException("invalid range [" + lo + ", " + hi + "]!")
+               : parameterException(parameterName, "must be in range [" + lo + ", " + hi
+                                                  + "], but was " + value + "!");
+    }
+
+    /*
+     * The failure messages of the buffer checks, like those of the numeric checks.
+     */
+    private static PreCheckException remainingException(final String parameterName,
+                                                        final ByteBuffer buffer,
+                                                        final int length) {
+
+        return length < 0
+               ? checkException("invalid length " + length + "!")
+               : parameterException(parameterName, "must have " + length
+                                                   + " bytes remaining, but has "
+                                                   + buffer.remaining() + "!");
+    }
+
+    private static PreCheckException boundsException(final String parameterName,
+                                                     final int offset,
+                                                     final int size,
+                                                     final String bound,
+                                                     final int length) {
+
+        return parameterException(parameterName, "range [" + offset + ", " + offset + " + " + size
+                                                 + ") out of bounds for " + bound + " " + length
+                                                 + "!");
+    }
+
+    private static PreCheckException lengthException(final String parameterName,
+                                                     final CharSequence chars,
+                                                     final int maxLength) {
+
+        return parameterException(parameterName, "must have at most " + maxLength
+                                                 + " characters, but has " + chars.length()
+                                                 + "!");
+    }
+
+    /*
+     * Every other PreCheckException is created here, so that the failure is published to the
+     * FailureEventSink, if one is started.
+     */
+    private static PreCheckException checkException(final String message) {
+
+        return FailureEventSink.publish(new PreCheckException(message));
+    }
+
+    private static PreCheckException parameterException(final String parameterName,
+                                                        final String message) {
+
+        return checkException(parameterName == null
+                              ? message
+                              : parameterMessage(parameterName, message));
+    }
+
+    private static String parameterMessage(final String parameterName,
+                                           final String message,
+                                           final int index) {
+
+        return parameterMessage(parameterName, message + index + "!");
+    }
+
+    static String parameterMessage(final String parameterName, final String message) {
+
+        return "parameter '" + parameterName + "' " + message;
+    }
+
+    static String getErrorMessage(final Object msg) {
 
         return msg == null || String.valueOf(msg).trim().length() == 0
                ? "error message is empty!"
                : String.valueOf(msg);
     }
 
+    static String getErrorMessage(final Supplier<String> supplier) {
+
+        return getErrorMessage(supplier == null ? null : supplier.get());
+    }
+
+    private static <A> String getErrorMessage(final Function<? super A, String> function,
+                                              final A arg) {
+
+        return getErrorMessage(function == null ? null : function.apply(arg));
+    }
+
     private static String format(final String msg, final Object... args) {
 
-        return String.format(getErrorMessage(msg), args);
+        return MessageTemplate.format(getErrorMessage(msg), args);
 
     }
 
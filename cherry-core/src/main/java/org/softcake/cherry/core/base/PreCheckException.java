@@ -0,0 +1,118 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+/**
+ * Thrown by {@link PreCheck} if a check fails.
+ *
+ * <p>Filling in the stack trace dominates the cost of a failed check. If the failures are
+ * expected, e.g. when validating untrusted input, the stack trace capture can be suppressed for
+ * all instances with {@link #setStackless(boolean)} or with the system property {@value
+ * #STACKLESS_PROPERTY}. A single check can instead throw a preallocated instance created by
+ * {@link #stackless(String)}.
+ *
+ * @author softcake.org
+ */
+public class PreCheckException extends IllegalArgumentException {
+
+    /**
+     * The system property that turns on the stackless mode at startup if set to {@code true}.
+     */
+    public static final String STACKLESS_PROPERTY = "org.softcake.cherry.precheck.stackless";
+
+    private static final long serialVersionUID = 4411858221254364128L;
+
+    private static volatile boolean stacklessMode = Boolean.getBoolean(STACKLESS_PROPERTY);
+
+    /**
+     * Constructs a {@code PreCheckException} with the given message.
+     *
+     * <p>The stack trace is only captured if the stackless mode is turned off.
+     *
+     * @param message the detail message
+     */
+    public PreCheckException(final String message) {
+
+        super(message);
+    }
+
+    /**
+     * Creates an exception that never captures a stack trace, regardless of the stackless mode.
+     *
+     * <p>The instance is meant to be created once for a constant message and thrown on every
+     * failure, see {@link PreCheck#expression(boolean, PreCheckException)}. As it is shared, it
+     * must not be used as the primary exception of a try-with-resources statement, which would
+     * add suppressed exceptions to it.
+     *
+     * @param message the detail message
+     *
+     * @return a new exception without stack trace
+     */
+    public static PreCheckException stackless(final String message) {
+
+        return new Stackless(message);
+    }
+
+    /**
+     * Tests whether the stackless mode is turned on.
+     *
+     * @return true if newly created exceptions do not capture a stack trace, false otherwise
+     */
+    public static boolean isStackless() {
+
+        return stacklessMode;
+    }
+
+    /**
+     * Turns the stackless mode on or off for all exceptions created afterwards.
+     *
+     * @param stackless true to suppress the stack trace capture, false to capture it
+     */
+    public static void setStackless(final boolean stackless) {
+
+        stacklessMode = stackless;
+    }
+
+    @Override
+    public Throwable fillInStackTrace() {
+
+        return stacklessMode ? this : super.fillInStackTrace();
+    }
+
+    /**
+     * A {@code PreCheckException} that skips the stack trace capture.
+     *
+     * <p>{@link IllegalArgumentException} does not expose the {@link RuntimeException} constructor
+     * that disables suppression and the writable stack trace, so the capture is skipped by
+     * overriding {@link #fillInStackTrace()} and the instance still accepts suppressed exceptions.
+     */
+    private static final class Stackless extends PreCheckException {
+
+        private static final long serialVersionUID = -2306542380960532317L;
+
+        private Stackless(final String message) {
+
+            super(message);
+        }
+
+        @Override
+        public Throwable fillInStackTrace() {
+
+            return this;
+        }
+    }
+}
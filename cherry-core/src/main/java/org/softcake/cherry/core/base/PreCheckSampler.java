@@ -0,0 +1,319 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Samples the successful invocations of the {@link PreCheck} null, empty and expression checks
+ * to find the call sites that run them most often.
+ *
+ * <p>The sampling is turned on with the system property {@value #ENABLED_PROPERTY} and cannot be
+ * toggled at runtime: the flag is a {@code static final} field, with the sampling off the JIT
+ * removes it from the checks entirely.
+ *
+ * <p>With the sampling on, every check increments a counter and one in 2^20 invocations is recorded
+ * with its calling stack frame, the period is set with {@value #PERIOD_PROPERTY}. The counters are
+ * striped by thread id and padded to separate cache lines; threads that share a stripe may lose
+ * increments, which only shifts the sampling points. A recorded sample goes into a ring buffer of
+ * the recording thread, from where a daemon thread moves it into a per call site histogram once a
+ * second. The ring buffers are bounded and drop samples when full, the histogram is bounded as well
+ * and counts the call sites beyond its capacity as {@value #OTHER_SITES}. The stack walk of a
+ * sample is the expensive part, it is skipped if the ring buffer is full. Amortized over the
+ * sampling period it costs a small fraction of a nanosecond per check, what remains on every check
+ * is the increment of the striped counter.
+ *
+ * @author softcake.org
+ */
+public final class PreCheckSampler {
+
+    /**
+     * The system property that turns on the sampling at startup if set to {@code true}.
+     */
+    public static final String ENABLED_PROPERTY = "org.softcake.cherry.precheck.sampling";
+
+    /**
+     * The system property setting the number of invocations per sample, rounded up to a power of
+     * two.
+     */
+    public static final String PERIOD_PROPERTY = "org.softcake.cherry.precheck.sampling.period";
+
+    /**
+     * The histogram key of the call sites that exceed the capacity of the histogram.
+     */
+    public static final String OTHER_SITES = "<other>";
+
+    static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final int DEFAULT_PERIOD = 1 << 20;
+
+    private static final int RING_CAPACITY = 256;
+
+    private static final int MAX_SITES = 4096;
+
+    private static final int STRIPES = 64;
+
+    private static final int PADDING = 16;
+
+    private static final long DRAIN_INTERVAL_MILLIS = 1000L;
+
+    private static final double PERCENT = 100.0;
+
+    private static final PreCheckSampler INSTANCE
+            = ENABLED ? new PreCheckSampler(Integer.getInteger(PERIOD_PROPERTY, DEFAULT_PERIOD),
+                                            RING_CAPACITY,
+                                            MAX_SITES) : null;
+
+    private final long[] stripes = new long[STRIPES * PADDING];
+
+    private final int period;
+
+    private final int ringCapacity;
+
+    private final int maxSites;
+
+    private final ThreadLocal<Ring> rings = ThreadLocal.withInitial(this::newRing);
+
+    private final List<Ring> allRings = new CopyOnWriteArrayList<>();
+
+    private final Map<String, long[]> histogram = new HashMap<>();
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private final LongAdder dropped = new LongAdder();
+
+    PreCheckSampler(final int period, final int ringCapacity, final int maxSites) {
+
+        this.period = ceilingPowerOfTwo(PreCheck.positive(period, "period"));
+        this.ringCapacity = ceilingPowerOfTwo(PreCheck.positive(ringCapacity, "ringCapacity"));
+        this.maxSites = PreCheck.positive(maxSites, "maxSites");
+    }
+
+    /**
+     * Tests whether the sampling is turned on.
+     *
+     * @return true if the sampling is turned on, false otherwise
+     */
+    public static boolean isEnabled() {
+
+        return ENABLED;
+    }
+
+    /**
+     * Returns the estimated number of invocations per check and call site.
+     *
+     * <p>The estimate is the number of samples multiplied by the sampling period. The pending
+     * samples are aggregated first, so the result includes all samples recorded so far.
+     *
+     * @return the estimates, sorted by descending count, or an empty map if the sampling is off
+     */
+    public static Map<String, Long> getInvocationEstimates() {
+
+        return ENABLED ? INSTANCE.estimates() : new LinkedHashMap<>();
+    }
+
+    /**
+     * Returns the histogram of the estimated invocations as text, one call site per line.
+     *
+     * @return the histogram, or an empty string if the sampling is off
+     */
+    public static String dump() {
+
+        return ENABLED ? INSTANCE.format() : "";
+    }
+
+    /**
+     * Discards all samples.
+     */
+    public static void reset() {
+
+        if (ENABLED) {
+            INSTANCE.clear();
+        }
+    }
+
+    static void sample(final String check) {
+
+        INSTANCE.tick(check);
+    }
+
+    void tick(final String check) {
+
+        final int stripe = (int) (Thread.currentThread().getId() & (STRIPES - 1)) * PADDING;
+
+        if ((++stripes[stripe] & (period - 1)) == 0) {
+            record(check);
+        }
+    }
+
+    private void record(final String check) {
+
+        final Ring ring = rings.get();
+
+        if (ring.isFull()) {
+            dropped.increment();
+        } else {
+            ring.offer(check + " " + CallSites.find(new Throwable().getStackTrace()));
+        }
+
+        if (!started.get() && started.compareAndSet(false, true)) {
+            startAggregator();
+        }
+    }
+
+    private Ring newRing() {
+
+        final Ring ring = new Ring(Thread.currentThread(), ringCapacity);
+        allRings.add(ring);
+        return ring;
+    }
+
+    private void startAggregator() {
+
+        final Thread aggregator = new Thread(() -> {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    TimeUnit.MILLISECONDS.sleep(DRAIN_INTERVAL_MILLIS);
+                    drain();
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "cherry-precheck-sampler");
+        aggregator.setDaemon(true);
+        aggregator.start();
+    }
+
+    synchronized void drain() {
+
+        for (final Ring ring : allRings) {
+            for (String sample = ring.poll(); sample != null; sample = ring.poll()) {
+                final String key = histogram.size() < maxSites || histogram.containsKey(sample)
+                                   ? sample
+                                   : OTHER_SITES;
+                histogram.computeIfAbsent(key, k -> new long[1])[0]++;
+            }
+
+            if (!ring.owner.isAlive()) {
+                allRings.remove(ring);
+            }
+        }
+    }
+
+    synchronized Map<String, Long> estimates() {
+
+        drain();
+
+        final List<Map.Entry<String, long[]>> entries = new ArrayList<>(histogram.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]));
+
+        final Map<String, Long> estimates = new LinkedHashMap<>();
+        entries.forEach(entry -> estimates.put(entry.getKey(), entry.getValue()[0] * period));
+        return estimates;
+    }
+
+    synchronized String format() {
+
+        final Map<String, Long> estimates = estimates();
+        final long total = estimates.values().stream().mapToLong(Long::longValue).sum();
+        final StringBuilder builder = new StringBuilder();
+
+        builder.append(String.format("PreCheck invocations, sampled 1 in %d, %d samples dropped%n",
+                                     period,
+                                     dropped.sum()));
+        estimates.forEach((site, count) -> builder.append(String.format("%14d %5.1f%% %s%n",
+                                                                        count,
+                                                                        count * PERCENT / total,
+                                                                        site)));
+        return builder.toString();
+    }
+
+    synchronized void clear() {
+
+        drain();
+        histogram.clear();
+        dropped.reset();
+    }
+
+    long getDropped() {
+
+        return dropped.sum();
+    }
+
+    private static int ceilingPowerOfTwo(final int value) {
+
+        return value == 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    /*
+     * A bounded single-producer single-consumer queue. The owning thread offers, the thread
+     * holding the sampler lock polls; an empty slot is null, so neither side reads the index of
+     * the other.
+     */
+    private static final class Ring {
+
+        private final Thread owner;
+
+        private final AtomicReferenceArray<String> slots;
+
+        private final int mask;
+
+        private long head;
+
+        private long tail;
+
+        Ring(final Thread owner, final int capacity) {
+
+            this.owner = owner;
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+        }
+
+        boolean isFull() {
+
+            return slots.get((int) tail & mask) != null;
+        }
+
+        void offer(final String sample) {
+
+            slots.lazySet((int) tail & mask, sample);
+            tail++;
+        }
+
+        String poll() {
+
+            final int index = (int) head & mask;
+            final String sample = slots.get(index);
+
+            if (sample != null) {
+                slots.lazySet(index, null);
+                head++;
+            }
+
+            return sample;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Counts the failures of the {@link PreCheck} null, empty and expression checks.
+ *
+ * <p>The counting is off by default. It is turned on with the system property {@value
+ * #ENABLED_PROPERTY}, with {@link #setEnabled(boolean)} or through the MBean, which is registered
+ * in the platform MBean server under {@value #OBJECT_NAME} as soon as the counting is turned on.
+ *
+ * <p>Only the failure path is instrumented, a passing check costs the same whether the counting
+ * is on or off. The failures are counted per check and origin in {@link LongAdder}s, which stripe
+ * their cells across threads, so many threads failing the same check do not contend on a single
+ * cache line. The calling stack frame is taken from the stack trace of the exception, failures
+ * in the stackless mode of {@link PreCheckException} are therefore counted with an unknown
+ * origin unless the check names a parameter.
+ *
+ * @author softcake.org
+ */
+public final class PreCheckStatistics implements PreCheckStatisticsMXBean {
+
+    /**
+     * The system property that turns on the counting at startup if set to {@code true}.
+     */
+    public static final String ENABLED_PROPERTY = "org.softcake.cherry.precheck.statistics";
+
+    /**
+     * The name the MBean is registered under.
+     */
+    public static final String OBJECT_NAME = "org.softcake.cherry:type=PreCheckStatistics";
+
+    private static final PreCheckStatistics INSTANCE = new PreCheckStatistics();
+
+    private final ConcurrentMap<String, ConcurrentMap<String, LongAdder>> failures
+            = new ConcurrentHashMap<>();
+
+    private volatile boolean enabled;
+
+    private boolean registered;
+
+    static {
+        if (Boolean.getBoolean(ENABLED_PROPERTY)) {
+            INSTANCE.setEnabled(true);
+        }
+    }
+
+    private PreCheckStatistics() {
+
+    }
+
+    /**
+     * Returns the statistics of all checks.
+     *
+     * @return the single instance
+     */
+    public static PreCheckStatistics getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Counts a failure if the counting is on.
+     *
+     * @param check         the name of the failed check
+     * @param parameterName the name of the checked parameter, or null to count the failure by its
+     *                      calling stack frame
+     * @param exception     the exception about to be thrown
+     *
+     * @return the given exception
+     */
+    static PreCheckException record(final String check,
+                                    final String parameterName,
+                                    final PreCheckException exception) {
+
+        if (INSTANCE.enabled) {
+            INSTANCE.increment(check, origin(parameterName, exception));
+        }
+
+        return exception;
+    }
+
+    private static String origin(final String parameterName, final Throwable exception) {
+
+        return parameterName != null ? parameterName : CallSites.find(exception.getStackTrace());
+    }
+
+    /*
+     * The counters are looked up by the check and then by the origin, so that a parameter check
+     * finds its counter without building a key. The get before computeIfAbsent avoids locking the
+     * bin once the counter exists.
+     */
+    private void increment(final String check, final String origin) {
+
+        ConcurrentMap<String, LongAdder> origins = failures.get(check);
+
+        if (origins == null) {
+            origins = failures.computeIfAbsent(check, k -> new ConcurrentHashMap<>());
+        }
+
+        LongAdder counter = origins.get(origin);
+
+        if (counter == null) {
+            counter = origins.computeIfAbsent(origin, k -> new LongAdder());
+        }
+
+        counter.increment();
+    }
+
+    @Override
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    @Override
+    public synchronized void setEnabled(final boolean enabled) {
+
+        if (enabled && !registered) {
+            register();
+            registered = true;
+        }
+
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Map<String, Long> getFailureCounts() {
+
+        final Map<String, Long> counts = new TreeMap<>();
+        failures.forEach((check, origins) -> origins.forEach(
+                (origin, counter) -> counts.put(check + " " + origin, counter.sum())));
+        return counts;
+    }
+
+    @Override
+    public long getTotalFailures() {
+
+        return failures.values()
+                       .stream()
+                       .flatMap(origins -> origins.values().stream())
+                       .mapToLong(LongAdder::sum)
+                       .sum();
+    }
+
+    @Override
+    public void reset() {
+
+        failures.clear();
+    }
+
+    private void register() {
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this,
+                                                                     new ObjectName(OBJECT_NAME));
+        } catch (final InstanceAlreadyExistsException e) {
+            // registered by a copy of this class in another class loader, counting still works
+        } catch (final JMException e) {
+            throw new IllegalStateException("Unable to register " + OBJECT_NAME, e);
+        }
+    }
+}
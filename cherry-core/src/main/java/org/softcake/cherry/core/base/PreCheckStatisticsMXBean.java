@@ -0,0 +1,65 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link PreCheckStatistics}.
+ *
+ * @author softcake.org
+ */
+public interface PreCheckStatisticsMXBean {
+
+    /**
+     * Tests whether failed checks are counted.
+     *
+     * @return true if failed checks are counted, false otherwise
+     */
+    boolean isEnabled();
+
+    /**
+     * Turns the counting of failed checks on or off.
+     *
+     * @param enabled true to count failed checks, false to stop counting
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Returns the number of failures per check and origin.
+     *
+     * <p>The key is the name of the check followed by the origin of the failure, that is the
+     * parameter name for the {@code parameter*} checks and the calling stack frame for the
+     * others, e.g. {@code "parameterNotNull id"} or {@code "notNull
+     * com.acme.OrderBook.add(OrderBook.java:42)"}.
+     *
+     * @return a snapshot of the failure counts, sorted by key
+     */
+    Map<String, Long> getFailureCounts();
+
+    /**
+     * Returns the number of failures of all checks.
+     *
+     * @return the sum of all failure counts
+     */
+    long getTotalFailures();
+
+    /**
+     * Discards all failure counts.
+     */
+    void reset();
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Validates the elements of a stream with a {@link Validator} while they are processed, without
+ * collecting them first.
+ *
+ * <pre>{@code
+ * long total = PreCheckStreams.validate(parser.records(), RECORD)
+ *                             .mapToLong(Record::amount)
+ *                             .sum();
+ *
+ * Map<String, List<Record>> byAccount = parser.records()
+ *         .collect(PreCheckStreams.validating(RECORD, Collectors.groupingBy(Record::account)));
+ * }</pre>
+ *
+ * <p>The stream returned by {@link #validate(Stream, Validator)} is as lazy as the source: an
+ * element is validated when it is pulled, short-circuiting operations stop the validation, and
+ * an unbounded source is validated in constant memory. Parallel streams split the source as
+ * before, each split validates its own elements. The first invalid element throws the exception
+ * of its rule out of the terminal operation.
+ *
+ * <p>Within a pipeline {@code map(validator::validate)} does the same. {@code peek} must not be
+ * used for validation, a terminal operation like {@code count()} may skip it if the size is known
+ * in advance.
+ *
+ * @author softcake.org
+ */
+public final class PreCheckStreams {
+
+    private PreCheckStreams() {
+
+    }
+
+    /**
+     * Returns a stream validating each element of a stream when it is consumed.
+     *
+     * <p>Closing the returned stream closes the given one.
+     *
+     * @param <T>       the type of the elements
+     * @param stream    the stream to validate
+     * @param validator the validator applied to each element
+     *
+     * @return a stream of the same elements, sequential or parallel like the given one
+     *
+     * @throws IllegalArgumentException if {@code stream} or {@code validator} is null
+     */
+    public static <T> Stream<T> validate(final Stream<T> stream,
+                                         final Validator<? super T> validator) {
+
+        PreCheck.parameterNotNull(stream, "stream");
+        PreCheck.parameterNotNull(validator, "validator");
+        final Spliterator<T> spliterator = validating(stream.spliterator(), validator);
+
+        return StreamSupport.stream(spliterator, stream.isParallel()).onClose(stream::close);
+    }
+
+    /**
+     * Returns a spliterator validating each element of a spliterator before it is passed on.
+     *
+     * <p>The returned spliterator has the characteristics of the given one, but it is not {@code
+     * SIZED}. A stream knowing its size computes {@code count()} without traversing the elements,
+     * which would not validate them. The splits of the returned spliterator validate as well.
+     *
+     * @param <T>         the type of the elements
+     * @param spliterator the spliterator to validate
+     * @param validator   the validator applied to each element
+     *
+     * @return the validating spliterator
+     *
+     * @throws IllegalArgumentException if {@code spliterator} or {@code validator} is null
+     */
+    public static <T> Spliterator<T> validating(final Spliterator<T> spliterator,
+                                                final Validator<? super T> validator) {
+
+        return new ValidatingSpliterator<>(PreCheck.parameterNotNull(spliterator, "spliterator"),
+                                           PreCheck.parameterNotNull(validator, "validator"));
+    }
+
+    /**
+     * Returns a collector validating each element before it is accumulated by another collector.
+     *
+     * <p>The returned collector has the characteristics of the given one, so concurrent and
+     * unordered collection of parallel streams works as before.
+     *
+     * @param <T>        the type of the elements
+     * @param <A>        the mutable accumulation type of the collector
+     * @param <R>        the result type of the collector
+     * @param validator  the validator applied to each element
+     * @param downstream the collector accumulating the valid elements
+     *
+     * @return the validating collector
+     *
+     * @throws IllegalArgumentException if {@code validator} or {@code downstream} is null
+     */
+    public static <T, A, R> Collector<T, A, R> validating(final Validator<? super T> validator,
+                                                          final Collector<T, A, R> downstream) {
+
+        PreCheck.parameterNotNull(validator, "validator");
+        PreCheck.parameterNotNull(downstream, "downstream");
+        final BiConsumer<A, T> accumulator = downstream.accumulator();
+
+        return Collector.of(downstream.supplier(),
+                            (container, element) -> accumulator.accept(container,
+                                                                       validate(validator,
+                                                                                element)),
+                            downstream.combiner(),
+                            downstream.finisher(),
+                            downstream.characteristics()
+                                      .toArray(new Collector.Characteristics[0]));
+    }
+
+    private static <T> T validate(final Validator<? super T> validator, final T element) {
+
+        validator.validate(element);
+        return element;
+    }
+
+    /**
+     * Validates the elements of a spliterator while they are traversed.
+     *
+     * <p>The spliterator is its own consumer of the source, passing each valid element on to the
+     * action of the current traversal, so no consumer is allocated per element. This is safe as
+     * a spliterator is only traversed by one thread at a time.
+     *
+     * @param <T> the type of the elements
+     */
+    private static final class ValidatingSpliterator<T> implements Spliterator<T>, Consumer<T> {
+
+        private final Spliterator<T> source;
+
+        private final Validator<? super T> validator;
+
+        private Consumer<? super T> downstream;
+
+        private ValidatingSpliterator(final Spliterator<T> source,
+                                      final Validator<? super T> validator) {
+
+            this.source = source;
+            this.validator = validator;
+        }
+
+        @Override
+        public void accept(final T element) {
+
+            validator.validate(element);
+            downstream.accept(element);
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+
+            downstream = PreCheck.parameterNotNull(action, "action");
+
+            return source.tryAdvance(this);
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super T> action) {
+
+            downstream = PreCheck.parameterNotNull(action, "action");
+            source.forEachRemaining(this);
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+
+            final Spliterator<T> prefix = source.trySplit();
+
+            return prefix == null ? null : new ValidatingSpliterator<>(prefix, validator);
+        }
+
+        @Override
+        public long estimateSize() {
+
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+
+            return source.characteristics() & ~(SIZED | SUBSIZED);
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+
+            return source.getComparator();
+        }
+    }
+}
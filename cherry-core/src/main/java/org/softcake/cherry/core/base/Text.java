@@ -0,0 +1,176 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Scans character sequences for the string checks of {@link PreCheck} without allocating, and
+ * caches the patterns compiled for them.
+ *
+ * <p>The whitespace test decides the Latin-1 characters above the space, the common case, without
+ * calling into {@link Character}. The ASCII test scans a {@link String} through its own {@code
+ * charAt}, which the JIT inlines, instead of the interface method of {@link CharSequence}, eight
+ * characters at a time.
+ *
+ * @author softcake.org
+ */
+final class Text {
+
+    /**
+     * Returned if no character was found.
+     */
+    static final int NOT_FOUND = -1;
+
+    private static final int PATTERN_CACHE_SIZE = 256;
+
+    private static final int ASCII_END = 0x80;
+
+    private static final int LATIN_1_END = 0x100;
+
+    private static final LoadingCache<String, Pattern> PATTERNS
+            = CacheBuilder.newBuilder()
+                          .maximumSize(PATTERN_CACHE_SIZE)
+                          .build(new CacheLoader<String, Pattern>() {
+                              @Override
+                              public Pattern load(final String regex) {
+
+                                  return Pattern.compile(regex);
+                              }
+                          });
+
+    private Text() {
+
+        throw new IllegalStateException("No instances!");
+    }
+
+    /**
+     * Tests whether a character sequence is empty or contains only whitespace as defined by
+     * {@link Character#isWhitespace(char)}.
+     *
+     * @param chars the non-null characters
+     *
+     * @return true if all characters are whitespace, false otherwise
+     */
+    static boolean isBlank(final CharSequence chars) {
+
+        final int length = chars.length();
+        int index = 0;
+
+        while (index < length && isWhitespace(chars.charAt(index))) {
+            index++;
+        }
+
+        return index == length;
+    }
+
+    /**
+     * Returns the index of the first character of a character sequence that is not ASCII.
+     *
+     * @param chars the non-null characters
+     *
+     * @return the index of the first character above {@code U+007F} or {@link #NOT_FOUND}
+     */
+    static int nonAsciiIndex(final CharSequence chars) {
+
+        return chars instanceof String
+               ? nonAsciiIndex((String) chars)
+               : nonAsciiSequenceIndex(chars);
+    }
+
+    /**
+     * Returns the compiled pattern of a regular expression, compiling it only on the first use.
+     *
+     * <p>The cache is bounded, patterns used least recently are compiled again.
+     *
+     * @param regex the non-null regular expression
+     *
+     * @return the compiled pattern
+     *
+     * @throws PatternSyntaxException if the regular expression is invalid
+     */
+    static Pattern pattern(final String regex) {
+
+        try {
+            return PATTERNS.getUnchecked(regex);
+        } catch (final UncheckedExecutionException e) {
+            // the loader only compiles, which throws nothing else
+            throw (PatternSyntaxException) e.getCause();
+        }
+    }
+
+    private static int nonAsciiIndex(final String chars) {
+
+        final int length = chars.length();
+        final int blockEnd = length - Long.BYTES;
+        int index = 0;
+
+        while (index <= blockEnd && isAscii(chars, index)) {
+            index += Long.BYTES;
+        }
+
+        while (index < length && chars.charAt(index) < ASCII_END) {
+            index++;
+        }
+
+        return index == length ? NOT_FOUND : index;
+    }
+
+    private static int nonAsciiSequenceIndex(final CharSequence chars) {
+
+        final int length = chars.length();
+        int index = 0;
+
+        while (index < length && chars.charAt(index) < ASCII_END) {
+            index++;
+        }
+
+        return index == length ? NOT_FOUND : index;
+    }
+
+    private static boolean isAscii(final String chars, final int index) {
+
+        // a constant trip count, the JIT unrolls the loop to a single test of the ORed chars
+        int bits = 0;
+
+        for (int i = 0; i < Long.BYTES; i++) {
+            bits |= chars.charAt(index + i);
+        }
+
+        return bits < ASCII_END;
+    }
+
+    private static boolean isWhitespace(final char value) {
+
+        final boolean whitespace;
+
+        if (value <= ' ') {
+            whitespace = Character.isWhitespace(value);
+        } else {
+            // no Latin-1 character above the space is whitespace, not even NEL or NBSP
+            whitespace = value >= LATIN_1_END && Character.isWhitespace(value);
+        }
+
+        return whitespace;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Confines a non thread-safe object, e.g. the writer side of a single-writer ring buffer, to one
+ * owner thread and detects accesses from any other thread.
+ *
+ * <p>A confinement is either created for the current thread or unclaimed, in which case the first
+ * thread calling {@link #check()} claims it. The owner can {@link #release()} it to hand the
+ * object over to another thread, which claims it with its next check.
+ *
+ * <p>A passing check reads one field and compares it with the current thread by identity, it is
+ * cheap enough to stay on in production code. Claiming is the only compare-and-set.
+ *
+ * <pre>{@code
+ * private final ThreadConfinement writer = ThreadConfinement.unclaimed();
+ *
+ * void publish(final Event event) {
+ *
+ *     writer.check();
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @author softcake.org
+ */
+public final class ThreadConfinement {
+
+    private static final AtomicReferenceFieldUpdater<ThreadConfinement, Thread> OWNER
+            = AtomicReferenceFieldUpdater.newUpdater(ThreadConfinement.class,
+                                                     Thread.class,
+                                                     "owner");
+
+    private volatile Thread owner;
+
+    private ThreadConfinement(final Thread owner) {
+
+        this.owner = owner;
+    }
+
+    /**
+     * Creates a confinement owned by the current thread.
+     *
+     * @return a new confinement
+     */
+    public static ThreadConfinement ofCurrentThread() {
+
+        return new ThreadConfinement(Thread.currentThread());
+    }
+
+    /**
+     * Creates a confinement that is claimed by the first thread calling {@link #check()}.
+     *
+     * @return a new confinement
+     */
+    public static ThreadConfinement unclaimed() {
+
+        return new ThreadConfinement(null);
+    }
+
+    /**
+     * Ensures that the current thread owns this confinement, claiming it if it is unclaimed.
+     *
+     * @throws IllegalStateException if another thread owns this confinement
+     */
+    public void check() {
+
+        final Thread current = Thread.currentThread();
+
+        if (owner != current && !OWNER.compareAndSet(this, null, current)) {
+
+            throw confinementException(current);
+
+        }
+    }
+
+    /**
+     * Releases this confinement, the next thread calling {@link #check()} claims it.
+     *
+     * @throws IllegalStateException if the current thread does not own this confinement
+     */
+    public void release() {
+
+        final Thread current = Thread.currentThread();
+
+        if (!OWNER.compareAndSet(this, current, null)) {
+
+            throw confinementException(current);
+
+        }
+    }
+
+    /**
+     * Tests whether the current thread owns this confinement, without claiming it.
+     *
+     * @return true if the current thread is the owner, false otherwise
+     */
+    public boolean isOwnedByCurrentThread() {
+
+        return owner == Thread.currentThread();
+    }
+
+    /**
+     * Returns the thread owning this confinement.
+     *
+     * @return the owner, null if unclaimed
+     */
+    public Thread getOwner() {
+
+        return owner;
+    }
+
+    @Override
+    public String toString() {
+
+        final Thread current = owner;
+
+        return "ThreadConfinement[" + (current == null ? "unclaimed" : current.getName()) + "]";
+    }
+
+    private IllegalStateException confinementException(final Thread current) {
+
+        final Thread confined = owner;
+
+        return new IllegalStateException("accessed by thread '" + current.getName() + "', but "
+                                         + (confined == null
+                                            ? "not claimed by it!"
+                                            : "confined to thread '" + confined.getName()
+                                              + "'!"));
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Finds the first malformed sequence in UTF-8 encoded bytes, without decoding or copying them.
+ *
+ * <p>A sequence is well-formed as defined by table 3-7 of the Unicode standard: overlong
+ * encodings, surrogates and code points above {@code U+10FFFF} are malformed. Runs of ASCII,
+ * the common case, are skipped eight bytes at a time. A word containing other bytes is probed
+ * only once, its bytes are then checked one by one. A {@link ByteBuffer} is read with absolute
+ * {@code getLong} calls, a {@code byte[]} by testing the sign bit of eight bytes at once, as Java
+ * 8 has no way to read a {@code long} from an array without allocating.
+ *
+ * @author softcake.org
+ */
+final class Utf8 {
+
+    /**
+     * Returned if all bytes are well-formed.
+     */
+    static final int WELL_FORMED = -1;
+
+    private static final long ASCII_MASK = 0x8080808080808080L;
+
+    private static final int BYTE_MASK = 0xFF;
+
+    private static final int ASCII_END = 0x80;
+
+    private static final int CONTINUATION_MIN = 0x80;
+
+    private static final int CONTINUATION_MAX = 0xBF;
+
+    private static final int TWO_BYTE_MIN = 0xC2;
+
+    private static final int THREE_BYTE_MIN = 0xE0;
+
+    private static final int FOUR_BYTE_MIN = 0xF0;
+
+    private static final int FOUR_BYTE_END = 0xF5;
+
+    private static final int NO_OVERLONG_THREE_BYTE = 0xE0;
+
+    private static final int SURROGATE_LEAD = 0xED;
+
+    private static final int NO_OVERLONG_FOUR_BYTE = 0xF0;
+
+    private static final int MAX_CODE_POINT_LEAD = 0xF4;
+
+    private static final int OVERLONG_THREE_BYTE_MIN = 0xA0;
+
+    private static final int SURROGATE_MAX = 0x9F;
+
+    private static final int OVERLONG_FOUR_BYTE_MIN = 0x90;
+
+    private static final int MAX_CODE_POINT_MAX = 0x8F;
+
+    private static final int THREE = 3;
+
+    private static final int FOUR = 4;
+
+    private Utf8() {
+
+        throw new IllegalStateException("No instances!");
+    }
+
+    /**
+     * Returns the index of the first malformed sequence of a range of an array.
+     *
+     * @param bytes  the bytes
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     *
+     * @return the index of the lead byte of the first malformed sequence or {@link #WELL_FORMED}
+     */
+    static int malformedIndex(final byte[] bytes, final int offset, final int length) {
+
+        final int end = offset + length;
+        final int wordEnd = end - Long.BYTES;
+        int index = offset;
+        int nextWord = index;
+        int malformed = WELL_FORMED;
+
+        while (index < end && malformed == WELL_FORMED) {
+            if (index >= nextWord && index <= wordEnd) {
+                final boolean ascii = isAscii(bytes, index);
+                nextWord = index + Long.BYTES;
+                index = ascii ? nextWord : index;
+            } else if (bytes[index] >= 0) {
+                index++;
+            } else {
+                final int sequence = sequenceLength(bytes[index] & BYTE_MASK,
+                                                    byteAt(bytes, index + 1, end),
+                                                    byteAt(bytes, index + 2, end),
+                                                    byteAt(bytes, index + THREE, end));
+                malformed = sequence == 0 ? index : WELL_FORMED;
+                index += sequence;
+            }
+        }
+
+        return malformed;
+    }
+
+    /**
+     * Returns the index of the first malformed sequence between the position and the limit of a
+     * buffer. The position of the buffer is not changed.
+     *
+     * @param buffer the buffer
+     *
+     * @return the index in the buffer of the lead byte of the first malformed sequence or {@link
+     * #WELL_FORMED}
+     */
+    static int malformedIndex(final ByteBuffer buffer) {
+
+        final int end = buffer.limit();
+        final int wordEnd = end - Long.BYTES;
+        int index = buffer.position();
+        int nextWord = index;
+        int malformed = WELL_FORMED;
+
+        while (index < end && malformed == WELL_FORMED) {
+            if (index >= nextWord && index <= wordEnd) {
+                final boolean ascii = (buffer.getLong(index) & ASCII_MASK) == 0;
+                nextWord = index + Long.BYTES;
+                index = ascii ? nextWord : index;
+            } else if (buffer.get(index) >= 0) {
+                index++;
+            } else {
+                final int sequence = sequenceLength(buffer.get(index) & BYTE_MASK,
+                                                    byteAt(buffer, index + 1, end),
+                                                    byteAt(buffer, index + 2, end),
+                                                    byteAt(buffer, index + THREE, end));
+                malformed = sequence == 0 ? index : WELL_FORMED;
+                index += sequence;
+            }
+        }
+
+        return malformed;
+    }
+
+    private static boolean isAscii(final byte[] bytes, final int index) {
+
+        // a constant trip count, the JIT unrolls the loop to a single test of the ORed bytes
+        int bits = 0;
+
+        for (int i = 0; i < Long.BYTES; i++) {
+            bits |= bytes[index + i];
+        }
+
+        return bits >= 0;
+    }
+
+    /*
+     * Bytes past the end are read as 0, which is not a continuation byte.
+     */
+    private static int byteAt(final byte[] bytes, final int index, final int end) {
+
+        return index < end ? bytes[index] & BYTE_MASK : 0;
+    }
+
+    private static int byteAt(final ByteBuffer buffer, final int index, final int end) {
+
+        return index < end ? buffer.get(index) & BYTE_MASK : 0;
+    }
+
+    /**
+     * Returns the length of the sequence starting with the given bytes, or 0 if it is malformed.
+     */
+    private static int sequenceLength(final int lead,
+                                      final int second,
+                                      final int third,
+                                      final int fourth) {
+
+        final int length;
+
+        if (lead < ASCII_END) {
+            length = 1;
+        } else if (lead < TWO_BYTE_MIN) {
+            length = 0;
+        } else if (lead < THREE_BYTE_MIN) {
+            length = isContinuation(second) ? 2 : 0;
+        } else if (lead < FOUR_BYTE_MIN) {
+            length = isSecond(lead, second) && isContinuation(third) ? THREE : 0;
+        } else if (lead < FOUR_BYTE_END) {
+            length = isSecond(lead, second) && isContinuation(third) && isContinuation(fourth)
+                     ? FOUR
+                     : 0;
+        } else {
+            length = 0;
+        }
+
+        return length;
+    }
+
+    /**
+     * Tests the second byte of a three or four byte sequence, whose range depends on the lead
+     * byte to exclude overlong encodings, surrogates and code points above {@code U+10FFFF}.
+     */
+    private static boolean isSecond(final int lead, final int second) {
+
+        final boolean valid;
+
+        switch (lead) {
+            case NO_OVERLONG_THREE_BYTE:
+                valid = second >= OVERLONG_THREE_BYTE_MIN && second <= CONTINUATION_MAX;
+                break;
+            case SURROGATE_LEAD:
+                valid = second >= CONTINUATION_MIN && second <= SURROGATE_MAX;
+                break;
+            case NO_OVERLONG_FOUR_BYTE:
+                valid = second >= OVERLONG_FOUR_BYTE_MIN && second <= CONTINUATION_MAX;
+                break;
+            case MAX_CODE_POINT_LEAD:
+                valid = second >= CONTINUATION_MIN && second <= MAX_CODE_POINT_MAX;
+                break;
+            default:
+                valid = isContinuation(second);
+                break;
+        }
+
+        return valid;
+    }
+
+    private static boolean isContinuation(final int value) {
+
+        return value >= CONTINUATION_MIN && value <= CONTINUATION_MAX;
+    }
+}
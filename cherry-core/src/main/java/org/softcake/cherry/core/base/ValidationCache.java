@@ -0,0 +1,232 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Remembers which {@link Validator} already passed for which object, so that an immutable object
+ * passing through several layers is validated only once.
+ *
+ * <pre>{@code
+ * private static final ValidationCache VALIDATED = ValidationCache.create(10_000);
+ *
+ * void handle(final Request request) {
+ *
+ *     VALIDATED.validate(request, REQUEST);
+ *     ...
+ * }
+ * }</pre>
+ *
+ * <p>The objects are compared by identity and referenced weakly, the cache never keeps an object
+ * alive. It is a direct-mapped table indexed by the identity hash code: every slot is updated
+ * independently by compare-and-set, there is no lock, and a repeated validation is a single read
+ * of a slot that allocates nothing. Objects whose slots collide evict each other, as do the
+ * objects of a cache that is full, which only means they are validated again.
+ *
+ * <p>Only immutable objects may be validated through the cache: a change after the first
+ * validation goes unnoticed. A failed validation is not recorded.
+ *
+ * @author softcake.org
+ */
+public final class ValidationCache {
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final AtomicReferenceArray<Entry> entries;
+
+    private final int mask;
+
+    private ValidationCache(final int capacity) {
+
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maximumSize the number of objects to remember, rounded up to a power of two
+     *
+     * @return a new cache
+     *
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive
+     */
+    public static ValidationCache create(final int maximumSize) {
+
+        final int size = Math.min(PreCheck.positive(maximumSize, "maximumSize"), MAXIMUM_CAPACITY);
+
+        return new ValidationCache(size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1);
+    }
+
+    /**
+     * Validates an object unless the validator already passed for it.
+     *
+     * @param <T>       the type of the object
+     * @param obj       the immutable object to validate
+     * @param validator the validator to apply
+     *
+     * @return the validated object
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or a rule of {@code validator} is
+     *                                  violated
+     */
+    public <T> T validate(final T obj, final Validator<? super T> validator) {
+
+        if (!isValidated(obj, validator)) {
+            PreCheck.parameterNotNull(validator, "validator").validate(obj);
+            record(obj, validator);
+        }
+
+        return obj;
+    }
+
+    /**
+     * Tests whether a validator already passed for an object.
+     *
+     * @param obj       an object
+     * @param validator a validator
+     *
+     * @return true if {@code validator} passed for {@code obj} and the cache still remembers it,
+     * false otherwise
+     */
+    public boolean isValidated(final Object obj, final Validator<?> validator) {
+
+        final Entry entry = obj == null ? null : entries.get(index(obj));
+
+        return entry != null && entry.get() == obj && entry.indexOf(validator) >= 0;
+    }
+
+    /**
+     * Forgets the validations of an object.
+     *
+     * @param obj an object
+     */
+    public void invalidate(final Object obj) {
+
+        if (obj != null) {
+            final int index = index(obj);
+            final Entry entry = entries.get(index);
+
+            if (entry != null && entry.get() == obj) {
+                entries.compareAndSet(index, entry, null);
+            }
+        }
+    }
+
+    /**
+     * Forgets the validations of all objects.
+     */
+    public void invalidateAll() {
+
+        for (int i = 0; i < entries.length(); i++) {
+            entries.set(i, null);
+        }
+    }
+
+    /**
+     * Returns the number of objects the cache remembers validations for, which may change while
+     * they are counted.
+     *
+     * @return the number of objects
+     */
+    public int size() {
+
+        int size = 0;
+
+        for (int i = 0; i < entries.length(); i++) {
+            final Entry entry = entries.get(i);
+            size += entry == null || entry.get() == null ? 0 : 1;
+        }
+
+        return size;
+    }
+
+    /**
+     * Returns the reference the cache holds an object by, so a test can clear it as the garbage
+     * collector would.
+     *
+     * @param obj an object
+     *
+     * @return the weak reference to {@code obj}, or null if the cache does not remember it
+     */
+    WeakReference<Object> reference(final Object obj) {
+
+        final Entry entry = obj == null ? null : entries.get(index(obj));
+
+        return entry != null && entry.get() == obj ? entry : null;
+    }
+
+    private void record(final Object obj, final Validator<?> validator) {
+
+        final int index = index(obj);
+        final Entry entry = entries.get(index);
+
+        // a lost race only forgets a validation, which is then repeated
+        entries.compareAndSet(index, entry, entry != null && entry.get() == obj
+                                            ? entry.append(validator)
+                                            : new Entry(obj, new Validator<?>[]{validator}));
+    }
+
+    private int index(final Object obj) {
+
+        final int hash = System.identityHashCode(obj);
+
+        // spread the high bits, the low bits of identity hash codes are not uniform on all VMs
+        return (hash ^ hash >>> Short.SIZE) & mask;
+    }
+
+    private static final class Entry extends WeakReference<Object> {
+
+        private final Validator<?>[] validators;
+
+        private Entry(final Object referent, final Validator<?>[] validators) {
+
+            super(referent);
+            this.validators = validators;
+        }
+
+        private int indexOf(final Validator<?> validator) {
+
+            int index = validators.length - 1;
+
+            while (index >= 0 && validators[index] != validator) {
+                index--;
+            }
+
+            return index;
+        }
+
+        private Entry append(final Validator<?> validator) {
+
+            final Entry result;
+            final Object referent = get();
+
+            if (indexOf(validator) >= 0 || referent == null) {
+                result = this;
+            } else {
+                final Validator<?>[] extended = Arrays.copyOf(validators, validators.length + 1);
+                extended[validators.length] = validator;
+                result = new Entry(referent, extended);
+            }
+
+            return result;
+        }
+    }
+}
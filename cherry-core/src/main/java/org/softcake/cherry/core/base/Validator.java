@@ -0,0 +1,253 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A reusable set of {@link PreCheck} checks on the properties of an object.
+ *
+ * <p>The rules are defined once and the validator is kept in a {@code static final} field:
+ *
+ * <pre>{@code
+ * private static final Validator<Order> ORDER = Validator.of(Order.class)
+ *                                                        .notNull(Order::id, "id")
+ *                                                        .notEmpty(Order::lines, "lines")
+ *                                                        .check(o -> o.qty() > 0, "no qty");
+ *
+ * void add(Order order) {
+ *     orders.add(ORDER.validate(order));
+ * }
+ * }</pre>
+ *
+ * <p>A validator is immutable, each rule returns a new validator, so it can be shared between
+ * threads. The rules are applied in the order they were added. Each rule is a {@link
+ * MethodHandle} of its {@link PreCheck} method with the property accessor or condition bound to
+ * it, and the rules of a validator are folded into a single handle when the validator is created,
+ * so a validation is one handle invocation, without iterating over the rules. A successful
+ * validation does not allocate, unless a property accessor does, e.g. by boxing a primitive.
+ *
+ * <p>Each rule is checked by the corresponding {@link PreCheck} method, so the exceptions and
+ * their messages are the same, and so are the statistics and sampling.
+ *
+ * @param <T> the type of the validated objects
+ *
+ * @author softcake.org
+ */
+public final class Validator<T> {
+
+    private static final MethodHandle[] NO_RULES = new MethodHandle[0];
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodHandle NOT_NULL = findStatic("notNull", Object.class);
+
+    private static final MethodHandle PARAMETER_NOT_NULL = findStatic("parameterNotNull",
+                                                                      Object.class,
+                                                                      String.class);
+
+    private static final MethodHandle NOT_NULL_OR_EMPTY = findStatic("notNullOrEmpty",
+                                                                     Object.class);
+
+    private static final MethodHandle PARAMETER_NOT_NULL_OR_EMPTY
+            = findStatic("parameterNotNullOrEmpty", Object.class, String.class);
+
+    private static final MethodHandle EXPRESSION = CheckChain.findStatic(LOOKUP,
+                                                                         PreCheck.class,
+                                                                         "expression",
+                                                                         void.class,
+                                                                         boolean.class,
+                                                                         Object.class);
+
+    private static final MethodHandle APPLY = findVirtual(Function.class,
+                                                          "apply",
+                                                          MethodType.methodType(Object.class,
+                                                                                Object.class));
+
+    private static final MethodHandle TEST = findVirtual(Predicate.class,
+                                                         "test",
+                                                         MethodType.methodType(boolean.class,
+                                                                               Object.class));
+
+    // each of the type (Object)void
+    private final MethodHandle[] rules;
+
+    private final MethodHandle checks;
+
+    private Validator(final MethodHandle[] rules) {
+
+        this.rules = rules;
+        checks = CheckChain.sequence(Arrays.asList(rules));
+    }
+
+    /**
+     * Creates a validator without rules.
+     *
+     * @param <T>  the type of the validated objects
+     * @param type the class of the validated objects, used for type inference only
+     *
+     * @return a validator that only checks that an object is not null
+     */
+    public static <T> Validator<T> of(final Class<T> type) {
+
+        PreCheck.parameterNotNull(type, "type");
+
+        return new Validator<>(NO_RULES);
+    }
+
+    /**
+     * Adds a rule that a property must not be null.
+     *
+     * @param property the accessor of the property
+     *
+     * @return a new validator with the rule added
+     *
+     * @see PreCheck#notNull(Object)
+     */
+    public Validator<T> notNull(final Function<? super T, ?> property) {
+
+        return with(property(NOT_NULL, property));
+    }
+
+    /**
+     * Adds a rule that a property must not be null.
+     *
+     * @param property the accessor of the property
+     * @param name     the name of the property used in the exception message
+     *
+     * @return a new validator with the rule added
+     *
+     * @see PreCheck#parameterNotNull(Object, String)
+     */
+    public Validator<T> notNull(final Function<? super T, ?> property, final String name) {
+
+        return with(property(bindName(PARAMETER_NOT_NULL, name), property));
+    }
+
+    /**
+     * Adds a rule that a property must not be null or empty.
+     *
+     * @param property the accessor of the property
+     *
+     * @return a new validator with the rule added
+     *
+     * @see PreCheck#notNullOrEmpty(Object)
+     */
+    public Validator<T> notEmpty(final Function<? super T, ?> property) {
+
+        return with(property(NOT_NULL_OR_EMPTY, property));
+    }
+
+    /**
+     * Adds a rule that a property must not be null or empty.
+     *
+     * @param property the accessor of the property
+     * @param name     the name of the property used in the exception message
+     *
+     * @return a new validator with the rule added
+     *
+     * @see PreCheck#parameterNotNullOrEmpty(Object, String)
+     */
+    public Validator<T> notEmpty(final Function<? super T, ?> property, final String name) {
+
+        return with(property(bindName(PARAMETER_NOT_NULL_OR_EMPTY, name), property));
+    }
+
+    /**
+     * Adds a rule that an object must satisfy a condition.
+     *
+     * @param condition    the condition
+     * @param errorMessage the exception message should the condition not be satisfied
+     *
+     * @return a new validator with the rule added
+     *
+     * @see PreCheck#expression(boolean, Object)
+     */
+    public Validator<T> check(final Predicate<? super T> condition, final String errorMessage) {
+
+        PreCheck.parameterNotNull(condition, "condition");
+
+        return with(MethodHandles.filterArguments(MethodHandles.insertArguments(EXPRESSION,
+                                                                                1,
+                                                                                errorMessage),
+                                                  0,
+                                                  TEST.bindTo(condition)));
+    }
+
+    /**
+     * Validates an object against all rules, in the order they were added.
+     *
+     * @param obj the object to validate
+     *
+     * @return the validated object
+     *
+     * @throws IllegalArgumentException if {@code obj} is null or a rule is violated
+     */
+    public T validate(final T obj) {
+
+        PreCheck.notNull(obj);
+
+        CheckChain.invoke(checks, obj);
+        return obj;
+    }
+
+    private Validator<T> with(final MethodHandle rule) {
+
+        final MethodHandle[] extended = Arrays.copyOf(rules, rules.length + 1);
+        extended[rules.length] = rule;
+
+        return new Validator<>(extended);
+    }
+
+    // a rule on a property, (Object)void, from a check of the property value, (Object)Object
+    private static MethodHandle property(final MethodHandle preCheck,
+                                         final Function<?, ?> property) {
+
+        PreCheck.parameterNotNull(property, "property");
+
+        return MethodHandles.filterArguments(preCheck.asType(MethodType.methodType(void.class,
+                                                                                   Object.class)),
+                                             0,
+                                             APPLY.bindTo(property));
+    }
+
+    private static MethodHandle bindName(final MethodHandle preCheck, final String name) {
+
+        return MethodHandles.insertArguments(preCheck, 1, name);
+    }
+
+    private static MethodHandle findStatic(final String name, final Class<?>... parameterTypes) {
+
+        return CheckChain.findStatic(LOOKUP, PreCheck.class, name, Object.class, parameterTypes);
+    }
+
+    private static MethodHandle findVirtual(final Class<?> owner,
+                                            final String name,
+                                            final MethodType methodType) {
+
+        try {
+            return LOOKUP.findVirtual(owner, name, methodType);
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Method " + name + methodType + " not found", e);
+        }
+    }
+}
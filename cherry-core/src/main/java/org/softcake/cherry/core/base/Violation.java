@@ -0,0 +1,163 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+/**
+ * The result of a {@code PreCheck.test*} method: either {@link #NONE} or the kind of violation
+ * the corresponding check would have thrown for.
+ *
+ * <p>The results are constants, a test allocates nothing and its result is compared by identity,
+ * which makes the tests the tool for hot paths that reject most of their input, e.g. filtering
+ * spam or parsing fuzzed frames. If the caller decides to report a violation, {@link
+ * #message(String)} builds the message {@link PreCheck} would have used, without the offending
+ * value, and {@link #exception()} returns a preallocated exception without stack trace.
+ *
+ * <pre>{@code
+ * if (PreCheck.testNotBlank(frame.getName()) != Violation.NONE
+ *     || PreCheck.testPositive(frame.getLength()) != Violation.NONE) {
+ *     rejected++;
+ *     continue;
+ * }
+ * }</pre>
+ *
+ * @author softcake.org
+ */
+public enum Violation {
+
+    /**
+     * No violation, the check passed.
+     */
+    NONE(null),
+
+    /**
+     * The value is null.
+     */
+    NULL(PreCheck.NOT_NULL_MESSAGE),
+
+    /**
+     * The value is null or empty.
+     */
+    NULL_OR_EMPTY(PreCheck.NOT_NULL_OR_EMPTY_MESSAGE),
+
+    /**
+     * The characters are null, empty or only whitespace.
+     */
+    BLANK(PreCheck.NOT_BLANK_MESSAGE),
+
+    /**
+     * The expression is false.
+     */
+    EXPRESSION(PreCheck.EXPRESSION_MESSAGE),
+
+    /**
+     * The number is zero or negative.
+     */
+    NOT_POSITIVE("must be positive!"),
+
+    /**
+     * The number is negative.
+     */
+    NEGATIVE("must not be negative!"),
+
+    /**
+     * The number is infinite or NaN.
+     */
+    NOT_FINITE("must be finite!"),
+
+    /**
+     * The number is NaN.
+     */
+    NAN("must not be NaN!"),
+
+    /**
+     * The characters contain a character above {@code U+007F}.
+     */
+    NOT_ASCII("must contain only ASCII characters!"),
+
+    /**
+     * The characters are longer than the maximum length.
+     */
+    TOO_LONG("must not be longer than the maximum length!"),
+
+    /**
+     * The characters do not match the regular expression.
+     */
+    NO_MATCH("must match the regular expression!"),
+
+    /**
+     * The bytes are not well-formed UTF-8.
+     */
+    MALFORMED_UTF8("must be well-formed UTF-8!"),
+
+    /**
+     * The index is negative or not less than the length.
+     */
+    OUT_OF_BOUNDS("must be within bounds!");
+
+    private final String message;
+
+    private final PreCheckException exception;
+
+    Violation(final String message) {
+
+        this.message = message;
+        this.exception = message == null ? null : PreCheckException.stackless(message);
+    }
+
+    /**
+     * Returns the message of this violation.
+     *
+     * @return the message, e.g. "must not be null!"
+     *
+     * @throws IllegalStateException if this is {@link #NONE}
+     */
+    public String message() {
+
+        PreCheck.state(this != NONE, "no violation!");
+        return message;
+    }
+
+    /**
+     * Returns the message of this violation for a parameter.
+     *
+     * @param parameterName the name of the violating parameter
+     *
+     * @return the message, e.g. "parameter 'parameterName' must not be null!"
+     *
+     * @throws IllegalStateException if this is {@link #NONE}
+     */
+    public String message(final String parameterName) {
+
+        return PreCheck.parameterMessage(parameterName, message());
+    }
+
+    /**
+     * Returns the preallocated exception of this violation.
+     *
+     * <p>The exception is shared and has no stack trace, see {@link
+     * PreCheckException#stackless(String)}.
+     *
+     * @return the exception with the {@link #message()} of this violation
+     *
+     * @throws IllegalStateException if this is {@link #NONE}
+     */
+    public PreCheckException exception() {
+
+        PreCheck.state(this != NONE, "no violation!");
+        return exception;
+    }
+}
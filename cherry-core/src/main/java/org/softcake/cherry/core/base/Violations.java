@@ -0,0 +1,336 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Collects the failures of any number of checks and reports them together.
+ *
+ * <p>Unlike {@link PreCheck}, a failed check does not throw. Its message, which is the same
+ * message {@link PreCheck} would have used, is collected and {@link #throwIfAny()} throws a single
+ * {@link ViolationsException} listing all of them:
+ *
+ * <pre>{@code
+ * Violations.forCurrentThread()
+ *           .parameterNotNull(request.getId(), "id")
+ *           .parameterNotNullOrEmpty(request.getLines(), "lines")
+ *           .expression(request.getQuantity() > 0, "quantity must be positive!")
+ *           .throwIfAny();
+ * }</pre>
+ *
+ * <p>Nothing is allocated while all checks pass, the message storage is created on the first
+ * violation and reused afterwards. An instance is not thread-safe; {@link #forCurrentThread()}
+ * returns an instance confined to the calling thread, which is released again by {@link
+ * #throwIfAny()} or {@link #close()}. A check sequence started while the instance of the thread
+ * is in use, e.g. by a nested validation, gets a new collector, so it never touches the
+ * violations of the outer one. A sequence that may be left by an exception before {@link
+ * #throwIfAny()}, e.g. one thrown by the code computing the checked values, releases the
+ * collector with a try-with-resources statement:
+ *
+ * <pre>{@code
+ * try (Violations violations = Violations.forCurrentThread()) {
+ *     violations.parameterNotNull(request.getId(), "id")
+ *               .expression(inventory.contains(request.getSku()), "unknown sku!")
+ *               .throwIfAny();
+ * }
+ * }</pre>
+ *
+ * @author softcake.org
+ */
+public final class Violations implements AutoCloseable {
+
+    private static final ThreadLocal<Violations> THREAD_VIOLATIONS
+            = ThreadLocal.withInitial(Violations::new);
+
+    private List<String> messages;
+
+    private boolean inUse;
+
+    private Violations() {
+
+    }
+
+    /**
+     * Creates a new, empty collector.
+     *
+     * @return a new collector
+     */
+    public static Violations create() {
+
+        return new Violations();
+    }
+
+    /**
+     * Returns the collector of the calling thread, or a new collector if that one is in use.
+     *
+     * <p>The collector of the thread is in use from this call until {@link #throwIfAny()} or
+     * {@link #close()} is called on it. Nested check sequences therefore get a new collector
+     * instead of resetting the violations of the outer sequence. A sequence that is neither
+     * completed nor closed keeps the collector of the thread, later calls then get a new
+     * collector.
+     *
+     * @return the empty collector of the calling thread, or a new collector
+     */
+    public static Violations forCurrentThread() {
+
+        final Violations violations = THREAD_VIOLATIONS.get();
+
+        if (violations.inUse) {
+            return create();
+        }
+
+        violations.inUse = true;
+        return violations.clear();
+    }
+
+    /**
+     * Checks that an object reference is not null.
+     *
+     * @param obj an object reference
+     *
+     * @return this collector
+     */
+    public Violations notNull(final Object obj) {
+
+        if (obj == null) {
+            add(PreCheck.NOT_NULL_MESSAGE);
+        }
+
+        return this;
+    }
+
+    /**
+     * Checks that an object reference is not null.
+     *
+     * @param obj          an object reference
+     * @param errorMessage the message to collect if the check fails
+     *
+     * @return this collector
+     */
+    public Violations notNull(final Object obj, final String errorMessage) {
+
+        if (obj == null) {
+            add(errorMessage);
+        }
+
+        return this;
+    }
+
+    /**
+     * Checks that an object reference is not null and not empty, see {@link
+     * PreCheck#isParamNullOrEmpty(Object)}.
+     *
+     * @param obj an object reference
+     *
+     * @return this collector
+     */
+    public Violations notNullOrEmpty(final Object obj) {
+
+        if (PreCheck.isParamNullOrEmpty(obj)) {
+            add(PreCheck.NOT_NULL_OR_EMPTY_MESSAGE);
+        }
+
+        return this;
+    }
+
+    /**
+     * Checks that an object reference is not null and not empty, see {@link
+     * PreCheck#isParamNullOrEmpty(Object)}.
+     *
+     * @param obj          an object reference
+     * @param errorMessage the message to collect if the check fails
+     *
+     * @return this collector
+     */
+    public Violations notNullOrEmpty(final Object obj, final String errorMessage) {
+
+        if (PreCheck.isParamNullOrEmpty(obj)) {
+            add(errorMessage);
+        }
+
+        return this;
+    }
+
+    /**
+     * Checks that a parameter is not null.
+     *
+     * @param obj           an object reference
+     * @param parameterName the parameter name to use in the message if the check fails.
+     *                      Message: "parameter 'parameterName' must not be null!"
+     *
+     * @return this collector
+     */
+    public Violations parameterNotNull(final Object obj, final String parameterName) {
+
+        if (obj == null) {
+            add(PreCheck.parameterMessage(parameterName, PreCheck.NOT_NULL_MESSAGE));
+        }
+
+        return this;
+    }
+
+    /**
+     * Checks that a parameter is not null and not empty, see {@link
+     * PreCheck#isParamNullOrEmpty(Object)}.
+     *
+     * @param obj           an object reference
+     * @param parameterName the parameter name to use in the message if the check fails.
+     *                      Message: "parameter 'parameterName' must not be null or empty!"
+     *
+     * @return this collector
+     */
+    public Violations parameterNotNullOrEmpty(final Object obj, final String parameterName) {
+
+        if (PreCheck.isParamNullOrEmpty(obj)) {
+            add(PreCheck.parameterMessage(parameterName, PreCheck.NOT_NULL_OR_EMPTY_MESSAGE));
+        }
+
+        return this;
+    }
+
+    /**
+     * Checks the truth of an expression.
+     *
+     * @param expression a boolean expression
+     *
+     * @return this collector
+     */
+    public Violations expression(final boolean expression) {
+
+        if (!expression) {
+            add(PreCheck.EXPRESSION_MESSAGE);
+        }
+
+        return this;
+    }
+
+    /**
+     * Checks the truth of an expression.
+     *
+     * @param expression   a boolean expression
+     * @param errorMessage the message to collect if the check fails; will be converted to a
+     *                     string using {@link String#valueOf(Object)}
+     *
+     * @return this collector
+     */
+    public Violations expression(final boolean expression, final Object errorMessage) {
+
+        if (!expression) {
+            add(PreCheck.getErrorMessage(errorMessage));
+        }
+
+        return this;
+    }
+
+    /**
+     * Checks the truth of an expression.
+     *
+     * @param expression           a boolean expression
+     * @param errorMessageSupplier supplies the message to collect; it is only invoked if the
+     *                             check fails
+     *
+     * @return this collector
+     */
+    public Violations expression(final boolean expression,
+                                 final Supplier<String> errorMessageSupplier) {
+
+        if (!expression) {
+            add(PreCheck.getErrorMessage(errorMessageSupplier));
+        }
+
+        return this;
+    }
+
+    /**
+     * Tests whether any check failed since the last reset.
+     *
+     * @return true if at least one violation was collected, false otherwise
+     */
+    public boolean hasViolations() {
+
+        return messages != null && !messages.isEmpty();
+    }
+
+    /**
+     * Returns the messages collected since the last reset.
+     *
+     * @return an unmodifiable snapshot of the messages
+     */
+    public List<String> getViolations() {
+
+        return hasViolations()
+               ? Collections.unmodifiableList(new ArrayList<>(messages))
+               : Collections.emptyList();
+    }
+
+    /**
+     * Throws a {@link ViolationsException} with all violations collected since the last reset.
+     *
+     * <p>The collector is reset in any case and can be reused afterwards, the collector of the
+     * thread is released for the next {@link #forCurrentThread()} call.
+     *
+     * @throws ViolationsException if at least one check failed
+     */
+    public void throwIfAny() {
+
+        inUse = false;
+
+        if (hasViolations()) {
+            final List<String> violations = new ArrayList<>(messages);
+            clear();
+            throw new ViolationsException(violations);
+        }
+    }
+
+    /**
+     * Discards all collected violations without throwing them and releases the collector of the
+     * thread for the next {@link #forCurrentThread()} call.
+     */
+    @Override
+    public void close() {
+
+        inUse = false;
+        clear();
+    }
+
+    /**
+     * Discards all collected violations, the message storage is kept for reuse.
+     *
+     * @return this collector
+     */
+    public Violations clear() {
+
+        if (messages != null) {
+            messages.clear();
+        }
+
+        return this;
+    }
+
+    private void add(final String message) {
+
+        if (messages == null) {
+            messages = new ArrayList<>();
+        }
+
+        messages.add(message);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Thrown by {@link Violations#throwIfAny()} with every violation that was collected.
+ *
+ * @author softcake.org
+ */
+public final class ViolationsException extends PreCheckException {
+
+    private static final long serialVersionUID = -6128170893187532517L;
+
+    private static final String DELIMITER = "; ";
+
+    private final List<String> violations;
+
+    /**
+     * Constructs a {@code ViolationsException} with the given violation messages.
+     *
+     * @param violations the messages of the failed checks, in the order they were collected
+     */
+    ViolationsException(final List<String> violations) {
+
+        super(String.join(DELIMITER, violations));
+        this.violations = Collections.unmodifiableList(violations);
+    }
+
+    /**
+     * Returns the messages of all failed checks.
+     *
+     * @return an unmodifiable list of the messages, in the order they were collected
+     */
+    public List<String> getViolations() {
+
+        return violations;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import java.util.Objects;
+
+/**
+ * The index checks of {@link PreCheck} on Java 9 and later.
+ *
+ * <p>HotSpot treats the checks of {@link Objects} as intrinsics: a check inside a counted loop
+ * is merged with the bounds check of the array access, or hoisted out of the loop entirely.
+ *
+ * @author softcake.org
+ */
+final class Indexes {
+
+    private Indexes() {
+
+        throw new IllegalStateException("No instances!");
+    }
+
+    static int checkIndex(final int index, final int length) {
+
+        return Objects.checkIndex(index, length);
+    }
+
+    static int checkFromToIndex(final int fromIndex, final int toIndex, final int length) {
+
+        return Objects.checkFromToIndex(fromIndex, toIndex, length);
+    }
+
+    static int checkFromIndexSize(final int fromIndex, final int size, final int length) {
+
+        return Objects.checkFromIndexSize(fromIndex, size, length);
+    }
+}
@@ -0,0 +1,435 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.softcake.cherry.core.base;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.softcake.cherry.core.annotation.NotEmpty;
+import org.softcake.cherry.core.annotation.NotNull;
+import org.softcake.cherry.core.annotation.Positive;
+import org.softcake.cherry.core.annotation.Valid;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BeanValidatorTest Class.
+ *
+ * @author softcake.org
+ */
+public class BeanValidatorTest {
+
+    private static final BeanValidator<Order> ORDER = BeanValidator.of(Order.class);
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_sameClass_returnsSameValidator() {
+
+        assertThat(BeanValidator.of(Order.class), is(sameInstance(ORDER)));
+    }
+
+    @Test
+    public void of_nullType_throwsException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'type' must not be null!");
+
+        BeanValidator.of(null);
+    }
+
+    @Test
+    public void validate_validObject_returnsObject() {
+
+        Order order = order();
+
+        assertThat(ORDER.validate(order), is(sameInstance(order)));
+    }
+
+    @Test
+    public void validate_nullObject_throwsException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(PreCheck.NOT_NULL_MESSAGE);
+
+        ORDER.validate(null);
+    }
+
+    @Test
+    public void validate_nullField_fieldNameInMessage() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'id' must not be null!");
+
+        ORDER.validate(new Order(null, new Customer("Jane"), lines(), 1));
+    }
+
+    @Test
+    public void validate_emptyField_fieldNameInMessage() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'lines' must not be null or empty!");
+
+        ORDER.validate(new Order("A-1", new Customer("Jane"), Collections.emptyList(), 1));
+    }
+
+    @Test
+    public void validate_notPositiveField_fieldNameInMessage() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'priority' must be positive, but was 0!");
+
+        ORDER.validate(new Order("A-1", new Customer("Jane"), lines(), 0));
+    }
+
+    @Test
+    public void validate_invalidNestedObject_throwsException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'name' must not be null or empty!");
+
+        ORDER.validate(new Order("A-1", new Customer(""), lines(), 1));
+    }
+
+    @Test
+    public void validate_invalidElement_throwsException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'qty' must be positive, but was -1!");
+
+        ORDER.validate(new Order("A-1",
+                                 new Customer("Jane"),
+                                 Arrays.asList(new Line("S-1", 1), new Line("S-2", -1)),
+                                 1));
+    }
+
+    @Test
+    public void validate_invalidElementOfIterable_throwsException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'sku' must not be null!");
+
+        ORDER.validate(new Order("A-1",
+                                 new Customer("Jane"),
+                                 new ArrayDeque<>(Collections.singletonList(new Line(null, 1))),
+                                 1));
+    }
+
+    @Test
+    public void validate_nullNestedObjectAndElements_skipped() {
+
+        Order order = new Order("A-1", null, Arrays.asList(new Line("S-1", 1), null), 1);
+
+        assertThat(BeanValidator.of(Order.class).validate(order), is(sameInstance(order)));
+    }
+
+    @Test
+    public void validate_subclassElement_validatedByItsClass() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'discount' must be positive, but was 0.0!");
+
+        ORDER.validate(new Order("A-1",
+                                 new Customer("Jane"),
+                                 Collections.singletonList(new DiscountLine("S-1", 1, 0)),
+                                 1));
+    }
+
+    @Test
+    public void validate_subclassObject_superclassFieldsChecked() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'sku' must not be null!");
+
+        BeanValidator.of(DiscountLine.class).validate(new DiscountLine(null, 1, 0.5));
+    }
+
+    @Test
+    public void validate_subclassObject_subclassFieldsChecked() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'discount' must be positive, but was 0.0!");
+
+        BeanValidator.of(Line.class).validate(new DiscountLine("S-1", 1, 0));
+    }
+
+    @Test
+    public void validate_invalidArrayElementAndMapValue_throwsException() {
+
+        Catalog catalog = new Catalog(new Line[]{new Line("S-1", 1)},
+                                      Collections.singletonMap("S-2", new Line("S-2", 0)));
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'qty' must be positive, but was 0!");
+
+        BeanValidator.of(Catalog.class).validate(catalog);
+    }
+
+    @Test
+    public void validate_undeclaredElementType_cascaded() {
+
+        Map<String, Object> lines = new LinkedHashMap<>();
+        lines.put("S-1", Collections.singletonList(new Line("S-1", 0)));
+        Catalog catalog = new Catalog(new Object[]{new Line("S-2", 1)}, lines);
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'qty' must be positive, but was 0!");
+
+        BeanValidator.of(Catalog.class).validate(catalog);
+    }
+
+    @Test
+    public void validate_selfReferencingType_validatesChain() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'value' must not be null!");
+
+        BeanValidator.of(Node.class).validate(new Node("a", new Node("b", new Node(null, null))));
+    }
+
+    @Test
+    public void validate_manyFields_allChecked() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'f8' must not be null!");
+
+        BeanValidator.of(Wide.class).validate(new Wide());
+    }
+
+    @Test
+    public void of_positiveOnReference_throwsException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("@Positive is not applicable to the field 'value' of type "
+                             + "java.lang.String");
+
+        BeanValidator.of(PositiveString.class);
+    }
+
+    @Test
+    public void of_notNullOnPrimitive_throwsException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("@NotNull is not applicable to the field 'value' of type int");
+
+        BeanValidator.of(NotNullInt.class);
+    }
+
+    @Test
+    public void validate_twoObjectCycle_validatedOnce() {
+
+        Person jane = new Person("Jane");
+        Person john = new Person("John");
+        jane.partner = john;
+        john.partner = jane;
+
+        assertThat(BeanValidator.of(Person.class).validate(jane), is(sameInstance(jane)));
+    }
+
+    @Test
+    public void validate_twoObjectCycleWithInvalidObject_throwsException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'name' must not be null!");
+
+        Person jane = new Person("Jane");
+        Person john = new Person(null);
+        jane.partner = john;
+        john.partner = jane;
+
+        BeanValidator.of(Person.class).validate(jane);
+    }
+
+    @Test
+    public void toString_containsClassName() {
+
+        assertThat(ORDER.toString(), is("BeanValidator[" + Order.class.getName() + "]"));
+    }
+
+    private static Order order() {
+
+        return new Order("A-1", new Customer("Jane"), lines(), 1);
+    }
+
+    private static List<Line> lines() {
+
+        return Arrays.asList(new Line("S-1", 1), new Line("S-2", 2));
+    }
+
+    private static final class Order {
+
+        @NotNull
+        private final String id;
+
+        @Valid
+        private final Customer customer;
+
+        @NotEmpty
+        @Valid
+        private final Iterable<Line> lines;
+
+        @Positive
+        private final byte priority;
+
+        Order(final String id,
+              final Customer customer,
+              final Iterable<Line> lines,
+              final int priority) {
+
+            this.id = id;
+            this.customer = customer;
+            this.lines = lines;
+            this.priority = (byte) priority;
+        }
+    }
+
+    private static final class Person {
+
+        @NotNull
+        private final String name;
+
+        @Valid
+        private Person partner;
+
+        Person(final String name) {
+
+            this.name = name;
+        }
+    }
+
+    private static final class Customer {
+
+        private static final String IGNORED = null;
+
+        @NotEmpty
+        private final String name;
+
+        Customer(final String name) {
+
+            this.name = name;
+        }
+    }
+
+    private static class Line {
+
+        @NotNull
+        private final String sku;
+
+        @Positive
+        private final long qty;
+
+        Line(final String sku, final long qty) {
+
+            this.sku = sku;
+            this.qty = qty;
+        }
+    }
+
+    private static final class DiscountLine extends Line {
+
+        @Positive
+        private final float discount;
+
+        DiscountLine(final String sku, final long qty, final double discount) {
+
+            super(sku, qty);
+            this.discount = (float) discount;
+        }
+    }
+
+    private static final class Catalog {
+
+        @Valid
+        private final Object[] lines;
+
+        @Valid
+        private final Map<String, ?> bySku;
+
+        Catalog(final Object[] lines, final Map<String, ?> bySku) {
+
+            this.lines = lines;
+            this.bySku = bySku;
+        }
+    }
+
+    private static final class Node {
+
+        @NotNull
+        private final String value;
+
+        @Valid
+        private final Node next;
+
+        Node(final String value, final Node next) {
+
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Wide {
+
+        @NotNull
+        private String f1 = "";
+
+        @NotNull
+        private String f2 = "";
+
+        @NotNull
+        private String f3 = "";
+
+        @NotNull
+        private String f4 = "";
+
+        @NotNull
+        private String f5 = "";
+
+        @NotNull
+        private String f6 = "";
+
+        @NotNull
+        private String f7 = "";
+
+        @NotNull
+        private String f8;
+
+        @NotNull
+        private String f9;
+    }
+
+    private static final class PositiveString {
+
+        @Positive
+        private String value;
+    }
+
+    private static final class NotNullInt {
+
+        @NotNull
+        private int value;
+    }
+}
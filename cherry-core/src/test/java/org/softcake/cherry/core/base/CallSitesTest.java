@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.softcake.cherry.core.base;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * CallSitesTest Class.
+ *
+ * @author softcake.org
+ */
+public class CallSitesTest {
+
+    @Test
+    public void isInternal_delegatingClasses_true() {
+
+        assertThat(CallSites.isInternal(PreCheck.class.getName()), is(true));
+        assertThat(CallSites.isInternal(BeanValidator.class.getName()), is(true));
+        assertThat(CallSites.isInternal(PreCheckStreams.class.getName() + "$ValidatingSpliterator"),
+                   is(true));
+        assertThat(CallSites.isInternal("java.util.stream.ReferencePipeline"), is(true));
+        assertThat(CallSites.isInternal("java.lang.invoke.LambdaForm$DMH"), is(true));
+    }
+
+    @Test
+    public void isInternal_classesSharingAPrefix_false() {
+
+        assertThat(CallSites.isInternal(CallSitesTest.class.getName()), is(false));
+        assertThat(CallSites.isInternal(PreCheck.class.getName() + "Test"), is(false));
+        assertThat(CallSites.isInternal(Validator.class.getName() + "Test"), is(false));
+        assertThat(CallSites.isInternal(CheckSwitch.class.getName() + "Test$1"), is(false));
+    }
+
+    @Test
+    public void find_firstFrameOfCaller() {
+
+        StackTraceElement[] stackTrace = {
+                new StackTraceElement(PreCheck.class.getName(), "notNull", "PreCheck.java", 1),
+                new StackTraceElement(Validator.class.getName(), "validate", "Validator.java", 2),
+                new StackTraceElement("com.acme.Orders", "place", "Orders.java", 3),
+                new StackTraceElement("com.acme.Shop", "buy", "Shop.java", 4)};
+
+        assertThat(CallSites.find(stackTrace), is("com.acme.Orders.place(Orders.java:3)"));
+    }
+
+    @Test
+    public void find_noCaller_unknown() {
+
+        assertThat(CallSites.find(new StackTraceElement[0]), is(CallSites.UNKNOWN));
+        assertThat(CallSites.find(new StackTraceElement[] {
+                new StackTraceElement(PreCheck.class.getName(), "notNull", "PreCheck.java", 1)}),
+                   is(CallSites.UNKNOWN));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * CheckSwitchTest Class.
+ *
+ * @author softcake.org
+ */
+public class CheckSwitchTest {
+
+    private static final String[] PATTERNS = CheckSwitch.parse(" com.acme.trusted..., ,"
+                                                               + "com.acme.Fast,...");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void parse_emptyProperty_noPatterns() {
+
+        assertThat(CheckSwitch.parse(null).length, is(0));
+        assertThat(CheckSwitch.parse(" ").length, is(0));
+    }
+
+    @Test
+    public void parse_trimAndSkipEmptyPatterns() {
+
+        assertThat(PATTERNS, is(new String[]{"com.acme.trusted...", "com.acme.Fast", "..."}));
+    }
+
+    @Test
+    public void isDisabled_packageAndSubpackages() {
+
+        assertThat(CheckSwitch.isDisabled("com.acme.trusted.Foo", PATTERNS), is(true));
+        assertThat(CheckSwitch.isDisabled("com.acme.trusted.io.Foo", PATTERNS), is(true));
+        assertThat(CheckSwitch.isDisabled("com.acme.trustedness.Foo", PATTERNS), is(false));
+        assertThat(CheckSwitch.isDisabled("com.acme.Foo", PATTERNS), is(false));
+    }
+
+    @Test
+    public void isDisabled_classAndNestedClasses() {
+
+        assertThat(CheckSwitch.isDisabled("com.acme.Fast", PATTERNS), is(true));
+        assertThat(CheckSwitch.isDisabled("com.acme.Fast$Inner", PATTERNS), is(true));
+        assertThat(CheckSwitch.isDisabled("com.acme.Faster", PATTERNS), is(false));
+    }
+
+    @Test
+    public void isDisabled_unnamedPackage() {
+
+        assertThat(CheckSwitch.isDisabled("Foo", PATTERNS), is(true));
+        assertThat(CheckSwitch.isDisabled("Foo", new String[]{"com..."}), is(false));
+    }
+
+    @Test
+    public void forClass_notDisabled_enabled() {
+
+        CheckSwitch checks = CheckSwitch.forClass(CheckSwitchTest.class);
+
+        assertThat(checks, sameInstance(CheckSwitch.enabled()));
+        assertThat(checks.isEnabled(), is(true));
+    }
+
+    @Test
+    public void forClass_null_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'type' must not be null!");
+        CheckSwitch.forClass(null);
+    }
+
+    @Test
+    public void enabled_invalid_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'a' must be positive, but was -1!");
+        CheckSwitch.enabled().positive(-1, "a");
+    }
+
+    @Test
+    public void disabled_invalid_returnArgumentUnchanged() {
+
+        CheckSwitch checks = CheckSwitch.disabled();
+        String empty = "";
+
+        assertThat(checks.isEnabled(), is(false));
+        assertThat(checks.notNull(null), is((Object) null));
+        assertThat(checks.notNull(null, "message"), is((Object) null));
+        assertThat(checks.notNull(null, () -> "message"), is((Object) null));
+        assertThat(checks.notNullOrEmpty(empty), sameInstance(empty));
+        assertThat(checks.notNullOrEmpty(empty, "message"), sameInstance(empty));
+        assertThat(checks.notNullOrEmpty(empty, () -> "message"), sameInstance(empty));
+        assertThat(checks.parameterNotNull(null, "a"), is((Object) null));
+        assertThat(checks.parameterNotNullOrEmpty(empty, "a"), sameInstance(empty));
+        assertThat(checks.positive(-1, "a"), is(-1));
+        assertThat(checks.positive(-1L, "a"), is(-1L));
+        assertThat(checks.positive(-1d, "a"), is(-1d));
+        assertThat(checks.nonNegative(-1, "a"), is(-1));
+        assertThat(checks.nonNegative(-1L, "a"), is(-1L));
+        assertThat(checks.nonNegative(-1d, "a"), is(-1d));
+        assertThat(checks.inRange(5, 0, 1, "a"), is(5));
+        assertThat(checks.inRange(5L, 0L, 1L, "a"), is(5L));
+        assertThat(checks.inRange(5d, 0d, 1d, "a"), is(5d));
+        assertThat(checks.finite(Double.NaN, "a"), is(Double.NaN));
+        assertThat(checks.notNaN(Double.NaN, "a"), is(Double.NaN));
+        checks.expression(false);
+        checks.expression(false, "message");
+        checks.expression(false, () -> "message");
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.softcake.cherry.core.base;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * FailureEventHandlerTest Class.
+ *
+ * @author softcake.org
+ */
+public class FailureEventHandlerTest {
+
+    private static final long TIME = 1500000000000L;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final FailureEvent event = new FailureEvent(TIME,
+                                                        "worker",
+                                                        new PreCheckException("failure!"));
+
+    @Test
+    public void logger_event_loggedAsWarning() {
+
+        Logger logger = Logger.getLogger(FailureEventHandlerTest.class.getName());
+        List<LogRecord> records = new ArrayList<>();
+        Handler collector = new Handler() {
+            @Override
+            public void publish(final LogRecord record) {
+
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {
+
+            }
+
+            @Override
+            public void close() {
+
+            }
+        };
+        logger.setUseParentHandlers(false);
+        logger.addHandler(collector);
+
+        try {
+            FailureEventHandler.logger(logger).onEvent(event);
+        } finally {
+            logger.removeHandler(collector);
+            logger.setUseParentHandlers(true);
+        }
+
+        assertThat(records.size(), is(1));
+        assertThat(records.get(0).getLevel(), is(Level.WARNING));
+        assertThat(records.get(0).getMessage(), is("[worker] failure!"));
+        assertThat(records.get(0).getMillis(), is(TIME));
+        assertThat(records.get(0).getThrown(), is(event.getException()));
+    }
+
+    @Test
+    public void file_events_appendedWithStackTrace() throws IOException {
+
+        Path file = folder.getRoot().toPath().resolve("failures.log");
+        FailureEventHandler handler = FailureEventHandler.file(file);
+
+        handler.onEvent(event);
+        handler.onEndOfBatch();
+        String flushed = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        handler.onEvent(event);
+        handler.onClose();
+        String closed = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+
+        assertThat(flushed, containsString("2017-07-14T02:40:00Z [worker] "
+                                           + PreCheckException.class.getName() + ": failure!"));
+        assertThat(flushed, containsString("\tat "));
+        assertThat(closed.length(), is(2 * flushed.length()));
+    }
+
+    @Test
+    public void memory_event_added() {
+
+        List<FailureEvent> events = new ArrayList<>();
+
+        FailureEventHandler.memory(events).onEvent(event);
+
+        assertThat(events.size(), is(1));
+        assertThat(events.get(0).toString(), is("2017-07-14T02:40:00Z [worker] "
+                                                + PreCheckException.class.getName()
+                                                + ": failure!"));
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.softcake.cherry.core.base;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FailureEventSinkTest Class.
+ *
+ * @author softcake.org
+ */
+public class FailureEventSinkTest {
+
+    private static final int THREADS = 4;
+
+    private static final int FAILURES_PER_THREAD = 1000;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final List<FailureEvent> events = new ArrayList<>();
+
+    private FailureEventSink sink;
+
+    @After
+    public void tearDown() {
+
+        if (sink != null) {
+            sink.close();
+        }
+    }
+
+    @Test
+    public void start_failingCheck_eventHandled() {
+
+        sink = FailureEventSink.start(FailureEventHandler.memory(events));
+
+        fail(() -> PreCheck.parameterNotNull(null, "order"));
+        sink.close();
+
+        assertThat(events.size(), is(1));
+        assertThat(events.get(0).getMessage(), is("parameter 'order' must not be null!"));
+        assertThat(events.get(0).getThreadName(), is(Thread.currentThread().getName()));
+        assertThat(events.get(0).getException(), instanceOf(PreCheckException.class));
+        assertThat(sink.getHandledCount(), is(1L));
+        assertThat(sink.getDroppedCount(), is(0L));
+    }
+
+    @Test
+    public void start_failingChecksOfAllKinds_eventsHandled() {
+
+        sink = FailureEventSink.start(FailureEventHandler.memory(events));
+
+        fail(() -> PreCheck.positive(0, "qty"));
+        fail(() -> PreCheck.noNullElements(new Object[]{null}));
+        fail(() -> PreCheck.expression(false, "expression"));
+        fail(() -> PreCheck.state(false, "state"));
+        PreCheck.positive(1, "qty");
+        sink.close();
+
+        assertThat(events.size(), is(4));
+        assertThat(events.get(0).getMessage(), is("parameter 'qty' must be positive, but was 0!"));
+        assertThat(events.get(3).getException(), instanceOf(IllegalStateException.class));
+    }
+
+    @Test
+    public void publish_noSinkStarted_returnsException() {
+
+        PreCheckException exception = new PreCheckException("failure");
+
+        assertThat(FailureEventSink.publish(exception), is(exception));
+    }
+
+    @Test
+    public void start_alreadyStarted_throwsException() {
+
+        sink = FailureEventSink.start(FailureEventHandler.memory(events));
+
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("a failure event sink is already started!");
+
+        FailureEventSink.start(FailureEventHandler.memory(events));
+    }
+
+    @Test
+    public void close_startedSink_canBeStartedAgain() {
+
+        FailureEventSink first = FailureEventSink.start(FailureEventHandler.memory(events));
+        first.close();
+        first.close();
+        sink = FailureEventSink.start(FailureEventHandler.memory(events));
+
+        assertThat(first.isStarted(), is(false));
+        assertThat(sink.isStarted(), is(true));
+    }
+
+    @Test
+    public void start_capacity_roundedUpToPowerOfTwo() {
+
+        sink = FailureEventSink.start(3, FailureEventHandler.memory(events));
+
+        assertThat(sink.getCapacity(), is(4));
+    }
+
+    @Test
+    public void start_nonPositiveCapacity_throwsException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'capacity' must be positive, but was 0!");
+
+        FailureEventSink.start(0, FailureEventHandler.memory(events));
+    }
+
+    @Test
+    public void start_nullHandler_throwsException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'handler' must not be null!");
+
+        FailureEventSink.start(null);
+    }
+
+    @Test
+    public void publish_bufferFull_dropsAndCounts() throws InterruptedException {
+
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        sink = FailureEventSink.start(2, event -> {
+            events.add(event);
+            entered.countDown();
+            awaitQuietly(release);
+        });
+
+        fail(() -> PreCheck.notNull(null));
+        assertThat(entered.await(10, TimeUnit.SECONDS), is(true));
+
+        for (int i = 0; i < 5; i++) {
+            fail(() -> PreCheck.notNull(null));
+        }
+
+        release.countDown();
+        sink.close();
+
+        assertThat(sink.getDroppedCount(), is(3L));
+        assertThat(sink.getHandledCount(), is(3L));
+        assertThat(events.size(), is(3));
+    }
+
+    @Test
+    public void handle_handlerFails_consumerCarriesOn() {
+
+        sink = FailureEventSink.start(event -> {
+            events.add(event);
+            PreCheck.state(events.size() > 1, "handler failed");
+        });
+
+        fail(() -> PreCheck.notNull(null));
+        fail(() -> PreCheck.notNull(null));
+        sink.close();
+
+        assertThat(events.size(), is(2));
+        assertThat(sink.getHandlerFailureCount(), is(1L));
+        assertThat(sink.getHandledCount(), is(2L));
+    }
+
+    @Test
+    public void publish_concurrentFailures_allHandled() throws InterruptedException {
+
+        sink = FailureEventSink.start(THREADS * FAILURES_PER_THREAD,
+                                      FailureEventHandler.memory(events));
+        List<Thread> threads = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < FAILURES_PER_THREAD; i++) {
+                    fail(() -> PreCheck.notNull(null));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        sink.close();
+
+        assertThat(sink.getDroppedCount(), is(0L));
+        assertThat(sink.getHandledCount(), is((long) THREADS * FAILURES_PER_THREAD));
+        assertThat(events.size(), is(THREADS * FAILURES_PER_THREAD));
+    }
+
+    @Test
+    public void toString_containsCounts() {
+
+        sink = FailureEventSink.start(FailureEventHandler.memory(events));
+
+        assertThat(sink.toString(), is("FailureEventSink[capacity=1024, handled=0, dropped=0]"));
+    }
+
+    private static void fail(final Runnable check) {
+
+        boolean failed = false;
+
+        try {
+            check.run();
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            failed = true;
+        }
+
+        assertThat(failed, is(true));
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * IndexesTest Class.
+ *
+ * <p>The messages are those of {@code java.util.Objects}, so the test passes against both
+ * versions of {@link Indexes}.
+ *
+ * @author softcake.org
+ */
+public class IndexesTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void checkIndex_inBounds_returnIndex() {
+
+        assertThat(Indexes.checkIndex(0, 1), is(0));
+        assertThat(Indexes.checkIndex(9, 10), is(9));
+    }
+
+    @Test
+    public void checkIndex_equalToLength_throwException() {
+
+        thrown.expect(IndexOutOfBoundsException.class);
+        thrown.expectMessage("Index 3 out of bounds for length 3");
+        Indexes.checkIndex(3, 3);
+    }
+
+    @Test
+    public void checkIndex_negative_throwException() {
+
+        thrown.expect(IndexOutOfBoundsException.class);
+        thrown.expectMessage("Index -1 out of bounds for length 3");
+        Indexes.checkIndex(-1, 3);
+    }
+
+    @Test
+    public void checkFromToIndex_inBounds_returnFromIndex() {
+
+        assertThat(Indexes.checkFromToIndex(0, 0, 0), is(0));
+        assertThat(Indexes.checkFromToIndex(2, 5, 5), is(2));
+    }
+
+    @Test
+    public void checkFromToIndex_fromAfterTo_throwException() {
+
+        thrown.expect(IndexOutOfBoundsException.class);
+        thrown.expectMessage("Range [3, 2) out of bounds for length 5");
+        Indexes.checkFromToIndex(3, 2, 5);
+    }
+
+    @Test
+    public void checkFromToIndex_toAfterLength_throwException() {
+
+        thrown.expect(IndexOutOfBoundsException.class);
+        thrown.expectMessage("Range [0, 6) out of bounds for length 5");
+        Indexes.checkFromToIndex(0, 6, 5);
+    }
+
+    @Test
+    public void checkFromIndexSize_inBounds_returnFromIndex() {
+
+        assertThat(Indexes.checkFromIndexSize(5, 0, 5), is(5));
+        assertThat(Indexes.checkFromIndexSize(1, 4, 5), is(1));
+    }
+
+    @Test
+    public void checkFromIndexSize_overflow_throwException() {
+
+        thrown.expect(IndexOutOfBoundsException.class);
+        thrown.expectMessage("Range [1, 1 + 2147483647) out of bounds for length 5");
+        Indexes.checkFromIndexSize(1, Integer.MAX_VALUE, 5);
+    }
+
+    @Test
+    public void checkFromIndexSize_negativeSize_throwException() {
+
+        thrown.expect(IndexOutOfBoundsException.class);
+        thrown.expectMessage("Range [1, 1 + -1) out of bounds for length 5");
+        Indexes.checkFromIndexSize(1, -1, 5);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * MessageTemplateTest Class.
+ *
+ * @author softcake.org
+ */
+public class MessageTemplateTest {
+
+    @Test
+    public void format_placeholdersMatchedByPosition_assert() {
+
+        String message = MessageTemplate.format("%s must be lower than %s", 1, 2L);
+        assertThat(message, is("1 must be lower than 2"));
+    }
+
+    @Test
+    public void format_unmatchedArgumentsAppendedInBraces_assert() {
+
+        String message = MessageTemplate.format("value %s", "a", 'b', null);
+        assertThat(message, is("value a [b, null]"));
+    }
+
+    @Test
+    public void format_unmatchedPlaceholdersLeftAsIs_assert() {
+
+        String message = MessageTemplate.format("%s and %s and %s", "a");
+        assertThat(message, is("a and %s and %s"));
+    }
+
+    @Test
+    public void format_otherConversionsLeftAsIs_assert() {
+
+        String message = MessageTemplate.format("%d%% of %s", "all");
+        assertThat(message, is("%d%% of all"));
+    }
+
+    @Test
+    public void format_adjacentPlaceholders_assert() {
+
+        String message = MessageTemplate.format("%s%s%s", "a", "b", "c");
+        assertThat(message, is("abc"));
+    }
+
+    @Test
+    public void format_noArguments_assert() {
+
+        assertThat(MessageTemplate.format("no %s"), is("no %s"));
+        assertThat(MessageTemplate.format("no %s", (Object[]) null), is("no %s"));
+    }
+
+    @Test
+    public void format_onlyArguments_assert() {
+
+        String message = MessageTemplate.format("", "a", "b");
+        assertThat(message, is(" [a, b]"));
+    }
+
+    @Test
+    public void parse_manyPlaceholders_assert() {
+
+        StringBuilder template = new StringBuilder();
+        Object[] args = new Object[10];
+
+        for (int i = 0; i < args.length; i++) {
+            template.append("%s,");
+            args[i] = i;
+        }
+
+        String message = MessageTemplate.parse(template.toString()).format(args);
+        assertThat(message, is("0,1,2,3,4,5,6,7,8,9,"));
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NullHostileTypesTest Class.
+ *
+ * @author softcake.org
+ */
+public class NullHostileTypesTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void isNullHostile_guavaImmutables_true() {
+
+        assertThat(NullHostileTypes.isNullHostile(ImmutableList.of(1, 2, 3).getClass()), is(true));
+        assertThat(NullHostileTypes.isNullHostile(ImmutableSet.of(1).getClass()), is(true));
+        assertThat(NullHostileTypes.isNullHostile(ImmutableMap.of(1, 2).getClass()), is(true));
+        assertThat(NullHostileTypes.isNullHostile(ImmutableMap.of(1, 2).values().getClass()),
+                   is(true));
+    }
+
+    @Test
+    public void isNullHostile_enumSet_true() {
+
+        assertThat(NullHostileTypes.isNullHostile(EnumSet.allOf(TimeUnit.class).getClass()),
+                   is(true));
+    }
+
+    @Test
+    public void isNullHostile_jdkImmutables_true() throws ClassNotFoundException {
+
+        Assume.assumeThat(System.getProperty("java.specification.version").startsWith("1."),
+                          is(false));
+
+        assertThat(NullHostileTypes.isNullHostile(
+                Class.forName("java.util.ImmutableCollections$Set12")), is(true));
+        assertThat(NullHostileTypes.isNullHostile(
+                Class.forName("java.util.ImmutableCollections$ListN")), is(false));
+    }
+
+    @Test
+    public void isNullHostile_mutableCollections_false() {
+
+        assertThat(NullHostileTypes.isNullHostile(ArrayList.class), is(false));
+        assertThat(NullHostileTypes.isNullHostile(HashMap.class), is(false));
+        assertThat(NullHostileTypes.isNullHostile(Arrays.asList(1).getClass()), is(false));
+        assertThat(NullHostileTypes.isNullHostile(Collections.emptyList().getClass()), is(false));
+    }
+
+    @Test
+    public void register_afterResolution_invalidatesCache() {
+
+        assertThat(NullHostileTypes.isNullHostile(NullFreeList.class), is(false));
+
+        NullHostileTypes.register(NullFreeList.class);
+
+        assertThat(NullHostileTypes.isNullHostile(NullFreeList.class), is(true));
+    }
+
+    @Test
+    public void register_null_throwsException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'type' must not be null!");
+        NullHostileTypes.register(null);
+    }
+
+    @Test
+    public void noNullElements_nullHostile_notScanned() {
+
+        NullHostileTypes.register(ScannedList.class);
+        final ScannedList list = new ScannedList();
+
+        assertSame(list, PreCheck.noNullElements(list));
+        assertThat(list.scanned, is(false));
+    }
+
+    private static final class NullFreeList extends ArrayList<Object> {
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static final class ScannedList extends ArrayList<Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        private boolean scanned;
+
+        @Override
+        public Object get(final int index) {
+
+            scanned = true;
+            return super.get(index);
+        }
+
+        @Override
+        public int size() {
+
+            scanned = true;
+            return super.size();
+        }
+    }
+}
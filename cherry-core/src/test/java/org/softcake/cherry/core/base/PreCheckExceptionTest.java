@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * PreCheckExceptionTest Class.
+ *
+ * @author softcake.org
+ */
+public class PreCheckExceptionTest {
+
+    private static final String MESSAGE = "This is the error message!";
+
+    @After
+    public void tearDown() {
+
+        PreCheckException.setStackless(false);
+    }
+
+    @Test
+    public void preCheck_failure_throwsPreCheckExceptionWithStackTrace() {
+
+        try {
+            PreCheck.notNull(null, MESSAGE);
+            fail("Expected a PreCheckException to be thrown");
+        } catch (final PreCheckException e) {
+            assertThat(e.getMessage(), is(MESSAGE));
+            assertTrue(e.getStackTrace().length > 0);
+        }
+    }
+
+    @Test
+    public void setStackless_true_noStackTrace() {
+
+        PreCheckException.setStackless(true);
+        assertThat(PreCheckException.isStackless(), is(true));
+
+        try {
+            PreCheck.expression(false, "the value is %s", 42);
+            fail("Expected a PreCheckException to be thrown");
+        } catch (final PreCheckException e) {
+            assertThat(e.getMessage(), is("the value is 42"));
+            assertThat(e.getStackTrace().length, is(0));
+        }
+    }
+
+    @Test
+    public void stackless_neverCapturesStackTrace() {
+
+        PreCheckException exception = PreCheckException.stackless(MESSAGE);
+
+        assertThat(exception.getMessage(), is(MESSAGE));
+        assertThat(exception.getStackTrace().length, is(0));
+        assertSame(exception, exception.fillInStackTrace());
+        assertThat(exception.getStackTrace().length, is(0));
+    }
+
+    @Test
+    public void expression_falseWithPreallocatedException_throwSameInstance() {
+
+        PreCheckException exception = PreCheckException.stackless(MESSAGE);
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                PreCheck.expression(false, exception);
+                fail("Expected a PreCheckException to be thrown");
+            } catch (final PreCheckException e) {
+                assertSame(exception, e);
+            }
+        }
+    }
+
+    @Test
+    public void notNull_withPreallocatedException_assert() {
+
+        PreCheckException exception = PreCheckException.stackless(MESSAGE);
+
+        assertThat(PreCheck.notNull(MESSAGE, exception), is(MESSAGE));
+
+        try {
+            PreCheck.notNull(null, exception);
+            fail("Expected a PreCheckException to be thrown");
+        } catch (final PreCheckException e) {
+            assertSame(exception, e);
+        }
+    }
+
+    @Test
+    public void notNullOrEmpty_withPreallocatedException_assert() {
+
+        PreCheckException exception = PreCheckException.stackless(MESSAGE);
+
+        assertThat(PreCheck.notNullOrEmpty(MESSAGE, exception), is(MESSAGE));
+
+        try {
+            PreCheck.notNullOrEmpty("", exception);
+            fail("Expected a PreCheckException to be thrown");
+        } catch (final PreCheckException e) {
+            assertSame(exception, e);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Map;
+
+/**
+ * PreCheckSamplerTest Class.
+ *
+ * @author softcake.org
+ */
+public class PreCheckSamplerTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void disabledByDefault() {
+
+        assertThat(PreCheckSampler.isEnabled(), is(false));
+        assertThat(PreCheckSampler.getInvocationEstimates().isEmpty(), is(true));
+        assertThat(PreCheckSampler.dump(), is(""));
+        PreCheckSampler.reset();
+    }
+
+    @Test
+    public void tick_onePerPeriod_estimateByCallSite() {
+
+        PreCheckSampler sampler = new PreCheckSampler(3, 16, 10);
+
+        for (int i = 0; i < 16; i++) {
+            sampler.tick("notNull");
+        }
+
+        Map<String, Long> estimates = sampler.estimates();
+        assertThat(estimates.size(), is(1));
+
+        Map.Entry<String, Long> entry = estimates.entrySet().iterator().next();
+        assertThat(entry.getKey(), startsWith("notNull " + getClass().getName()));
+        assertThat(entry.getValue(), is(16L));
+    }
+
+    @Test
+    public void estimates_sortedByCount() {
+
+        PreCheckSampler sampler = new PreCheckSampler(1, 16, 10);
+
+        sampler.tick("expression");
+        for (int i = 0; i < 2; i++) {
+            sampler.tick("notNull");
+        }
+
+        String[] keys = sampler.estimates().keySet().toArray(new String[0]);
+        assertThat(keys[0], startsWith("notNull "));
+        assertThat(keys[1], startsWith("expression "));
+    }
+
+    @Test
+    public void drain_tooManySites_countAsOther() {
+
+        PreCheckSampler sampler = new PreCheckSampler(1, 16, 1);
+
+        sampler.tick("notNull");
+        sampler.tick("expression");
+        sampler.tick("expression");
+
+        Map<String, Long> estimates = sampler.estimates();
+        assertThat(estimates.size(), is(2));
+        assertThat(estimates.get(PreCheckSampler.OTHER_SITES), is(2L));
+    }
+
+    @Test
+    public void tick_ringFull_dropSamples() {
+
+        PreCheckSampler sampler = new PreCheckSampler(1, 2, 10);
+
+        for (int i = 0; i < 5; i++) {
+            sampler.tick("notNull");
+        }
+
+        assertThat(sampler.getDropped(), is(3L));
+        assertThat(sampler.estimates().values().iterator().next(), is(2L));
+
+        sampler.tick("notNull");
+        assertThat(sampler.estimates().values().stream().mapToLong(Long::longValue).sum(), is(3L));
+    }
+
+    @Test
+    public void format_histogram() {
+
+        PreCheckSampler sampler = new PreCheckSampler(1, 16, 10);
+        sampler.tick("notNull");
+
+        String dump = sampler.format();
+        assertThat(dump, startsWith("PreCheck invocations, sampled 1 in 1, 0 samples dropped"));
+        assertThat(dump, containsString("100.0% notNull " + getClass().getName()));
+
+        sampler.clear();
+        assertThat(sampler.estimates().isEmpty(), is(true));
+    }
+
+    @Test
+    public void constructor_invalidPeriod_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'period' must be positive, but was 0!");
+        new PreCheckSampler(0, 16, 10);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.Assert.assertThat;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.stream.Stream;
+import javax.management.ObjectName;
+
+/**
+ * PreCheckStatisticsTest Class.
+ *
+ * @author softcake.org
+ */
+public class PreCheckStatisticsTest {
+
+    private final PreCheckStatistics statistics = PreCheckStatistics.getInstance();
+
+    @Before
+    public void setUp() {
+
+        statistics.setEnabled(true);
+        statistics.reset();
+    }
+
+    @After
+    public void tearDown() {
+
+        statistics.setEnabled(false);
+        statistics.reset();
+        PreCheckException.setStackless(false);
+    }
+
+    @Test
+    public void record_parameterCheck_countByParameterName() {
+
+        fail(() -> PreCheck.parameterNotNull(null, "id"));
+        fail(() -> PreCheck.parameterNotNull(null, "id"));
+        fail(() -> PreCheck.parameterNotNullOrEmpty("", "name"));
+
+        Map<String, Long> counts = statistics.getFailureCounts();
+        assertThat(counts.get("parameterNotNull id"), is(2L));
+        assertThat(counts.get("parameterNotNullOrEmpty name"), is(1L));
+        assertThat(statistics.getTotalFailures(), is(3L));
+    }
+
+    @Test
+    public void record_failureFactories_countAsParameterCheck() {
+
+        PreCheckException exception = PreCheck.parameterNullFailure("id");
+        PreCheck.parameterNullOrEmptyFailure("name");
+
+        Map<String, Long> counts = statistics.getFailureCounts();
+        assertThat(exception.getMessage(), is("parameter 'id' must not be null!"));
+        assertThat(counts.get("parameterNotNull id"), is(1L));
+        assertThat(counts.get("parameterNotNullOrEmpty name"), is(1L));
+    }
+
+    @Test
+    public void record_otherChecks_countByCallSite() {
+
+        fail(() -> PreCheck.notNull(null, "message %s", 1));
+        fail(() -> PreCheck.notNullOrEmpty(""));
+        fail(() -> PreCheck.expression(false, PreCheckException.stackless("message")));
+        fail(() -> CheckSwitch.enabled().notNull(null));
+
+        Map<String, Long> counts = statistics.getFailureCounts();
+        assertThat(counts.size(), is(4));
+        String[] keys = counts.keySet().toArray(new String[0]);
+        assertThat(keys[0], is("expression <unknown>"));
+        assertThat(keys[1], startsWith("notNull " + PreCheckStatisticsTest.class.getName()));
+        assertThat(keys[2], startsWith("notNull " + PreCheckStatisticsTest.class.getName()));
+        assertThat(keys[3], startsWith("notNullOrEmpty " + PreCheckStatisticsTest.class.getName()));
+    }
+
+    @Test
+    public void record_delegatingClasses_countByCallSite() {
+
+        Validator<String> validator = Validator.of(String.class).notNull(value -> null);
+
+        fail(() -> validator.validate("value"));
+        fail(() -> PreCheckStreams.validate(Stream.of("value"), validator).forEach(value -> { }));
+        fail(() -> ValidationCache.create(1).validate("value", validator));
+
+        Map<String, Long> counts = statistics.getFailureCounts();
+        assertThat(counts.size(), is(3));
+
+        for (final String key : counts.keySet()) {
+            assertThat(key, startsWith("notNull " + PreCheckStatisticsTest.class.getName()));
+        }
+    }
+
+    @Test
+    public void record_stackless_countUnknownCallSite() {
+
+        PreCheckException.setStackless(true);
+        fail(() -> PreCheck.notNull(null));
+
+        assertThat(statistics.getFailureCounts().get("notNull <unknown>"), is(1L));
+    }
+
+    @Test
+    public void record_passingCheckOrOtherCheck_notCounted() {
+
+        PreCheck.notNull("value");
+        PreCheck.expression(true);
+        fail(() -> PreCheck.positive(-1));
+
+        assertThat(statistics.getTotalFailures(), is(0L));
+    }
+
+    @Test
+    public void record_disabled_notCounted() {
+
+        statistics.setEnabled(false);
+        fail(() -> PreCheck.notNull(null));
+
+        assertThat(statistics.getTotalFailures(), is(0L));
+    }
+
+    @Test
+    public void mbean_registeredOnEnable() throws Exception {
+
+        fail(() -> PreCheck.parameterNotNull(null, "id"));
+
+        ObjectName name = new ObjectName(PreCheckStatistics.OBJECT_NAME);
+        Object total = ManagementFactory.getPlatformMBeanServer()
+                                        .getAttribute(name, "TotalFailures");
+        assertThat(total, is((Object) 1L));
+    }
+
+    private static void fail(final Runnable check) {
+
+        try {
+            check.run();
+        } catch (final IllegalArgumentException e) {
+            return;
+        }
+
+        throw new AssertionError("Expected an IllegalArgumentException to be thrown");
+    }
+}
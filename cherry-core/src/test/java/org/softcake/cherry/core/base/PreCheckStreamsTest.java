@@ -0,0 +1,214 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * PreCheckStreamsTest Class.
+ *
+ * @author softcake.org
+ */
+public class PreCheckStreamsTest {
+
+    private static final Validator<Integer> POSITIVE = Validator.of(Integer.class)
+                                                                .check(i -> i > 0,
+                                                                       "must be positive");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void validate_validElements_sameElements() {
+
+        assertThat(PreCheckStreams.validate(Stream.of(1, 2, 3), POSITIVE)
+                                  .collect(Collectors.toList()), is(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test
+    public void validate_invalidElement_throwsException() {
+
+        Stream<Integer> validated = PreCheckStreams.validate(Stream.of(1, 0, 3), POSITIVE);
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("must be positive");
+
+        validated.forEach(i -> { });
+    }
+
+    @Test
+    public void validate_nullElement_throwsException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(PreCheck.NOT_NULL_MESSAGE);
+
+        PreCheckStreams.validate(Stream.of(1, null), POSITIVE).count();
+    }
+
+    @Test
+    public void validate_shortCircuit_elementsAfterNotValidated() {
+
+        AtomicInteger pulled = new AtomicInteger();
+        Stream<Integer> source = Stream.of(1, 2, 0, 4).peek(i -> pulled.incrementAndGet());
+
+        assertThat(PreCheckStreams.validate(source, POSITIVE).anyMatch(i -> i == 2), is(true));
+        assertThat(pulled.get(), is(2));
+    }
+
+    @Test
+    public void validate_unboundedSource_lazy() {
+
+        Stream<Integer> naturals = Stream.iterate(1, i -> i + 1);
+
+        assertThat(PreCheckStreams.validate(naturals, POSITIVE)
+                                  .limit(100_000)
+                                  .mapToLong(Integer::longValue)
+                                  .sum(), is(5_000_050_000L));
+    }
+
+    @Test
+    public void validate_parallelStream_everyElementValidated() {
+
+        Stream<Integer> source = IntStream.rangeClosed(-1, 100_000).boxed().parallel();
+        Stream<Integer> validated = PreCheckStreams.validate(source, POSITIVE);
+
+        assertThat(validated.isParallel(), is(true));
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("must be positive");
+
+        validated.filter(i -> i > 50_000).count();
+    }
+
+    @Test
+    public void validate_parallelStream_sameResult() {
+
+        Stream<Integer> source = IntStream.rangeClosed(1, 100_000).boxed().parallel();
+
+        assertThat(PreCheckStreams.validate(source, POSITIVE).mapToLong(Integer::longValue).sum(),
+                   is(5_000_050_000L));
+    }
+
+    @Test
+    public void validate_close_closesSource() {
+
+        AtomicBoolean closed = new AtomicBoolean();
+
+        PreCheckStreams.validate(Stream.of(1).onClose(() -> closed.set(true)), POSITIVE).close();
+
+        assertThat(closed.get(), is(true));
+    }
+
+    @Test
+    public void validating_spliterator_notSized() {
+
+        Spliterator<Integer> source = Arrays.spliterator(new Integer[]{1, 2, 3, 4});
+        Spliterator<Integer> validating = PreCheckStreams.validating(source, POSITIVE);
+
+        assertThat(validating.characteristics(),
+                   is(source.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED)));
+        assertThat(validating.getExactSizeIfKnown(), is(-1L));
+        assertThat(validating.trySplit(), is(notNullValue()));
+        assertThat(validating.estimateSize(), is(2L));
+    }
+
+    @Test
+    public void validating_spliteratorSplit_validates() {
+
+        Spliterator<Integer> validating = PreCheckStreams.validating(
+                Arrays.spliterator(new Integer[]{0, 2, 3, 4}), POSITIVE);
+        Spliterator<Integer> prefix = validating.trySplit();
+
+        assertThat(validating.tryAdvance(i -> { }), is(true));
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("must be positive");
+
+        prefix.tryAdvance(i -> { });
+    }
+
+    @Test
+    public void validating_collector_collectsValidElements() {
+
+        List<Integer> collected = Stream.of(3, 1, 2)
+                                        .collect(PreCheckStreams.validating(POSITIVE,
+                                                                            Collectors.toList()));
+
+        assertThat(collected, is(Arrays.asList(3, 1, 2)));
+    }
+
+    @Test
+    public void validating_collector_sameCharacteristics() {
+
+        Collector<Integer, ?, Set<Integer>> toSet = Collectors.toSet();
+
+        assertThat(PreCheckStreams.validating(POSITIVE, toSet).characteristics(),
+                   is(toSet.characteristics()));
+    }
+
+    @Test
+    public void validating_collectorParallel_throwsException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("must be positive");
+
+        IntStream.rangeClosed(0, 100_000)
+                 .boxed()
+                 .parallel()
+                 .collect(PreCheckStreams.validating(POSITIVE,
+                                                     Collectors.groupingByConcurrent(i -> i % 10)));
+    }
+
+    @Test
+    public void validate_nullValidator_throwsException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'validator' must not be null!");
+
+        PreCheckStreams.validate(Stream.of(1), null);
+    }
+
+    @Test
+    public void validate_nullValidator_streamNotConsumed() {
+
+        Stream<Integer> stream = Stream.of(1);
+
+        try {
+            PreCheckStreams.validate(stream, null);
+        } catch (final IllegalArgumentException e) {
+            assertThat(stream.count(), is(1L));
+            return;
+        }
+
+        throw new AssertionError("Expected an IllegalArgumentException to be thrown");
+    }
+}
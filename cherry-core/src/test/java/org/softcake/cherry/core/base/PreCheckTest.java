@@ -17,6 +17,7 @@
 package org.softcake.cherry.core.base;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
@@ -28,10 +29,20 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 /**
  * PreCheckTest Class.
@@ -46,7 +57,7 @@ public class PreCheckTest {
 
     private static final String PARAMETER_NAME = "parameterName";
 
-    private static final String THE_VALUE_OF_S_IS_F = "the value of %s is %d";
+    private static final String THE_VALUE_OF_S_IS_S = "the value of %s is %s";
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -89,7 +100,7 @@ public class PreCheckTest {
     @Test
     public void notNull_parameterWithErrorMessageArgsIsSameInstance_assert() {
 
-        String message = THE_VALUE_OF_S_IS_F;
+        String message = THE_VALUE_OF_S_IS_S;
         String para = PARAMETER;
 
         String result = PreCheck.notNull(para, message, PARAMETER, 1f);
@@ -102,7 +113,7 @@ public class PreCheckTest {
 
         thrown.expect(IllegalArgumentException.class);
         thrown.expectMessage("the value of " + PARAMETER + " is 1");
-        String message = THE_VALUE_OF_S_IS_F;
+        String message = THE_VALUE_OF_S_IS_S;
         PreCheck.notNull(null, message, PARAMETER, 1);
         fail("Expected an IllegalArgumentException to be thrown");
 
@@ -158,7 +169,7 @@ public class PreCheckTest {
     @Test
     public void notNullOrEmpty_parameterWithErrorMessageArgsIsSameInstance_assert() {
 
-        String message = THE_VALUE_OF_S_IS_F;
+        String message = THE_VALUE_OF_S_IS_S;
         String para = PARAMETER;
         String result = PreCheck.notNullOrEmpty(para, message, PARAMETER, 1f);
         assertSame(result, para);
@@ -169,7 +180,7 @@ public class PreCheckTest {
 
         thrown.expect(IllegalArgumentException.class);
         thrown.expectMessage("the value of " + PARAMETER + " is 1");
-        String message = THE_VALUE_OF_S_IS_F;
+        String message = THE_VALUE_OF_S_IS_S;
 
         PreCheck.notNullOrEmpty(null, message, PARAMETER, 1);
 
@@ -223,6 +234,129 @@ public class PreCheckTest {
 
     }
 
+    @Test
+    public void noNullElements_arrayWithoutNull_assert() {
+
+        String[] array = {"a", "b"};
+        assertSame(array, PreCheck.noNullElements(array));
+        assertSame(array, PreCheck.noNullElements(array, PARAMETER_NAME));
+    }
+
+    @Test
+    public void noNullElements_arrayWithNull_throw() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter '"
+                             + PARAMETER_NAME
+                             + "' must not contain null elements, found null at index 2!");
+
+        PreCheck.noNullElements(new String[]{"a", "b", null}, PARAMETER_NAME);
+    }
+
+    @Test
+    public void noNullElements_nullArray_throw() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("must not be null!");
+
+        PreCheck.noNullElements((Object[]) null);
+    }
+
+    @Test
+    public void noNullElements_randomAccessListWithNull_throw() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("must not contain null elements, found null at index 1!");
+
+        PreCheck.noNullElements(Arrays.asList("a", null));
+    }
+
+    @Test
+    public void noNullElements_sequentialListWithNull_throw() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("must not contain null elements, found null at index 1!");
+
+        PreCheck.noNullElements(new LinkedList<>(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void noNullElements_collectionsWithoutNull_assert() {
+
+        List<String> list = new ArrayList<>(Arrays.asList("a", "b"));
+        Collection<String> collection = new LinkedList<>(list);
+        Iterable<String> iterable = list::iterator;
+
+        assertSame(list, PreCheck.noNullElements(list));
+        assertSame(collection, PreCheck.noNullElements(collection, PARAMETER_NAME));
+        assertSame(iterable, PreCheck.noNullElements(iterable));
+    }
+
+    @Test
+    public void noNullElements_mapWithNullValue_throw() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter '"
+                             + PARAMETER_NAME
+                             + "' must not contain null keys or values, found null at entry 0!");
+
+        PreCheck.noNullElements(Collections.singletonMap("key", null), PARAMETER_NAME);
+    }
+
+    @Test
+    public void noNullElements_mapWithNullKey_throw() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("must not contain null keys or values, found null at entry 0!");
+
+        PreCheck.noNullElements(Collections.singletonMap(null, "value"));
+    }
+
+    @Test
+    public void noEmptyElements_withoutEmptyElements_assert() {
+
+        String[] array = {"a", "b"};
+        List<String> list = Arrays.asList(array);
+        Map<String, String> map = Collections.singletonMap("a", "b");
+
+        assertSame(array, PreCheck.noEmptyElements(array));
+        assertSame(list, PreCheck.noEmptyElements(list, PARAMETER_NAME));
+        assertSame(map, PreCheck.noEmptyElements(map));
+    }
+
+    @Test
+    public void noEmptyElements_arrayWithEmptyElement_throw() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("must not contain null or empty elements, found null or empty at "
+                             + "index 1!");
+
+        PreCheck.noEmptyElements(new Object[]{"a", new int[0]});
+    }
+
+    @Test
+    public void noEmptyElements_iterableWithEmptyElement_throw() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter '"
+                             + PARAMETER_NAME
+                             + "' must not contain null or empty elements, found null or empty at "
+                             + "index 2!");
+
+        Collection<String> collection = new LinkedList<>(Arrays.asList("a", "b", ""));
+        PreCheck.noEmptyElements(collection, PARAMETER_NAME);
+    }
+
+    @Test
+    public void noEmptyElements_mapWithEmptyValue_throw() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("must not contain null or empty keys or values, found null or empty "
+                             + "at entry 0!");
+
+        PreCheck.noEmptyElements(Collections.singletonMap("key", ""));
+    }
+
     @Test
     public void expression_trueAsParameter_notThrow() {
 
@@ -266,7 +400,7 @@ public class PreCheckTest {
     @Test
     public void expression_trueAsParameterWithErrorMessageArgs_notThrow() {
 
-        String message = THE_VALUE_OF_S_IS_F;
+        String message = THE_VALUE_OF_S_IS_S;
         try {
             PreCheck.expression(true, message, PARAMETER, 1f);
         } catch (final IllegalArgumentException expected) {
@@ -279,12 +413,176 @@ public class PreCheckTest {
 
         thrown.expect(IllegalArgumentException.class);
         thrown.expectMessage("the value of " + PARAMETER + " is 1");
-        String message = THE_VALUE_OF_S_IS_F;
+        String message = THE_VALUE_OF_S_IS_S;
 
         PreCheck.expression(false, message, PARAMETER, 1);
 
     }
 
+    @Test
+    public void notNull_parameterWithPrimitiveErrorMessageArgsIsSameInstance_assert() {
+
+        String para = PARAMETER;
+        String result = PreCheck.notNull(para, "char %s and long %s", 'c', 2L);
+        assertSame(result, para);
+    }
+
+    @Test
+    public void notNull_nullAsParameterWithPrimitiveErrorMessageArgs_throw() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("char c and long 2");
+
+        PreCheck.notNull(null, "char %s and long %s", 'c', 2L);
+    }
+
+    @Test
+    public void notNullOrEmpty_parameterWithPrimitiveErrorMessageArgsIsSameInstance_assert() {
+
+        String para = PARAMETER;
+        String result = PreCheck.notNullOrEmpty(para, "int %s and object %s", 1, PARAMETER);
+        assertSame(result, para);
+    }
+
+    @Test
+    public void notNullOrEmpty_emptyParameterWithPrimitiveErrorMessageArgs_throw() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("int 1 and object " + PARAMETER);
+
+        PreCheck.notNullOrEmpty("", "int %s and object %s", 1, PARAMETER);
+    }
+
+    @Test
+    public void expression_trueAsParameterWithThreeErrorMessageArgs_notThrow() {
+
+        try {
+            PreCheck.expression(true, "%s %s %s", PARAMETER, PARAMETER, PARAMETER);
+        } catch (final IllegalArgumentException expected) {
+            fail("Expected that not IllegalArgumentException to be thrown!");
+        }
+    }
+
+    @Test
+    public void expression_falseAsParameterWithLongErrorMessageArg_throw() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("the value is 42");
+
+        PreCheck.expression(false, "the value is %s", 42L);
+    }
+
+    @Test
+    public void expression_falseAsParameterWithFourErrorMessageArgs_throw() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("a b c d");
+
+        PreCheck.expression(false, "%s %s %s %s", "a", "b", "c", "d");
+    }
+
+    @Test
+    public void notNull_parameterWithErrorMessageSupplier_notInvoked() {
+
+        String para = PARAMETER;
+        String result = PreCheck.notNull(para, () -> {
+            throw new AssertionError("Expected that the supplier is not invoked!");
+        });
+        assertSame(result, para);
+    }
+
+    @Test
+    public void notNull_nullAsParameterWithErrorMessageSupplier_throw() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(THIS_IS_THE_ERROR_MESSAGE);
+
+        PreCheck.notNull(null, () -> THIS_IS_THE_ERROR_MESSAGE);
+    }
+
+    @Test
+    public void notNull_nullAsParameterWithNullErrorMessageSupplier_throw() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("error message is empty!");
+
+        PreCheck.notNull(null, (Supplier<String>) null);
+    }
+
+    @Test
+    public void notNull_nullAsParameterWithNullErrorMessage_throw() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(nullValue(String.class));
+
+        PreCheck.notNull(null, (String) null);
+    }
+
+    @Test
+    public void expression_falseWithNullErrorMessage_throw() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("error message is empty!");
+
+        PreCheck.expression(false, (Object) null);
+    }
+
+    @Test
+    public void notNull_nullAsParameterWithErrorMessageFunction_throw() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter '" + PARAMETER_NAME + "' must not be null!");
+
+        PreCheck.notNull(null,
+                         name -> "parameter '" + name + "' must not be null!",
+                         PARAMETER_NAME);
+    }
+
+    @Test
+    public void notNullOrEmpty_parameterWithErrorMessageFunction_notInvoked() {
+
+        String para = PARAMETER;
+        String result = PreCheck.notNullOrEmpty(para, name -> {
+            throw new AssertionError("Expected that the function is not invoked!");
+        }, PARAMETER_NAME);
+        assertSame(result, para);
+    }
+
+    @Test
+    public void notNullOrEmpty_emptyParameterWithErrorMessageSupplier_throw() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(THIS_IS_THE_ERROR_MESSAGE);
+
+        PreCheck.notNullOrEmpty("", () -> THIS_IS_THE_ERROR_MESSAGE);
+    }
+
+    @Test
+    public void expression_falseAsParameterWithErrorMessageSupplier_throw() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(THIS_IS_THE_ERROR_MESSAGE);
+
+        PreCheck.expression(false, () -> THIS_IS_THE_ERROR_MESSAGE);
+    }
+
+    @Test
+    public void expression_falseAsParameterWithErrorMessageFunction_throw() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("the value is 42");
+
+        PreCheck.expression(false, value -> "the value is " + value, 42);
+    }
+
+    @Test
+    public void expression_trueAsParameterWithErrorMessageFunction_notInvoked() {
+
+        PreCheck.expression(true, value -> {
+            throw new AssertionError("Expected that the function is not invoked!");
+        }, 42);
+    }
+
     @Test
     public void preCheck_constructorMustBePrivateAndThrow_assert()
             throws ReflectiveOperationException {
@@ -297,10 +595,18 @@ public class PreCheckTest {
     @Test
     public void isParamNullOrEmpty_nullAsParameter_assert() {
 
-        boolean nullOrEmpty = PreCheck.isParamNullOrEmpty(null);
+        boolean nullOrEmpty = PreCheck.isParamNullOrEmpty((Object) null);
         assertThat(nullOrEmpty, is(true));
     }
 
+    @Test
+    public void isParamNullOrEmpty_typedNullAsParameter_assert() {
+
+        assertThat(PreCheck.isParamNullOrEmpty((String) null), is(true));
+        assertThat(PreCheck.isParamNullOrEmpty((Collection<?>) null), is(true));
+        assertThat(PreCheck.isParamNullOrEmpty((int[]) null), is(true));
+    }
+
     @Test
     public void isParamNullOrEmpty_primitiveAsParameter_throw() {
 
@@ -395,6 +701,63 @@ public class PreCheckTest {
         assertThat(nullOrEmpty, is(false));
     }
 
+    @Test
+    public void isParamNullOrEmpty_primitiveArraysAsParameter_assert() {
+
+        assertThat(PreCheck.isParamNullOrEmpty(new boolean[0]), is(true));
+        assertThat(PreCheck.isParamNullOrEmpty(new byte[1]), is(false));
+        assertThat(PreCheck.isParamNullOrEmpty(new char[0]), is(true));
+        assertThat(PreCheck.isParamNullOrEmpty(new short[1]), is(false));
+        assertThat(PreCheck.isParamNullOrEmpty(new int[0]), is(true));
+        assertThat(PreCheck.isParamNullOrEmpty(new long[1]), is(false));
+        assertThat(PreCheck.isParamNullOrEmpty(new float[0]), is(true));
+        assertThat(PreCheck.isParamNullOrEmpty(new double[1]), is(false));
+    }
+
+    @Test
+    public void isParamNullOrEmpty_unknownStaticTypeAsParameter_assert() {
+
+        Iterable<String> emptyIterable = Collections::emptyIterator;
+        Object[] empty = {"",
+                          new StringBuilder(),
+                          new ArrayList<String>(),
+                          new HashMap<String, String>(),
+                          new int[0],
+                          new String[0],
+                          Optional.empty(),
+                          ByteBuffer.allocate(0),
+                          emptyIterable};
+
+        for (Object obj : empty) {
+            assertThat(obj.getClass().getName(), PreCheck.isParamNullOrEmpty(obj), is(true));
+        }
+
+        Iterable<String> iterable = () -> Collections.singleton("a").iterator();
+        Object[] notEmpty = {"a",
+                             new StringBuilder("a"),
+                             Collections.singletonList("a"),
+                             Collections.singletonMap("a", "b"),
+                             new double[1],
+                             new String[1],
+                             Optional.of("a"),
+                             ByteBuffer.allocate(1),
+                             iterable};
+
+        for (Object obj : notEmpty) {
+            assertThat(obj.getClass().getName(), PreCheck.isParamNullOrEmpty(obj), is(false));
+        }
+    }
+
+    @Test
+    public void isParamNullOrEmpty_unsupportedTypeAsParameter_throw() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter must be type Object");
+
+        Object parameter = new Object();
+        PreCheck.isParamNullOrEmpty(parameter);
+    }
+
     @Test
     public void getErrorMessage() throws ReflectiveOperationException {
 
@@ -427,8 +790,516 @@ public class PreCheckTest {
         method.setAccessible(true);
 
         String errorMessage = (String) method.invoke(PreCheck.class,
-                                                     "the value of %s is %d",
+                                                     "the value of %s is %s",
                                                      new Object[]{"parameter", 1});
         assertThat(errorMessage, is("the value of parameter is 1"));
     }
+
+    @Test
+    public void format_unmatchedArguments() throws ReflectiveOperationException {
+
+        Method method = PreCheck.class.getDeclaredMethod("format", String.class, Object[].class);
+        method.setAccessible(true);
+
+        String errorMessage = (String) method.invoke(PreCheck.class,
+                                                     "the value of %s is %d",
+                                                     new Object[]{"parameter", 1, 2});
+        assertThat(errorMessage, is("the value of parameter is %d [1, 2]"));
+    }
+
+    @Test
+    public void positive_valid_returnValue() {
+
+        assertThat(PreCheck.positive(1), is(1));
+        assertThat(PreCheck.positive(Long.MAX_VALUE, "a"), is(Long.MAX_VALUE));
+        assertThat(PreCheck.positive(Double.MIN_VALUE, "a"), is(Double.MIN_VALUE));
+    }
+
+    @Test
+    public void positive_zero_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'a' must be positive, but was 0!");
+        PreCheck.positive(0, "a");
+    }
+
+    @Test
+    public void positive_negativeLong_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("must be positive, but was -1!");
+        PreCheck.positive(-1L);
+    }
+
+    @Test
+    public void positive_nan_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'a' must be positive, but was NaN!");
+        PreCheck.positive(Double.NaN, "a");
+    }
+
+    @Test
+    public void nonNegative_valid_returnValue() {
+
+        assertThat(PreCheck.nonNegative(0), is(0));
+        assertThat(PreCheck.nonNegative(0L, "a"), is(0L));
+        assertThat(PreCheck.nonNegative(-0.0d, "a"), is(-0.0d));
+    }
+
+    @Test
+    public void nonNegative_negative_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'a' must not be negative, but was -1!");
+        PreCheck.nonNegative(-1, "a");
+    }
+
+    @Test
+    public void nonNegative_nan_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("must not be negative, but was NaN!");
+        PreCheck.nonNegative(Double.NaN);
+    }
+
+    @Test
+    public void inRange_valid_returnValue() {
+
+        assertThat(PreCheck.inRange(1, 1, 3), is(1));
+        assertThat(PreCheck.inRange(3, 1, 3, "a"), is(3));
+        assertThat(PreCheck.inRange(0, Integer.MIN_VALUE, Integer.MAX_VALUE), is(0));
+        assertThat(PreCheck.inRange(Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE),
+                   is(Integer.MIN_VALUE));
+        assertThat(PreCheck.inRange(-5L, -10L, -1L, "a"), is(-5L));
+        assertThat(PreCheck.inRange(Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE),
+                   is(Long.MAX_VALUE));
+        assertThat(PreCheck.inRange(0.5d, 0d, 1d, "a"), is(0.5d));
+    }
+
+    @Test
+    public void inRange_belowLowerBound_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'a' must be in range [1, 3], but was 0!");
+        PreCheck.inRange(0, 1, 3, "a");
+    }
+
+    @Test
+    public void inRange_aboveUpperBound_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("must be in range [-10, -1], but was 0!");
+        PreCheck.inRange(0L, -10L, -1L);
+    }
+
+    @Test
+    public void inRange_overflowingDistance_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("must be in range [-1, 2147483647], but was -2!");
+        PreCheck.inRange(-2, -1, Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void inRange_nan_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'a' must be in range [0.0, 1.0], but was NaN!");
+        PreCheck.inRange(Double.NaN, 0d, 1d, "a");
+    }
+
+    @Test
+    public void inRange_invalidRange_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("invalid range [3, 1]!");
+        PreCheck.inRange(2, 3, 1);
+    }
+
+    @Test
+    public void finite_valid_returnValue() {
+
+        assertThat(PreCheck.finite(Double.MAX_VALUE), is(Double.MAX_VALUE));
+        assertThat(PreCheck.finite(-1.5d, "a"), is(-1.5d));
+    }
+
+    @Test
+    public void finite_infinite_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'a' must be finite, but was -Infinity!");
+        PreCheck.finite(Double.NEGATIVE_INFINITY, "a");
+    }
+
+    @Test
+    public void finite_nan_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("must be finite, but was NaN!");
+        PreCheck.finite(Double.NaN);
+    }
+
+    @Test
+    public void notNaN_valid_returnValue() {
+
+        assertThat(PreCheck.notNaN(Double.POSITIVE_INFINITY), is(Double.POSITIVE_INFINITY));
+        assertThat(PreCheck.notNaN(0d, "a"), is(0d));
+    }
+
+    @Test
+    public void notNaN_nan_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'a' must not be NaN, but was NaN!");
+        PreCheck.notNaN(Double.NaN, "a");
+    }
+
+    @Test
+    public void hasRemaining_enough_returnBufferPositionUnchanged() {
+
+        final ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.position(4);
+
+        assertSame(buffer, PreCheck.hasRemaining(buffer, 4));
+        assertSame(buffer, PreCheck.hasRemaining(buffer, 0, "a"));
+        assertThat(buffer.position(), is(4));
+    }
+
+    @Test
+    public void hasRemaining_tooFew_throwException() {
+
+        final ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.position(4);
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'a' must have 5 bytes remaining, but has 4!");
+        PreCheck.hasRemaining(buffer, 5, "a");
+    }
+
+    @Test
+    public void hasRemaining_negativeLength_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("invalid length -1!");
+        PreCheck.hasRemaining(ByteBuffer.allocate(8), -1);
+    }
+
+    @Test
+    public void hasRemaining_null_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'a' must not be null!");
+        PreCheck.hasRemaining(null, 1, "a");
+    }
+
+    @Test
+    public void checkFromIndexSize_inLimit_returnOffset() {
+
+        final ByteBuffer buffer = ByteBuffer.allocate(8);
+
+        assertThat(PreCheck.checkFromIndexSize(buffer, 2, 6), is(2));
+        assertThat(PreCheck.checkFromIndexSize(buffer, 8, 0, "a"), is(8));
+    }
+
+    @Test
+    public void checkFromIndexSize_pastLimit_throwException() {
+
+        final ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.limit(6);
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'a' range [2, 2 + 6) out of bounds for limit 6!");
+        PreCheck.checkFromIndexSize(buffer, 2, 6, "a");
+    }
+
+    @Test
+    public void checkFromIndexSize_overflow_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("range [1, 1 + 2147483647) out of bounds for limit 8!");
+        PreCheck.checkFromIndexSize(ByteBuffer.allocate(8), 1, Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void checkFromIndexSize_negativeOffset_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("range [-1, -1 + 1) out of bounds for limit 8!");
+        PreCheck.checkFromIndexSize(ByteBuffer.allocate(8), -1, 1);
+    }
+
+    @Test
+    public void direct_direct_returnBuffer() {
+
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(1);
+
+        assertSame(buffer, PreCheck.direct(buffer));
+        assertSame(buffer, PreCheck.direct(buffer, "a"));
+    }
+
+    @Test
+    public void direct_heap_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'a' must be a direct buffer!");
+        PreCheck.direct(ByteBuffer.allocate(1), "a");
+    }
+
+    @Test
+    public void notReadOnly_writable_returnBuffer() {
+
+        final ByteBuffer buffer = ByteBuffer.allocate(1);
+
+        assertSame(buffer, PreCheck.notReadOnly(buffer));
+        assertSame(buffer, PreCheck.notReadOnly(buffer, "a"));
+    }
+
+    @Test
+    public void notReadOnly_readOnly_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("must not be read-only!");
+        PreCheck.notReadOnly(ByteBuffer.allocate(1).asReadOnlyBuffer());
+    }
+
+    @Test
+    public void wellFormedUtf8_wellFormed_returnBytes() {
+
+        final byte[] bytes = "gr\u00fc\u00dfe \u20ac".getBytes(StandardCharsets.UTF_8);
+
+        assertSame(bytes, PreCheck.wellFormedUtf8(bytes));
+        assertSame(bytes, PreCheck.wellFormedUtf8(bytes, "a"));
+        assertSame(bytes, PreCheck.wellFormedUtf8(bytes, 2, 2));
+    }
+
+    @Test
+    public void wellFormedUtf8_malformed_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'a' must be well-formed UTF-8, but is malformed at index"
+                             + " 1!");
+        PreCheck.wellFormedUtf8(new byte[]{'a', (byte) 0xC0, (byte) 0xAF}, "a");
+    }
+
+    @Test
+    public void wellFormedUtf8_rangeOutOfBounds_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("range [2, 2 + 3) out of bounds for length 4!");
+        PreCheck.wellFormedUtf8(new byte[4], 2, 3);
+    }
+
+    @Test
+    public void wellFormedUtf8_buffer_returnBufferPositionUnchanged() {
+
+        final ByteBuffer buffer = ByteBuffer.wrap("gr\u00fc\u00dfe \u20ac"
+                                                          .getBytes(StandardCharsets.UTF_8));
+        buffer.position(1);
+
+        assertSame(buffer, PreCheck.wellFormedUtf8(buffer));
+        assertSame(buffer, PreCheck.wellFormedUtf8(buffer, "a"));
+        assertThat(buffer.position(), is(1));
+    }
+
+    @Test
+    public void wellFormedUtf8_malformedBuffer_throwException() {
+
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(3);
+        buffer.put((byte) 'a').put((byte) 0xED).put((byte) 0xA0).flip();
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("must be well-formed UTF-8, but is malformed at index 1!");
+        PreCheck.wellFormedUtf8(buffer);
+    }
+
+    @Test
+    public void notBlank_notBlank_returnChars() {
+
+        final StringBuilder chars = new StringBuilder(" a ");
+
+        assertThat(PreCheck.notBlank("a"), is("a"));
+        assertSame(chars, PreCheck.notBlank(chars, "a"));
+    }
+
+    @Test
+    public void notBlank_blank_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'a' must not be null or blank!");
+        PreCheck.notBlank(" \t\n", "a");
+    }
+
+    @Test
+    public void notBlank_null_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("must not be null or blank!");
+        PreCheck.notBlank(null);
+    }
+
+    @Test
+    public void ascii_ascii_returnChars() {
+
+        assertThat(PreCheck.ascii("X-Request-Id"), is("X-Request-Id"));
+        assertThat(PreCheck.ascii("", "a"), is(""));
+    }
+
+    @Test
+    public void ascii_nonAscii_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'a' must contain only ASCII characters, but has a"
+                             + " non-ASCII character at index 3!");
+        PreCheck.ascii("caf\u00e9", "a");
+    }
+
+    @Test
+    public void maxLength_inLength_returnChars() {
+
+        assertThat(PreCheck.maxLength("abc", 3), is("abc"));
+        assertThat(PreCheck.maxLength("", 0, "a"), is(""));
+    }
+
+    @Test
+    public void maxLength_tooLong_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'a' must have at most 2 characters, but has 3!");
+        PreCheck.maxLength("abc", 2, "a");
+    }
+
+    @Test
+    public void matches_matching_returnChars() {
+
+        assertThat(PreCheck.matches("user_42", "[a-z_0-9]+"), is("user_42"));
+        assertThat(PreCheck.matches("user_42", "[a-z_0-9]+", "a"), is("user_42"));
+    }
+
+    @Test
+    public void matches_partialMatch_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'a' must match '[a-z]+'!");
+        PreCheck.matches("abc1", "[a-z]+", "a");
+    }
+
+    @Test
+    public void matches_nullChars_throwException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'a' must not be null!");
+        PreCheck.matches(null, "[a-z]+", "a");
+    }
+
+    @Test
+    public void state_true_passes() {
+
+        PreCheck.state(true);
+        PreCheck.state(true, "message");
+        PreCheck.state(true, () -> "message");
+        PreCheck.state(true, "%s", "message");
+    }
+
+    @Test
+    public void state_false_throwIllegalStateException() {
+
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("state not valid!");
+        PreCheck.state(false);
+    }
+
+    @Test
+    public void state_falseWithTemplate_throwFormattedMessage() {
+
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("closed after 3 writes");
+        PreCheck.state(false, "closed after %s writes", 3);
+    }
+
+    @Test
+    public void state_falseWithSupplier_throwSuppliedMessage() {
+
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("not started");
+        PreCheck.state(false, () -> "not started");
+    }
+
+    @Test
+    public void heldByCurrentThread_held_returnLock() {
+
+        final ReentrantLock lock = new ReentrantLock();
+        lock.lock();
+        try {
+            assertSame(lock, PreCheck.heldByCurrentThread(lock));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Test
+    public void heldByCurrentThread_notHeld_throwIllegalStateException() {
+
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("lock must be held by the current thread!");
+        PreCheck.heldByCurrentThread(new ReentrantLock());
+    }
+
+    @Test
+    public void checkIndex_valid_returnIndex() {
+
+        assertThat(PreCheck.checkIndex(2, 3), is(2));
+        assertThat(PreCheck.checkFromToIndex(1, 3, 3), is(1));
+        assertThat(PreCheck.checkFromIndexSize(1, 2, 3), is(1));
+    }
+
+    @Test
+    public void checkIndex_outOfBounds_throwIndexOutOfBoundsException() {
+
+        thrown.expect(IndexOutOfBoundsException.class);
+        thrown.expectMessage("Index 3 out of bounds for length 3");
+        PreCheck.checkIndex(3, 3);
+    }
+
+    @Test
+    public void test_valid_none() {
+
+        assertSame(Violation.NONE, PreCheck.testNotNull(""));
+        assertSame(Violation.NONE, PreCheck.testNotNullOrEmpty("a"));
+        assertSame(Violation.NONE, PreCheck.testNotBlank(" a"));
+        assertSame(Violation.NONE, PreCheck.testExpression(true));
+        assertSame(Violation.NONE, PreCheck.testPositive(1));
+        assertSame(Violation.NONE, PreCheck.testPositive(Double.MIN_VALUE));
+        assertSame(Violation.NONE, PreCheck.testNonNegative(0L));
+        assertSame(Violation.NONE, PreCheck.testNonNegative(-0d));
+        assertSame(Violation.NONE, PreCheck.testFinite(Double.MAX_VALUE));
+        assertSame(Violation.NONE, PreCheck.testNotNaN(Double.NEGATIVE_INFINITY));
+        assertSame(Violation.NONE, PreCheck.testAscii("abc"));
+        assertSame(Violation.NONE, PreCheck.testMaxLength("abc", 3));
+        assertSame(Violation.NONE, PreCheck.testMatches("abc", "[a-c]+"));
+        assertSame(Violation.NONE, PreCheck.testWellFormedUtf8(new byte[]{'a'}));
+        assertSame(Violation.NONE, PreCheck.testIndex(2, 3));
+    }
+
+    @Test
+    public void test_invalid_violation() {
+
+        assertSame(Violation.NULL, PreCheck.testNotNull(null));
+        assertSame(Violation.NULL_OR_EMPTY, PreCheck.testNotNullOrEmpty(new int[0]));
+        assertSame(Violation.BLANK, PreCheck.testNotBlank(" "));
+        assertSame(Violation.EXPRESSION, PreCheck.testExpression(false));
+        assertSame(Violation.NOT_POSITIVE, PreCheck.testPositive(0));
+        assertSame(Violation.NOT_POSITIVE, PreCheck.testPositive(Double.NaN));
+        assertSame(Violation.NEGATIVE, PreCheck.testNonNegative(-1));
+        assertSame(Violation.NEGATIVE, PreCheck.testNonNegative(Double.NaN));
+        assertSame(Violation.NOT_FINITE, PreCheck.testFinite(Double.POSITIVE_INFINITY));
+        assertSame(Violation.NAN, PreCheck.testNotNaN(Double.NaN));
+        assertSame(Violation.NOT_ASCII, PreCheck.testAscii("caf\u00e9"));
+        assertSame(Violation.NULL, PreCheck.testAscii(null));
+        assertSame(Violation.TOO_LONG, PreCheck.testMaxLength("abcd", 3));
+        assertSame(Violation.NO_MATCH, PreCheck.testMatches("abcd", "[a-c]+"));
+        assertSame(Violation.NULL, PreCheck.testMatches(null, "[a-c]+"));
+        assertSame(Violation.MALFORMED_UTF8, PreCheck.testWellFormedUtf8(new byte[]{(byte) 0xC0}));
+        assertSame(Violation.OUT_OF_BOUNDS, PreCheck.testIndex(-1, 3));
+    }
 }
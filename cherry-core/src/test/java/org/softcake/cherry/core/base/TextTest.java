@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.nio.CharBuffer;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * TextTest Class.
+ *
+ * @author softcake.org
+ */
+public class TextTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void isBlank_whitespace_true() {
+
+        assertThat(Text.isBlank(""), is(true));
+        assertThat(Text.isBlank(" \t\r\n\u000B\f\u001C"), is(true));
+        assertThat(Text.isBlank("\u2003\u3000"), is(true));
+        assertThat(Text.isBlank(new StringBuilder(" \t")), is(true));
+    }
+
+    @Test
+    public void isBlank_nonWhitespace_false() {
+
+        assertThat(Text.isBlank("  a "), is(false));
+        assertThat(Text.isBlank("\u00a0"), is(false));
+        assertThat(Text.isBlank("\u0085"), is(false));
+        assertThat(Text.isBlank("\u0000"), is(false));
+        assertThat(Text.isBlank(CharBuffer.wrap(" x")), is(false));
+    }
+
+    @Test
+    public void nonAsciiIndex_ascii_notFound() {
+
+        assertThat(Text.nonAsciiIndex(""), is(Text.NOT_FOUND));
+        assertThat(Text.nonAsciiIndex("Content-Type: text/plain; charset=us-ascii\u007f"),
+                   is(Text.NOT_FOUND));
+        assertThat(Text.nonAsciiIndex(new StringBuilder("abc")), is(Text.NOT_FOUND));
+    }
+
+    @Test
+    public void nonAsciiIndex_nonAscii_firstIndex() {
+
+        assertThat(Text.nonAsciiIndex("\u0080"), is(0));
+        assertThat(Text.nonAsciiIndex("0123456789abcdef0123\u00e9\u00e9"), is(20));
+        assertThat(Text.nonAsciiIndex("0123456\u20ac89abcdef"), is(7));
+        assertThat(Text.nonAsciiIndex(new StringBuilder("ab\u00ff")), is(2));
+    }
+
+    @Test
+    public void pattern_sameRegex_samePattern() {
+
+        assertSame(Text.pattern("[a-z]+"), Text.pattern("[a-z]+"));
+    }
+
+    @Test
+    public void pattern_invalidRegex_throwsException() {
+
+        thrown.expect(PatternSyntaxException.class);
+        Text.pattern("[a-z");
+    }
+}
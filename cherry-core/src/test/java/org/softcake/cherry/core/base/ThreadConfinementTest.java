@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ThreadConfinementTest Class.
+ *
+ * @author softcake.org
+ */
+public class ThreadConfinementTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private static RuntimeException checkOnOtherThread(final ThreadConfinement confinement)
+            throws InterruptedException {
+
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        final Thread thread = new Thread(() -> {
+            try {
+                confinement.check();
+            } catch (final IllegalStateException e) {
+                failure.set(e);
+            }
+        }, "other");
+        thread.start();
+        thread.join();
+        return failure.get();
+    }
+
+    @Test
+    public void check_ownerThread_passes() {
+
+        final ThreadConfinement confinement = ThreadConfinement.ofCurrentThread();
+
+        confinement.check();
+
+        assertSame(Thread.currentThread(), confinement.getOwner());
+        assertThat(confinement.isOwnedByCurrentThread(), is(true));
+    }
+
+    @Test
+    public void check_otherThread_throwsException() throws InterruptedException {
+
+        final RuntimeException failure = checkOnOtherThread(ThreadConfinement.ofCurrentThread());
+
+        assertThat(failure.getMessage(),
+                   is("accessed by thread 'other', but confined to thread '"
+                      + Thread.currentThread().getName() + "'!"));
+    }
+
+    @Test
+    public void check_unclaimed_claimedByFirstThread() throws InterruptedException {
+
+        final ThreadConfinement confinement = ThreadConfinement.unclaimed();
+
+        assertThat(confinement.getOwner(), is(nullValue()));
+        assertThat(checkOnOtherThread(confinement), is(nullValue()));
+        assertThat(confinement.getOwner().getName(), is("other"));
+        assertThat(confinement.isOwnedByCurrentThread(), is(false));
+    }
+
+    @Test
+    public void release_owner_otherThreadClaims() throws InterruptedException {
+
+        final ThreadConfinement confinement = ThreadConfinement.ofCurrentThread();
+
+        confinement.release();
+
+        assertThat(checkOnOtherThread(confinement), is(nullValue()));
+        assertThat(confinement.toString(), is("ThreadConfinement[other]"));
+    }
+
+    @Test
+    public void release_notOwner_throwsException() {
+
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("but not claimed by it!");
+
+        ThreadConfinement.unclaimed().release();
+    }
+}
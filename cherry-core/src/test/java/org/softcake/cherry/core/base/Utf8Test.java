@@ -0,0 +1,169 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Utf8Test Class.
+ *
+ * @author softcake.org
+ */
+public class Utf8Test {
+
+    private static int malformedIndex(final int... values) {
+
+        final byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) values[i];
+        }
+        return Utf8.malformedIndex(bytes, 0, bytes.length);
+    }
+
+    @Test
+    public void malformedIndex_empty_wellFormed() {
+
+        assertThat(malformedIndex(), is(Utf8.WELL_FORMED));
+    }
+
+    @Test
+    public void malformedIndex_ascii_wellFormed() {
+
+        final byte[] bytes = "the quick brown fox jumps over the lazy dog"
+                .getBytes(StandardCharsets.US_ASCII);
+
+        assertThat(Utf8.malformedIndex(bytes, 0, bytes.length), is(Utf8.WELL_FORMED));
+    }
+
+    @Test
+    public void malformedIndex_multiByteSequences_wellFormed() {
+
+        final byte[] bytes = "ascii \u00e4\u00f6\u00fc \u20ac \ud83d\ude00 more ascii \u0800\uffff"
+                .getBytes(StandardCharsets.UTF_8);
+
+        assertThat(Utf8.malformedIndex(bytes, 0, bytes.length), is(Utf8.WELL_FORMED));
+    }
+
+    @Test
+    public void malformedIndex_boundaryCodePoints_wellFormed() {
+
+        assertThat(malformedIndex(0xC2, 0x80, 0xDF, 0xBF), is(Utf8.WELL_FORMED));
+        assertThat(malformedIndex(0xE0, 0xA0, 0x80, 0xED, 0x9F, 0xBF), is(Utf8.WELL_FORMED));
+        assertThat(malformedIndex(0xEE, 0x80, 0x80, 0xEF, 0xBF, 0xBF), is(Utf8.WELL_FORMED));
+        assertThat(malformedIndex(0xF0, 0x90, 0x80, 0x80, 0xF4, 0x8F, 0xBF, 0xBF),
+                   is(Utf8.WELL_FORMED));
+    }
+
+    @Test
+    public void malformedIndex_overlong_malformed() {
+
+        assertThat(malformedIndex(0x41, 0xC0, 0xAF), is(1));
+        assertThat(malformedIndex(0xC1, 0xBF), is(0));
+        assertThat(malformedIndex(0xE0, 0x80, 0xAF), is(0));
+        assertThat(malformedIndex(0xF0, 0x80, 0x80, 0xAF), is(0));
+    }
+
+    @Test
+    public void malformedIndex_surrogate_malformed() {
+
+        assertThat(malformedIndex(0xED, 0xA0, 0x80), is(0));
+        assertThat(malformedIndex(0xED, 0xBF, 0xBF), is(0));
+    }
+
+    @Test
+    public void malformedIndex_aboveMaxCodePoint_malformed() {
+
+        assertThat(malformedIndex(0xF4, 0x90, 0x80, 0x80), is(0));
+        assertThat(malformedIndex(0xF5, 0x80, 0x80, 0x80), is(0));
+        assertThat(malformedIndex(0xFF), is(0));
+    }
+
+    @Test
+    public void malformedIndex_unexpectedContinuation_malformed() {
+
+        assertThat(malformedIndex(0x41, 0x42, 0x80), is(2));
+        assertThat(malformedIndex(0xC3, 0xA4, 0xBF), is(2));
+    }
+
+    @Test
+    public void malformedIndex_missingContinuation_malformed() {
+
+        assertThat(malformedIndex(0xE2, 0x82, 0x41), is(0));
+        assertThat(malformedIndex(0xF0, 0x9F, 0x98, 0x41), is(0));
+    }
+
+    @Test
+    public void malformedIndex_truncatedAtEnd_malformed() {
+
+        assertThat(malformedIndex(0x41, 0x41, 0x41, 0x41, 0x41, 0x41, 0x41, 0x41, 0xE2, 0x82),
+                   is(8));
+        assertThat(malformedIndex(0xF0, 0x9F, 0x98), is(0));
+    }
+
+    @Test
+    public void malformedIndex_malformedAfterAsciiWords_indexInArray() {
+
+        final byte[] bytes = "0123456789abcdef0123\u00e4"
+                .getBytes(StandardCharsets.UTF_8);
+        bytes[bytes.length - 1] = (byte) 0x41;
+
+        assertThat(Utf8.malformedIndex(bytes, 0, bytes.length), is(20));
+    }
+
+    @Test
+    public void malformedIndex_range_sequenceMustNotCrossEnd() {
+
+        final byte[] bytes = "abc\u20acdef".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(Utf8.malformedIndex(bytes, 3, 3), is(Utf8.WELL_FORMED));
+        assertThat(Utf8.malformedIndex(bytes, 0, 5), is(3));
+        assertThat(Utf8.malformedIndex(bytes, 4, 2), is(4));
+    }
+
+    @Test
+    public void malformedIndex_heapBuffer_positionUnchanged() {
+
+        final ByteBuffer buffer = ByteBuffer.wrap("xx0123456789\u00e4\u00f6\u00fc0123456789"
+                                                          .getBytes(StandardCharsets.UTF_8));
+        buffer.position(2);
+
+        assertThat(Utf8.malformedIndex(buffer), is(Utf8.WELL_FORMED));
+        assertThat(buffer.position(), is(2));
+    }
+
+    @Test
+    public void malformedIndex_directBuffer_indexInBuffer() {
+
+        final byte[] bytes = "0123456789abcdef\u00e4\u00f6\u00fc"
+                .getBytes(StandardCharsets.UTF_8);
+        bytes[bytes.length - 1] = (byte) 0x41;
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length + 4);
+        buffer.position(4);
+        buffer.put(bytes);
+        buffer.position(4);
+
+        assertThat(Utf8.malformedIndex(buffer), is(24));
+        assertThat(buffer.position(), is(4));
+        assertThat(buffer.limit(), is(bytes.length + 4));
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ValidationCacheTest Class.
+ *
+ * @author softcake.org
+ */
+public class ValidationCacheTest {
+
+    private final AtomicInteger validations = new AtomicInteger();
+
+    private final Validator<String> notEmpty = Validator.of(String.class)
+                                                        .check(s -> validations.incrementAndGet()
+                                                                    > 0 && !s.isEmpty(),
+                                                               "must not be empty");
+
+    private final ValidationCache cache = ValidationCache.create(100);
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void validate_sameInstanceTwice_validatedOnce() {
+
+        final String request = new String("request");
+
+        assertSame(request, cache.validate(request, notEmpty));
+        assertSame(request, cache.validate(request, notEmpty));
+
+        assertThat(validations.get(), is(1));
+        assertThat(cache.isValidated(request, notEmpty), is(true));
+    }
+
+    @Test
+    public void validate_equalInstances_validatedEach() {
+
+        cache.validate(new String("request"), notEmpty);
+        cache.validate(new String("request"), notEmpty);
+
+        assertThat(validations.get(), is(2));
+    }
+
+    @Test
+    public void validate_otherValidator_validatedAgain() {
+
+        final Validator<Object> notNull = Validator.of(Object.class);
+        final String request = new String("request");
+
+        cache.validate(request, notEmpty);
+        cache.validate(request, notNull);
+
+        assertThat(cache.isValidated(request, notEmpty), is(true));
+        assertThat(cache.isValidated(request, notNull), is(true));
+        assertThat(cache.size(), is(1));
+    }
+
+    @Test
+    public void validate_failure_notRecorded() {
+
+        final String request = new String("");
+
+        try {
+            cache.validate(request, notEmpty);
+            fail();
+        } catch (final IllegalArgumentException e) {
+            assertThat(cache.isValidated(request, notEmpty), is(false));
+        }
+    }
+
+    @Test
+    public void validate_null_throwsException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(PreCheck.NOT_NULL_MESSAGE);
+        cache.validate(null, notEmpty);
+    }
+
+    @Test
+    public void invalidate_validated_validatedAgain() {
+
+        final String request = new String("request");
+
+        cache.validate(request, notEmpty);
+        cache.invalidate(request);
+        cache.validate(request, notEmpty);
+
+        assertThat(validations.get(), is(2));
+    }
+
+    @Test
+    public void validate_beyondMaximumSize_evicted() {
+
+        final ValidationCache small = ValidationCache.create(1);
+
+        for (int i = 0; i < 10; i++) {
+            small.validate(new String("request"), notEmpty);
+        }
+
+        assertThat(small.size() <= 1, is(true));
+    }
+
+    @Test
+    public void create_zeroSize_throwsException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'maximumSize' must be positive, but was 0!");
+        ValidationCache.create(0);
+    }
+
+    @Test
+    public void validate_objectReferencedWeakly_forgottenWhenCleared() {
+
+        String request = new String("request");
+        cache.validate(request, notEmpty);
+
+        WeakReference<Object> reference = cache.reference(request);
+        assertSame(request, reference.get());
+
+        reference.clear();
+
+        assertThat(cache.isValidated(request, notEmpty), is(false));
+        assertThat(cache.size(), is(0));
+        cache.validate(request, notEmpty);
+        assertThat(cache.isValidated(request, notEmpty), is(true));
+    }
+}
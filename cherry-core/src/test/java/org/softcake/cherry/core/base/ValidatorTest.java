@@ -0,0 +1,182 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ValidatorTest Class.
+ *
+ * @author softcake.org
+ */
+public class ValidatorTest {
+
+    private static final Validator<Order> ORDER = Validator.of(Order.class)
+                                                           .notNull(Order::getId, "id")
+                                                           .notEmpty(Order::getLines, "lines")
+                                                           .check(o -> o.getQty() > 0,
+                                                                  "qty must be positive");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void validate_validObject_returnsObject() {
+
+        Order order = new Order("A-1", Collections.singletonList("line"), 1);
+
+        assertThat(ORDER.validate(order), is(sameInstance(order)));
+    }
+
+    @Test
+    public void validate_nullObject_throwsException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(PreCheck.NOT_NULL_MESSAGE);
+
+        ORDER.validate(null);
+    }
+
+    @Test
+    public void validate_nullProperty_parameterMessage() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'id' must not be null!");
+
+        ORDER.validate(new Order(null, Collections.singletonList("line"), 1));
+    }
+
+    @Test
+    public void validate_emptyProperty_parameterMessage() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'lines' must not be null or empty!");
+
+        ORDER.validate(new Order("A-1", Collections.emptyList(), 1));
+    }
+
+    @Test
+    public void validate_violatedCheck_errorMessage() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("qty must be positive");
+
+        ORDER.validate(new Order("A-1", Collections.singletonList("line"), 0));
+    }
+
+    @Test
+    public void validate_rulesInOrder_firstViolationReported() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'id' must not be null!");
+
+        ORDER.validate(new Order(null, null, 0));
+    }
+
+    @Test
+    public void validate_unnamedRules_preCheckMessages() {
+
+        Validator<Order> validator = Validator.of(Order.class)
+                                              .notNull(Order::getId)
+                                              .notEmpty(Order::getLines);
+
+        assertThat(message(validator, new Order(null, null, 0)), is(PreCheck.NOT_NULL_MESSAGE));
+        assertThat(message(validator, new Order("A-1", null, 0)),
+                   is(PreCheck.NOT_NULL_OR_EMPTY_MESSAGE));
+    }
+
+    @Test
+    public void rules_newValidator_originalUnchanged() {
+
+        Validator<Order> empty = Validator.of(Order.class);
+        Validator<Order> withId = empty.notNull(Order::getId, "id");
+
+        assertThat(withId, is(not(sameInstance(empty))));
+        assertThat(message(empty, new Order(null, null, 0)), is(""));
+        assertThat(message(withId, new Order(null, null, 0)),
+                   is("parameter 'id' must not be null!"));
+    }
+
+    @Test
+    public void notNull_nullProperty_throwsException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'property' must not be null!");
+
+        Validator.of(Order.class).notNull(null, "id");
+    }
+
+    @Test
+    public void check_nullCondition_throwsException() {
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("parameter 'condition' must not be null!");
+
+        Validator.of(Order.class).check(null, "qty");
+    }
+
+    private static String message(final Validator<Order> validator, final Order order) {
+
+        try {
+            validator.validate(order);
+            return "";
+        } catch (final IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static final class Order {
+
+        private final String id;
+
+        private final List<String> lines;
+
+        private final int qty;
+
+        private Order(final String id, final List<String> lines, final int qty) {
+
+            this.id = id;
+            this.lines = lines;
+            this.qty = qty;
+        }
+
+        private String getId() {
+
+            return id;
+        }
+
+        private List<String> getLines() {
+
+            return lines;
+        }
+
+        private int getQty() {
+
+            return qty;
+        }
+    }
+}
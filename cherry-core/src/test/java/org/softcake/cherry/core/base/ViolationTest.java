@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * ViolationTest Class.
+ *
+ * @author softcake.org
+ */
+public class ViolationTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void message_sameAsPreCheck() {
+
+        assertThat(Violation.NULL.message(), is(PreCheck.NOT_NULL_MESSAGE));
+        assertThat(Violation.NULL_OR_EMPTY.message(), is(PreCheck.NOT_NULL_OR_EMPTY_MESSAGE));
+        assertThat(Violation.EXPRESSION.message(), is(PreCheck.EXPRESSION_MESSAGE));
+    }
+
+    @Test
+    public void message_parameterName_parameterMessage() {
+
+        assertThat(Violation.BLANK.message("name"),
+                   is("parameter 'name' must not be null or blank!"));
+    }
+
+    @Test
+    public void message_none_throwsException() {
+
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("no violation!");
+        Violation.NONE.message();
+    }
+
+    @Test
+    public void exception_preallocatedWithoutStackTrace() {
+
+        final PreCheckException exception = Violation.NOT_POSITIVE.exception();
+
+        assertSame(exception, Violation.NOT_POSITIVE.exception());
+        assertThat(exception.getMessage(), is("must be positive!"));
+        assertThat(exception.getStackTrace().length, is(0));
+    }
+
+    @Test
+    public void exception_none_throwsException() {
+
+        thrown.expect(IllegalStateException.class);
+        Violation.NONE.exception();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.core.base;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * ViolationsTest Class.
+ *
+ * @author softcake.org
+ */
+public class ViolationsTest {
+
+    private static final String MESSAGE = "This is the error message!";
+
+    @Test
+    public void throwIfAny_allChecksPass_notThrow() {
+
+        Violations violations = Violations.create()
+                                          .notNull(MESSAGE)
+                                          .notNull(MESSAGE, MESSAGE)
+                                          .notNullOrEmpty(MESSAGE)
+                                          .notNullOrEmpty(MESSAGE, MESSAGE)
+                                          .parameterNotNull(MESSAGE, "a")
+                                          .parameterNotNullOrEmpty(MESSAGE, "b")
+                                          .expression(true)
+                                          .expression(true, MESSAGE)
+                                          .expression(true, () -> MESSAGE);
+
+        assertThat(violations.hasViolations(), is(false));
+        assertThat(violations.getViolations().isEmpty(), is(true));
+        violations.throwIfAny();
+    }
+
+    @Test
+    public void throwIfAny_allChecksFail_collectPreCheckMessages() {
+
+        Violations violations = Violations.create()
+                                          .notNull(null)
+                                          .notNull(null, MESSAGE)
+                                          .notNullOrEmpty("")
+                                          .notNullOrEmpty(Collections.emptyList(), MESSAGE)
+                                          .parameterNotNull(null, "a")
+                                          .parameterNotNullOrEmpty(new int[0], "b")
+                                          .expression(false)
+                                          .expression(false, MESSAGE)
+                                          .expression(false, () -> MESSAGE);
+
+        try {
+            violations.throwIfAny();
+            fail("Expected a ViolationsException to be thrown");
+        } catch (final ViolationsException e) {
+            assertThat(e.getViolations(), is(Arrays.asList("must not be null!",
+                                                           MESSAGE,
+                                                           "must not be null or empty!",
+                                                           MESSAGE,
+                                                           "parameter 'a' must not be null!",
+                                                           "parameter 'b' must not be null or "
+                                                           + "empty!",
+                                                           "expression not valid!",
+                                                           MESSAGE,
+                                                           MESSAGE)));
+            assertThat(e.getMessage(), is(String.join("; ", e.getViolations())));
+        }
+
+        assertThat(violations.hasViolations(), is(false));
+    }
+
+    @Test
+    public void throwIfAny_isIllegalArgumentException() {
+
+        try {
+            Violations.create().parameterNotNull(null, "a").throwIfAny();
+            fail("Expected an IllegalArgumentException to be thrown");
+        } catch (final IllegalArgumentException e) {
+            assertThat(e.getMessage(), is("parameter 'a' must not be null!"));
+        }
+    }
+
+    @Test
+    public void forCurrentThread_sameInstanceAfterThrowIfAny() {
+
+        Violations violations = Violations.forCurrentThread().notNull(null);
+        assertThat(violations.hasViolations(), is(true));
+
+        try {
+            violations.throwIfAny();
+            fail("Expected a ViolationsException to be thrown");
+        } catch (final ViolationsException e) {
+            assertThat(e.getViolations().size(), is(1));
+        }
+
+        Violations again = Violations.forCurrentThread();
+        assertSame(violations, again);
+        assertThat(again.hasViolations(), is(false));
+        again.throwIfAny();
+    }
+
+    @Test
+    public void forCurrentThread_nested_keepsOuterViolations() {
+
+        Violations outer = Violations.forCurrentThread().notNull(null);
+
+        Violations inner = Violations.forCurrentThread();
+        assertNotSame(outer, inner);
+        inner.expression(true).throwIfAny();
+
+        assertThat(outer.getViolations(), is(Collections.singletonList("must not be null!")));
+        outer.clear().throwIfAny();
+        assertSame(outer, Violations.forCurrentThread().clear());
+        outer.throwIfAny();
+    }
+
+    @Test
+    public void close_sequenceLeftByException_releasesThreadCollector() {
+
+        Violations outer = null;
+
+        try (Violations violations = Violations.forCurrentThread()) {
+            outer = violations.notNull(null);
+            violations.notNullOrEmpty(new Object());
+            fail("Expected an IllegalArgumentException to be thrown");
+        } catch (final IllegalArgumentException e) {
+            assertThat(e instanceof ViolationsException, is(false));
+        }
+
+        Violations again = Violations.forCurrentThread();
+        assertSame(outer, again);
+        assertThat(again.hasViolations(), is(false));
+        again.close();
+    }
+
+    @Test
+    public void clear_discardsViolations() {
+
+        Violations violations = Violations.create().expression(false);
+        assertThat(violations.getViolations().size(), is(1));
+
+        violations.clear().throwIfAny();
+    }
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.processor;
+
+import org.softcake.cherry.core.annotation.NotEmpty;
+import org.softcake.cherry.core.annotation.NotNull;
+import org.softcake.cherry.core.annotation.Positive;
+import org.softcake.cherry.core.base.PreCheck;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates the checks of parameters annotated with {@link NotNull}, {@link NotEmpty} and
+ * {@link Positive}.
+ *
+ * <p>For every type with annotated parameters a package-private class {@code <Type>PreChecks}
+ * is generated, nested types are joined with an underscore, e.g. {@code Outer_InnerPreChecks}.
+ * It has a static method per method or constructor with annotated parameters, named like the
+ * method or {@code init} for a constructor, which takes the same parameters and is called with
+ * the same arguments at the top of the method:
+ *
+ * <pre>{@code
+ * void place(@NotNull Order order, @Positive int quantity) {
+ *     OrderServicePreChecks.place(order, quantity);
+ *     ...
+ * }
+ * }</pre>
+ *
+ * <p>The generated checks use the real parameter names in their messages, which are the same as
+ * those of {@link PreCheck#parameterNotNull(Object, String)}, {@link
+ * PreCheck#parameterNotNullOrEmpty(Object, String)} and {@link PreCheck#positive(int, String)}.
+ * The emptiness test is chosen from the declared type of the parameter, a type without a known
+ * emptiness test is a compile error, as is {@link Positive} on a non-numeric type.
+ *
+ * @author softcake.org
+ */
+public final class PreCheckProcessor extends AbstractProcessor {
+
+    private static final String SUFFIX = "PreChecks";
+
+    private static final String CONSTRUCTOR_NAME = "init";
+
+    private static final String NOT_NULL_FAILURE = "parameterNullFailure";
+
+    private static final String NOT_NULL_OR_EMPTY_FAILURE = "parameterNullOrEmptyFailure";
+
+    private static final Set<TypeKind> NUMERIC_KINDS = EnumSet.of(TypeKind.BYTE,
+                                                                  TypeKind.SHORT,
+                                                                  TypeKind.INT,
+                                                                  TypeKind.LONG,
+                                                                  TypeKind.FLOAT,
+                                                                  TypeKind.DOUBLE);
+
+    /*
+     * The emptiness tests by declared type, the first type the parameter is assignable to wins.
+     */
+    private static final Map<String, String> EMPTINESS_TESTS = emptinessTests();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+
+        return new HashSet<>(Arrays.asList(NotNull.class.getCanonicalName(),
+                                           NotEmpty.class.getCanonicalName(),
+                                           Positive.class.getCanonicalName()));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations,
+                           final RoundEnvironment roundEnv) {
+
+        final Map<TypeElement, Set<ExecutableElement>> checkedMethods = new LinkedHashMap<>();
+
+        for (final TypeElement annotation : annotations) {
+            for (final Element parameter : roundEnv.getElementsAnnotatedWith(annotation)) {
+                // annotated fields are validated at runtime by the BeanValidator
+                if (parameter.getKind() == ElementKind.PARAMETER) {
+                    final Element method = parameter.getEnclosingElement();
+                    checkedMethods.computeIfAbsent((TypeElement) method.getEnclosingElement(),
+                                                   type -> new LinkedHashSet<>())
+                                  .add((ExecutableElement) method);
+                }
+            }
+        }
+
+        checkedMethods.forEach(this::generate);
+        return true;
+    }
+
+    private void generate(final TypeElement type, final Set<ExecutableElement> methods) {
+
+        final String packageName = processingEnv.getElementUtils()
+                                                .getPackageOf(type)
+                                                .getQualifiedName()
+                                                .toString();
+        final String className = generatedName(type);
+        final StringBuilder source = new StringBuilder();
+        boolean valid = true;
+
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+
+        source.append("/**\n * Parameter checks of {@code ")
+              .append(type.getQualifiedName())
+              .append("}, generated from its annotations.\n */\n")
+              .append("final class ").append(className).append(" {\n\n")
+              .append("    private ").append(className).append("() {\n\n    }\n");
+
+        for (final ExecutableElement method : methods) {
+            valid &= appendMethod(source, method);
+        }
+
+        source.append("}\n");
+
+        if (valid) {
+            write(packageName.isEmpty() ? className : packageName + "." + className, type, source);
+        }
+    }
+
+    private static String generatedName(final TypeElement type) {
+
+        final StringBuilder name = new StringBuilder(type.getSimpleName());
+
+        for (Element enclosing = type.getEnclosingElement();
+             enclosing instanceof TypeElement;
+             enclosing = enclosing.getEnclosingElement()) {
+            name.insert(0, '_').insert(0, enclosing.getSimpleName());
+        }
+
+        return name.append(SUFFIX).toString();
+    }
+
+    private boolean appendMethod(final StringBuilder source, final ExecutableElement method) {
+
+        final String name = method.getKind() == ElementKind.CONSTRUCTOR
+                            ? CONSTRUCTOR_NAME
+                            : method.getSimpleName().toString();
+        final StringBuilder parameters = new StringBuilder();
+        final StringBuilder checks = new StringBuilder();
+        boolean valid = true;
+
+        for (final VariableElement parameter : method.getParameters()) {
+            final TypeMirror type = processingEnv.getTypeUtils().erasure(parameter.asType());
+
+            if (!isAccessible(type)) {
+                valid = error(parameter, "the type " + type + " is not accessible from " + SUFFIX);
+            }
+
+            if (parameters.length() > 0) {
+                parameters.append(", ");
+            }
+
+            parameters.append("final ")
+                      .append(typeName(type))
+                      .append(' ')
+                      .append(parameter.getSimpleName());
+            valid &= appendChecks(checks, parameter, type);
+        }
+
+        source.append("\n    static void ").append(name).append('(').append(parameters)
+              .append(") {\n\n").append(checks).append("    }\n");
+        return valid;
+    }
+
+    /*
+     * The source name of an erased type, generic types get wildcards instead of raw types so the
+     * generated code compiles without rawtypes warnings.
+     */
+    private String typeName(final TypeMirror type) {
+
+        final StringBuilder dimensions = new StringBuilder();
+        TypeMirror componentType = type;
+
+        while (componentType.getKind() == TypeKind.ARRAY) {
+            componentType = ((ArrayType) componentType).getComponentType();
+            dimensions.append("[]");
+        }
+
+        if (componentType.getKind() != TypeKind.DECLARED) {
+            return componentType + dimensions.toString();
+        }
+
+        final TypeElement element = (TypeElement) processingEnv.getTypeUtils()
+                                                               .asElement(componentType);
+        final int typeParameters = element.getTypeParameters().size();
+        final String wildcards = typeParameters == 0
+                                 ? ""
+                                 : "<" + String.join(", ", Collections.nCopies(typeParameters, "?"))
+                                   + ">";
+
+        return element.getQualifiedName() + wildcards + dimensions;
+    }
+
+    private boolean appendChecks(final StringBuilder checks,
+                                 final VariableElement parameter,
+                                 final TypeMirror type) {
+
+        final String name = parameter.getSimpleName().toString();
+        boolean valid = true;
+
+        if (parameter.getAnnotation(NotEmpty.class) != null) {
+            final String emptinessTest = emptinessTest(type);
+
+            if (emptinessTest == null) {
+                valid = error(parameter, "@NotEmpty is not supported for the type " + type);
+            } else {
+                appendThrow(checks,
+                            name + " == null || " + String.format(emptinessTest, name),
+                            name,
+                            NOT_NULL_OR_EMPTY_FAILURE);
+            }
+        } else if (parameter.getAnnotation(NotNull.class) != null) {
+            if (type.getKind().isPrimitive()) {
+                valid = error(parameter, "@NotNull is not supported for the type " + type);
+            } else {
+                appendThrow(checks, name + " == null", name, NOT_NULL_FAILURE);
+            }
+        }
+
+        if (parameter.getAnnotation(Positive.class) != null) {
+            if (NUMERIC_KINDS.contains(type.getKind())) {
+                checks.append("        ").append(PreCheck.class.getName()).append(".positive(")
+                      .append(name).append(", \"").append(name).append("\");\n");
+            } else {
+                valid = error(parameter, "@Positive is not supported for the type " + type);
+            }
+        }
+
+        return valid;
+    }
+
+    private static void appendThrow(final StringBuilder checks,
+                                    final String condition,
+                                    final String name,
+                                    final String failure) {
+
+        // the exception is created by PreCheck, which counts and publishes the failure
+        checks.append("        if (").append(condition).append(") {\n")
+              .append("            throw ").append(PreCheck.class.getName()).append('.')
+              .append(failure).append("(\"").append(name).append("\");\n")
+              .append("        }\n");
+    }
+
+    private String emptinessTest(final TypeMirror type) {
+
+        if (type.getKind() == TypeKind.ARRAY) {
+            return "%s.length == 0";
+        }
+
+        return EMPTINESS_TESTS.entrySet()
+                              .stream()
+                              .filter(test -> isAssignable(type, test.getKey()))
+                              .map(Map.Entry::getValue)
+                              .findFirst()
+                              .orElse(null);
+    }
+
+    private boolean isAssignable(final TypeMirror type, final String typeName) {
+
+        final TypeElement element = processingEnv.getElementUtils().getTypeElement(typeName);
+
+        return processingEnv.getTypeUtils()
+                            .isAssignable(type,
+                                          processingEnv.getTypeUtils().erasure(element.asType()));
+    }
+
+    private boolean isAccessible(final TypeMirror type) {
+
+        TypeMirror componentType = type;
+
+        while (componentType.getKind() == TypeKind.ARRAY) {
+            componentType = ((ArrayType) componentType).getComponentType();
+        }
+
+        for (Element element = processingEnv.getTypeUtils().asElement(componentType);
+             element instanceof TypeElement;
+             element = element.getEnclosingElement()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean error(final Element element, final String message) {
+
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+        return false;
+    }
+
+    private void write(final String qualifiedName,
+                       final TypeElement type,
+                       final CharSequence source) {
+
+        try (Writer writer = processingEnv.getFiler()
+                                          .createSourceFile(qualifiedName, type)
+                                          .openWriter()) {
+            writer.append(source);
+        } catch (final IOException e) {
+            error(type, "unable to write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    private static Map<String, String> emptinessTests() {
+
+        final Map<String, String> tests = new LinkedHashMap<>();
+        tests.put("java.lang.String", "%s.isEmpty()");
+        tests.put("java.lang.CharSequence", "%s.length() == 0");
+        tests.put("java.util.Collection", "%s.isEmpty()");
+        tests.put("java.util.Map", "%s.isEmpty()");
+        tests.put("java.util.Optional", "!%s.isPresent()");
+        tests.put("java.nio.Buffer", "!%s.hasRemaining()");
+        tests.put("java.lang.Iterable", "!%s.iterator().hasNext()");
+        return tests;
+    }
+}
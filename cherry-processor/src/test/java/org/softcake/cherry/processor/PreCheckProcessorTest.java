@@ -0,0 +1,253 @@
+/*
+ * Copyright 2018 softcake.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.softcake.cherry.processor;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+/**
+ * PreCheckProcessorTest Class.
+ *
+ * @author softcake.org
+ */
+public class PreCheckProcessorTest {
+
+    private static final String ORDER_SERVICE = String.join(
+            "\n",
+            "package com.acme;",
+            "import org.softcake.cherry.core.annotation.NotEmpty;",
+            "import org.softcake.cherry.core.annotation.NotNull;",
+            "import org.softcake.cherry.core.annotation.Positive;",
+            "import java.util.List;",
+            "public class OrderService {",
+            "    @NotNull private final Object owner = this;",
+            "    public OrderService(@NotNull String name) {",
+            "        OrderServicePreChecks.init(name);",
+            "    }",
+            "    public <T extends CharSequence> void place(@NotNull Object order,",
+            "                                               @NotEmpty List<String> lines,",
+            "                                               @NotEmpty T[] tags,",
+            "                                               @Positive int quantity,",
+            "                                               long unchecked) {",
+            "        OrderServicePreChecks.place(order, lines, tags, quantity, unchecked);",
+            "    }",
+            "    static class Line {",
+            "        void add(@NotEmpty @NotNull CharSequence text, @Positive float price) {",
+            "            OrderService_LinePreChecks.add(text, price);",
+            "        }",
+            "    }",
+            "}");
+
+    private static final String UNSUPPORTED = String.join(
+            "\n",
+            "package com.acme;",
+            "import org.softcake.cherry.core.annotation.NotEmpty;",
+            "import org.softcake.cherry.core.annotation.NotNull;",
+            "import org.softcake.cherry.core.annotation.Positive;",
+            "public class Unsupported {",
+            "    private static class Hidden {",
+            "    }",
+            "    void check(@NotEmpty Object object,",
+            "               @NotNull int primitive,",
+            "               @Positive Integer boxed,",
+            "               @NotNull Hidden hidden) {",
+            "    }",
+            "}");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File classes;
+
+    private File sources;
+
+    private DiagnosticCollector<JavaFileObject> diagnostics;
+
+    @Before
+    public void setUp() throws IOException {
+
+        classes = folder.newFolder("classes");
+        sources = folder.newFolder("sources");
+        diagnostics = new DiagnosticCollector<>();
+    }
+
+    @Test
+    public void generate_checksWithParameterNames() throws Exception {
+
+        assertThat(compile("com.acme.OrderService", ORDER_SERVICE), is(true));
+
+        String generated = generatedSource("com/acme/OrderServicePreChecks.java");
+        assertThat(generated, containsString("final java.util.List<?> lines"));
+        assertThat(generated, containsString("lines == null || lines.isEmpty()"));
+        assertThat(generated, containsString("tags == null || tags.length == 0"));
+        assertThat(generated, not(containsString("isParamNullOrEmpty")));
+        assertThat(generated, not(containsString("owner")));
+        assertThat(generatedSource("com/acme/OrderService_LinePreChecks.java"),
+                   containsString("text == null || text.length() == 0"));
+    }
+
+    @Test
+    public void generate_checksFail_preCheckMessages() throws Exception {
+
+        assertThat(compile("com.acme.OrderService", ORDER_SERVICE), is(true));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toURI().toURL()},
+                                                        getClass().getClassLoader())) {
+            Class<?> service = loader.loadClass("com.acme.OrderService");
+            Class<?> line = loader.loadClass("com.acme.OrderService$Line");
+            Method place = service.getMethod("place",
+                                             Object.class,
+                                             List.class,
+                                             CharSequence[].class,
+                                             int.class,
+                                             long.class);
+            Object instance = service.getConstructor(String.class).newInstance("service");
+            List<String> lines = Collections.singletonList("line");
+            String[] tags = {"tag"};
+
+            place.invoke(instance, "order", lines, tags, 1, -1L);
+            assertFailure(() -> service.getConstructor(String.class).newInstance((Object) null),
+                          "parameter 'name' must not be null!");
+            assertFailure(() -> place.invoke(instance, null, lines, tags, 1, 0L),
+                          "parameter 'order' must not be null!");
+            List<String> empty = Collections.emptyList();
+            assertFailure(() -> place.invoke(instance, "order", empty, tags, 1, 0L),
+                          "parameter 'lines' must not be null or empty!");
+            assertFailure(() -> place.invoke(instance, "order", lines, new String[0], 1, 0L),
+                          "parameter 'tags' must not be null or empty!");
+            assertFailure(() -> place.invoke(instance, "order", lines, tags, 0, 0L),
+                          "parameter 'quantity' must be positive, but was 0!");
+
+            Method add = line.getDeclaredMethod("add", CharSequence.class, float.class);
+            add.setAccessible(true);
+            Object lineInstance = declaredConstructor(line).newInstance();
+            assertFailure(() -> add.invoke(lineInstance, new StringBuilder(), 1f),
+                          "parameter 'text' must not be null or empty!");
+            assertFailure(() -> add.invoke(lineInstance, "text", -0.5f),
+                          "parameter 'price' must be positive, but was -0.5!");
+        }
+    }
+
+    @Test
+    public void generate_unsupportedParameters_compileErrors() throws Exception {
+
+        assertThat(compile("com.acme.Unsupported", UNSUPPORTED), is(false));
+
+        List<String> errors = diagnostics.getDiagnostics()
+                                         .stream()
+                                         .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                                         .map(d -> d.getMessage(null))
+                                         .collect(Collectors.toList());
+        assertThat(errors, is(Arrays.asList(
+                "@NotEmpty is not supported for the type java.lang.Object",
+                "@NotNull is not supported for the type int",
+                "@Positive is not supported for the type java.lang.Integer",
+                "the type com.acme.Unsupported.Hidden is not accessible from PreChecks")));
+        assertThat(new File(sources, "com/acme/UnsupportedPreChecks.java").exists(), is(false));
+    }
+
+    private boolean compile(final String className, final String source) {
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///"
+                                                                  + className.replace('.', '/')
+                                                                  + ".java"),
+                                                       JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+
+                return source;
+            }
+        };
+        List<String> options = Arrays.asList("-Xlint:all",
+                                             "-Werror",
+                                             "-classpath",
+                                             System.getProperty("java.class.path"),
+                                             "-d",
+                                             classes.getPath(),
+                                             "-s",
+                                             sources.getPath());
+        JavaCompiler.CompilationTask task = compiler.getTask(null,
+                                                             null,
+                                                             diagnostics,
+                                                             options,
+                                                             null,
+                                                             Collections.singletonList(file));
+        task.setProcessors(Collections.singletonList(new PreCheckProcessor()));
+        return task.call();
+    }
+
+    private String generatedSource(final String path) throws IOException {
+
+        return new String(Files.readAllBytes(new File(sources, path).toPath()),
+                          StandardCharsets.UTF_8);
+    }
+
+    private static Constructor<?> declaredConstructor(final Class<?> type)
+            throws NoSuchMethodException {
+
+        Constructor<?> constructor = type.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        return constructor;
+    }
+
+    private static void assertFailure(final Invocation invocation, final String message)
+            throws ReflectiveOperationException {
+
+        try {
+            invocation.invoke();
+            fail("Expected an IllegalArgumentException to be thrown");
+        } catch (final InvocationTargetException e) {
+            assertThat(e.getCause() instanceof IllegalArgumentException, is(true));
+            assertThat(e.getCause().getMessage(), is(message));
+        }
+    }
+
+    private interface Invocation {
+
+        void invoke() throws ReflectiveOperationException;
+    }
+}